@@ -0,0 +1,54 @@
+package com.alps.core.clock;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+
+/**
+ * Provides the current time to time checks such as
+ * {@link com.alps.core.session.Session#isActive(ClockProvider)}. Time is read
+ * as epoch milliseconds, so checks compare primitives against bounds computed
+ * once, without allocating or resolving a time zone on every call.
+ *
+ * Domain times are local date-times interpreted in the system default zone.
+ * Tests can supply a fixed clock as a lambda.
+ */
+@FunctionalInterface
+public interface ClockProvider {
+
+    /**
+     * Gets the current time.
+     *
+     * @return The current time in epoch milliseconds.
+     */
+    long currentTimeMillis();
+
+    /**
+     * Returns a clock reading the system time on every call.
+     *
+     * @return The system clock.
+     */
+    static ClockProvider system() {
+        return System::currentTimeMillis;
+    }
+
+    /**
+     * Converts a local date-time to epoch milliseconds in the system default zone.
+     *
+     * @param time The local date-time.
+     * @return The epoch milliseconds of the time.
+     */
+    static long toEpochMillis(LocalDateTime time) {
+        return time.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+
+    /**
+     * Converts the start of a local date to epoch milliseconds in the system default zone.
+     *
+     * @param date The local date.
+     * @return The epoch milliseconds of the start of the date.
+     */
+    static long toEpochMillis(LocalDate date) {
+        return date.atStartOfDay(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+}
@@ -1,5 +1,8 @@
 package com.alps.core.location;
 
+import java.time.Duration;
+
+import com.alps.core.lock.LockAttempt;
 import com.alps.core.lock.LockProvider;
 
 import lombok.EqualsAndHashCode;
@@ -71,6 +74,24 @@ public class LocationSeat {
                 isAvailable);
     }
 
+    /**
+     * Returns a new LocationSeat instance with the specified availability,
+     * retaining every other property. Unlike {@link #reserve()} and
+     * {@link #release()} this does not validate the current state, and is meant
+     * for callers that track availability elsewhere.
+     * 
+     * @param isAvailable The availability status of the new seat instance.
+     * @return A new LocationSeat instance with the updated availability.
+     */
+    public LocationSeat withAvailability(boolean isAvailable) {
+        return new LocationSeat(
+                seatId,
+                description,
+                location,
+                lockProvider,
+                isAvailable);
+    }
+
     /**
      * Reserves the seat if it is available, making it unavailable.
      * 
@@ -80,21 +101,25 @@ public class LocationSeat {
     public LocationSeat reserve() {
         lockProvider.lock();
         try {
-            if (isAvailable) {
-                return new LocationSeat(
-                        seatId,
-                        description,
-                        location,
-                        lockProvider,
-                        false);
-            } else {
-                throw new IllegalStateException("Seat is already reserved.");
-            }
+            return reserveHeld();
         } finally {
             lockProvider.unlock();
         }
     }
 
+    /**
+     * Reserves the seat if it is available, giving up if the lock cannot be
+     * acquired within the given waiting time.
+     * 
+     * @param timeout The maximum time to wait for the seat's lock.
+     * @return An attempt holding the reserved seat, or a contended attempt if the
+     *         lock was not acquired in time.
+     * @throws IllegalStateException if the seat is already reserved.
+     */
+    public LockAttempt<LocationSeat> reserve(@NonNull Duration timeout) {
+        return LockAttempt.underLock(lockProvider, timeout, () -> LockAttempt.acquired(reserveHeld()));
+    }
+
     /**
      * Releases the seat if it is reserved, making it available again.
      * 
@@ -104,18 +129,48 @@ public class LocationSeat {
     public LocationSeat release() {
         lockProvider.lock();
         try {
-            if (!isAvailable) {
-                return new LocationSeat(
-                        seatId,
-                        description,
-                        location,
-                        lockProvider,
-                        true);
-            } else {
-                throw new IllegalStateException("Seat is already available.");
-            }
+            return releaseHeld();
         } finally {
             lockProvider.unlock();
         }
     }
+
+    /**
+     * Releases the seat if it is reserved, giving up if the lock cannot be
+     * acquired within the given waiting time.
+     * 
+     * @param timeout The maximum time to wait for the seat's lock.
+     * @return An attempt holding the available seat, or a contended attempt if the
+     *         lock was not acquired in time.
+     * @throws IllegalStateException if the seat is already available.
+     */
+    public LockAttempt<LocationSeat> release(@NonNull Duration timeout) {
+        return LockAttempt.underLock(lockProvider, timeout, () -> LockAttempt.acquired(releaseHeld()));
+    }
+
+    private LocationSeat reserveHeld() {
+        if (isAvailable) {
+            return new LocationSeat(
+                    seatId,
+                    description,
+                    location,
+                    lockProvider,
+                    false);
+        } else {
+            throw new IllegalStateException("Seat is already reserved.");
+        }
+    }
+
+    private LocationSeat releaseHeld() {
+        if (!isAvailable) {
+            return new LocationSeat(
+                    seatId,
+                    description,
+                    location,
+                    lockProvider,
+                    true);
+        } else {
+            throw new IllegalStateException("Seat is already available.");
+        }
+    }
 }
\ No newline at end of file
@@ -0,0 +1,103 @@
+package com.alps.core.lock;
+
+import java.time.Duration;
+
+/**
+ * Provides a locking mechanism keyed by an identifier, such as a seat id or a
+ * session id. Operations on different keys may proceed in parallel, while
+ * operations on the same key are mutually exclusive. Implementations may map
+ * several keys to the same underlying lock, in which case unrelated keys can
+ * occasionally contend with each other but correctness is preserved.
+ */
+public interface KeyedLockProvider {
+
+    /**
+     * Acquires the lock associated with the given key.
+     * 
+     * If the lock is not available, the current thread becomes disabled for thread
+     * scheduling purposes and lies dormant until the lock has been acquired.
+     * 
+     * @param key The key identifying the guarded resource.
+     */
+    void lock(String key);
+
+    /**
+     * Acquires the lock associated with the given key only if it is free at the
+     * time of invocation.
+     * 
+     * @param key The key identifying the guarded resource.
+     * @return true if the lock was acquired, false otherwise.
+     */
+    boolean tryLock(String key);
+
+    /**
+     * Acquires the lock associated with the given key if it becomes free within
+     * the given waiting time.
+     * 
+     * @param key     The key identifying the guarded resource.
+     * @param timeout The maximum time to wait for the lock.
+     * @return true if the lock was acquired, false if the waiting time elapsed
+     *         before the lock was acquired.
+     * @throws InterruptedException if the current thread is interrupted while
+     *                              waiting.
+     */
+    boolean tryLock(String key, Duration timeout) throws InterruptedException;
+
+    /**
+     * Releases the lock associated with the given key.
+     * 
+     * If the current thread does not hold the lock, then
+     * {@link IllegalMonitorStateException} is thrown.
+     * 
+     * @param key The key identifying the guarded resource.
+     */
+    void unlock(String key);
+
+    /**
+     * Checks if the lock associated with the given key is currently acquired by
+     * any thread.
+     * 
+     * @param key The key identifying the guarded resource.
+     * @return true if the lock is acquired by any thread, false otherwise.
+     */
+    boolean isLocked(String key);
+
+    /**
+     * Returns a {@link LockProvider} view bound to a single key. This allows a
+     * keyed provider to be handed to components that expect a plain
+     * {@link LockProvider}, such as a {@code LocationSeat} built with its own
+     * seat id.
+     * 
+     * @param key The key the returned provider locks on.
+     * @return A {@link LockProvider} that delegates to this provider for the key.
+     */
+    default LockProvider forKey(String key) {
+        KeyedLockProvider keyedLockProvider = this;
+        return new LockProvider() {
+            @Override
+            public void lock() {
+                keyedLockProvider.lock(key);
+            }
+
+            @Override
+            public boolean tryLock() {
+                return keyedLockProvider.tryLock(key);
+            }
+
+            @Override
+            public boolean tryLock(Duration timeout) throws InterruptedException {
+                return keyedLockProvider.tryLock(key, timeout);
+            }
+
+            @Override
+            public void unlock() {
+                keyedLockProvider.unlock(key);
+            }
+
+            @Override
+            public boolean isLocked() {
+                return keyedLockProvider.isLocked(key);
+            }
+        };
+    }
+}
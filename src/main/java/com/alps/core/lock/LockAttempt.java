@@ -0,0 +1,112 @@
+package com.alps.core.lock;
+
+import java.time.Duration;
+import java.util.function.Supplier;
+
+import lombok.EqualsAndHashCode;
+import lombok.NonNull;
+
+/**
+ * Represents the outcome of an operation that gives up when its lock cannot be
+ * acquired in time. An attempt either carries the result of the operation or
+ * reports that the lock was contended, letting callers fail fast instead of
+ * waiting indefinitely behind a busy resource.
+ *
+ * @param <T> The type of the result produced when the lock was acquired.
+ */
+@EqualsAndHashCode
+public final class LockAttempt<T> {
+
+    private static final LockAttempt<?> CONTENDED = new LockAttempt<>(null);
+
+    private final T value;
+
+    private LockAttempt(T value) {
+        this.value = value;
+    }
+
+    /**
+     * Creates an attempt that acquired its lock and produced a result.
+     *
+     * @param <T>   The type of the result.
+     * @param value The result of the operation.
+     * @return A successful attempt carrying the value.
+     */
+    public static <T> LockAttempt<T> acquired(@NonNull T value) {
+        return new LockAttempt<>(value);
+    }
+
+    /**
+     * Returns the attempt reporting that the lock could not be acquired in time.
+     *
+     * @param <T> The type of the result that was not produced.
+     * @return A contended attempt.
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> LockAttempt<T> contended() {
+        return (LockAttempt<T>) CONTENDED;
+    }
+
+    /**
+     * Runs an action while holding the lock, provided the lock can be acquired
+     * within the given waiting time. If the current thread is interrupted while
+     * waiting, the interrupt status is restored and the attempt is reported as
+     * contended.
+     *
+     * @param <T>          The type of the result.
+     * @param lockProvider The lock guarding the action.
+     * @param timeout      The maximum time to wait for the lock.
+     * @param action       The action to run while holding the lock.
+     * @return The attempt returned by the action, or a contended attempt if the
+     *         lock was not acquired in time.
+     */
+    public static <T> LockAttempt<T> underLock(
+            @NonNull LockProvider lockProvider,
+            @NonNull Duration timeout,
+            @NonNull Supplier<LockAttempt<T>> action) {
+        try {
+            if (!lockProvider.tryLock(timeout)) {
+                return contended();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return contended();
+        }
+        try {
+            return action.get();
+        } finally {
+            lockProvider.unlock();
+        }
+    }
+
+    /**
+     * Checks whether the lock was acquired and the operation completed.
+     *
+     * @return true if a result is present, false if the lock was contended.
+     */
+    public boolean isAcquired() {
+        return value != null;
+    }
+
+    /**
+     * Checks whether the operation gave up because the lock was contended.
+     *
+     * @return true if the lock was not acquired in time, false otherwise.
+     */
+    public boolean isContended() {
+        return value == null;
+    }
+
+    /**
+     * Gets the result of the operation.
+     *
+     * @return The result produced while holding the lock.
+     * @throws IllegalStateException if the lock was contended.
+     */
+    public T get() {
+        if (value == null) {
+            throw new IllegalStateException("The lock was contended.");
+        }
+        return value;
+    }
+}
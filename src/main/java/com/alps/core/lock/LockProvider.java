@@ -1,5 +1,9 @@
 package com.alps.core.lock;
 
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
 /**
  * Provides a locking mechanism interface that can be used to control access to
  * a resource
@@ -18,6 +22,48 @@ public interface LockProvider {
      */
     void lock();
 
+    /**
+     * Acquires the lock only if it is free at the time of invocation.
+     * 
+     * Implementations that cannot acquire the lock without blocking keep the
+     * default, which never acquires it and always reports it as contended, so
+     * that callers bounded by a waiting time give up instead of blocking.
+     * 
+     * @return true if the lock was acquired, false otherwise.
+     */
+    default boolean tryLock() {
+        return false;
+    }
+
+    /**
+     * Acquires the lock if it becomes free within the given waiting time.
+     * 
+     * The default polls {@link #tryLock()} with an exponential backoff until the
+     * waiting time elapses, so it never waits longer than asked for.
+     * 
+     * @param timeout The maximum time to wait for the lock.
+     * @return true if the lock was acquired, false if the waiting time elapsed
+     *         before the lock was acquired.
+     * @throws InterruptedException if the current thread is interrupted while
+     *                              waiting.
+     */
+    default boolean tryLock(Duration timeout) throws InterruptedException {
+        long deadline = System.nanoTime() + timeout.toNanos();
+        long backoff = TimeUnit.MICROSECONDS.toNanos(50);
+        while (!tryLock()) {
+            long remaining = deadline - System.nanoTime();
+            if (remaining <= 0L) {
+                return false;
+            }
+            LockSupport.parkNanos(Math.min(backoff, remaining));
+            backoff = Math.min(backoff << 1, TimeUnit.MILLISECONDS.toNanos(10));
+            if (Thread.interrupted()) {
+                throw new InterruptedException();
+            }
+        }
+        return true;
+    }
+
     /**
      * Releases the lock.
      * 
@@ -0,0 +1,88 @@
+package com.alps.core.lock;
+
+import java.util.function.Supplier;
+
+/**
+ * A {@link LockProvider} that distinguishes readers from writers. Besides the
+ * exclusive {@link #lock()} and {@link #unlock()} inherited from
+ * {@link LockProvider}, which behave as the write lock, it exposes shared read
+ * locks and optimistic read stamps. An optimistic read does not block writers:
+ * the reader takes a stamp, reads, and then validates the stamp, falling back
+ * to a read lock only if a writer intervened.
+ */
+public interface ReadWriteLockProvider extends LockProvider {
+
+    /**
+     * Returns a stamp that can later be validated, or zero if the write lock is
+     * currently held.
+     * 
+     * @return A stamp for an optimistic read, or zero if exclusively locked.
+     */
+    long tryOptimisticRead();
+
+    /**
+     * Checks whether no write lock has been acquired since the given stamp was
+     * issued.
+     * 
+     * @param stamp A stamp returned by this provider.
+     * @return true if the read performed under the stamp is still valid, false
+     *         otherwise.
+     */
+    boolean validate(long stamp);
+
+    /**
+     * Acquires the shared read lock, blocking while the write lock is held.
+     * 
+     * @return A stamp to be passed to {@link #unlockRead(long)}.
+     */
+    long readLock();
+
+    /**
+     * Releases the shared read lock.
+     * 
+     * @param stamp The stamp returned by {@link #readLock()}.
+     * @throws IllegalMonitorStateException if the stamp does not match.
+     */
+    void unlockRead(long stamp);
+
+    /**
+     * Acquires the exclusive write lock, blocking until it is available.
+     * 
+     * @return A stamp to be passed to {@link #unlockWrite(long)}.
+     */
+    long writeLock();
+
+    /**
+     * Releases the exclusive write lock.
+     * 
+     * @param stamp The stamp returned by {@link #writeLock()}.
+     * @throws IllegalMonitorStateException if the stamp does not match.
+     */
+    void unlockWrite(long stamp);
+
+    /**
+     * Runs a reader optimistically and returns its result if no writer
+     * intervened, otherwise runs it again under the read lock. The reader may
+     * observe inconsistent state during the optimistic attempt, so it must be free
+     * of side effects and must not fail on partially updated values.
+     * 
+     * @param <T>    The type of the value read.
+     * @param reader The side-effect free read to perform.
+     * @return The value read from a consistent state.
+     */
+    default <T> T optimisticRead(Supplier<T> reader) {
+        long stamp = tryOptimisticRead();
+        if (stamp != 0L) {
+            T value = reader.get();
+            if (validate(stamp)) {
+                return value;
+            }
+        }
+        stamp = readLock();
+        try {
+            return reader.get();
+        } finally {
+            unlockRead(stamp);
+        }
+    }
+}
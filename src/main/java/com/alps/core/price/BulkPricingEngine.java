@@ -0,0 +1,201 @@
+package com.alps.core.price;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.function.Function;
+
+import com.alps.core.session.SeatInventory;
+import com.alps.core.session.Session;
+
+import lombok.Getter;
+import lombok.NonNull;
+
+/**
+ * Prices many seats at once, such as a whole session after a promotion changes
+ * or a large cart. The seats are split into ranges evaluated in parallel on a
+ * {@link ForkJoinPool}: each range below the threshold is priced sequentially
+ * into its own slots of the result, and range subtotals are combined with
+ * {@link BigDecimal#add(BigDecimal)}, which is exact and associative, so the
+ * total does not depend on how the work was split.
+ *
+ * {@link #priceMinorUnits(FixedPointPrice, long[], long[])} is the fixed-point
+ * counterpart, applying a {@link FixedPointPrice}'s rules to primitive amounts
+ * without allocating per seat.
+ *
+ * Pricing functions and discount rules are called from several threads at once
+ * and must be thread-safe.
+ */
+public class BulkPricingEngine {
+
+    private static final int DEFAULT_THRESHOLD = 1024;
+
+    @Getter
+    private final ForkJoinPool pool;
+    private final int threshold;
+
+    /**
+     * Constructs a BulkPricingEngine on the common pool, pricing ranges of 1024
+     * seats per task.
+     */
+    public BulkPricingEngine() {
+        this(ForkJoinPool.commonPool(), DEFAULT_THRESHOLD);
+    }
+
+    /**
+     * Constructs a BulkPricingEngine.
+     *
+     * @param pool      The pool evaluating the pricing tasks.
+     * @param threshold The number of seats below which a range is priced
+     *                  sequentially instead of being split further.
+     * @throws IllegalArgumentException if the threshold is not positive.
+     */
+    public BulkPricingEngine(@NonNull ForkJoinPool pool, int threshold) {
+        if (threshold <= 0) {
+            throw new IllegalArgumentException("Threshold must be positive");
+        }
+        this.pool = pool;
+        this.threshold = threshold;
+    }
+
+    /**
+     * Prices every seat of a session.
+     *
+     * @param session The session whose seats are priced.
+     * @param pricing Gives the price of a seat, with its discount rules.
+     * @return The final price of every seat, in inventory order, and their total.
+     * @throws NullPointerException if the pricing function returns null.
+     */
+    public BulkPricingResult price(@NonNull Session session, @NonNull Function<String, Price> pricing) {
+        SeatInventory inventory = session.getInventory();
+        String[] seatIds = new String[inventory.capacity()];
+        for (int index = 0; index < seatIds.length; index++) {
+            seatIds[index] = inventory.seatIdAt(index);
+        }
+        return price(seatIds, pricing);
+    }
+
+    /**
+     * Prices a list of seats, such as a cart.
+     *
+     * @param seatIds The ids of the seats to price.
+     * @param pricing Gives the price of a seat, with its discount rules.
+     * @return The final price of every seat, in the given order, and their total.
+     * @throws NullPointerException if the pricing function returns null.
+     */
+    public BulkPricingResult price(@NonNull List<String> seatIds, @NonNull Function<String, Price> pricing) {
+        return price(seatIds.toArray(new String[0]), pricing);
+    }
+
+    /**
+     * Applies the discount rules of a fixed-point price to many amounts, writing
+     * the discounted amounts into the results array.
+     *
+     * @param rules       The price whose discount rules are applied.
+     * @param baseAmounts The amounts in minor units.
+     * @param results     Receives the discounted amounts, at the same positions.
+     * @return The total of the discounted amounts in minor units.
+     * @throws IllegalArgumentException if the results array is shorter than the amounts.
+     * @throws ArithmeticException      if the total overflows a long.
+     */
+    public long priceMinorUnits(@NonNull FixedPointPrice rules, @NonNull long[] baseAmounts, @NonNull long[] results) {
+        if (results.length < baseAmounts.length) {
+            throw new IllegalArgumentException("Results array too short");
+        }
+        return pool.invoke(new FixedPointTask(rules, baseAmounts, results, 0, baseAmounts.length, threshold));
+    }
+
+    private BulkPricingResult price(String[] seatIds, Function<String, Price> pricing) {
+        BigDecimal[] amounts = new BigDecimal[seatIds.length];
+        BigDecimal total = pool.invoke(new PriceTask(seatIds, pricing, amounts, 0, seatIds.length, threshold));
+        return new BulkPricingResult(seatIds, amounts, total);
+    }
+
+    /**
+     * Prices a range of seats, splitting it in halves until it is below the
+     * threshold, and returns the subtotal of the range.
+     */
+    private static final class PriceTask extends RecursiveTask<BigDecimal> {
+        private static final long serialVersionUID = 1L;
+
+        private final String[] seatIds;
+        private final Function<String, Price> pricing;
+        private final BigDecimal[] amounts;
+        private final int from;
+        private final int to;
+        private final int threshold;
+
+        private PriceTask(String[] seatIds, Function<String, Price> pricing, BigDecimal[] amounts,
+                int from, int to, int threshold) {
+            this.seatIds = seatIds;
+            this.pricing = pricing;
+            this.amounts = amounts;
+            this.from = from;
+            this.to = to;
+            this.threshold = threshold;
+        }
+
+        @Override
+        protected BigDecimal compute() {
+            if (to - from <= threshold) {
+                BigDecimal subtotal = BigDecimal.ZERO;
+                for (int i = from; i < to; i++) {
+                    Price price = Objects.requireNonNull(pricing.apply(seatIds[i]), "No price for seat " + seatIds[i]);
+                    amounts[i] = price.calculateFinalPrice();
+                    subtotal = subtotal.add(amounts[i]);
+                }
+                return subtotal;
+            }
+            int middle = (from + to) >>> 1;
+            PriceTask left = new PriceTask(seatIds, pricing, amounts, from, middle, threshold);
+            left.fork();
+            BigDecimal right = new PriceTask(seatIds, pricing, amounts, middle, to, threshold).compute();
+            return left.join().add(right);
+        }
+    }
+
+    /**
+     * Applies fixed-point discount rules to a range of amounts, splitting it in
+     * halves until it is below the threshold, and returns the subtotal of the
+     * range.
+     */
+    private static final class FixedPointTask extends RecursiveTask<Long> {
+        private static final long serialVersionUID = 1L;
+
+        private final FixedPointPrice rules;
+        private final long[] baseAmounts;
+        private final long[] results;
+        private final int from;
+        private final int to;
+        private final int threshold;
+
+        private FixedPointTask(FixedPointPrice rules, long[] baseAmounts, long[] results,
+                int from, int to, int threshold) {
+            this.rules = rules;
+            this.baseAmounts = baseAmounts;
+            this.results = results;
+            this.from = from;
+            this.to = to;
+            this.threshold = threshold;
+        }
+
+        @Override
+        protected Long compute() {
+            if (to - from <= threshold) {
+                long subtotal = 0L;
+                for (int i = from; i < to; i++) {
+                    results[i] = rules.applyTo(baseAmounts[i]);
+                    subtotal = Math.addExact(subtotal, results[i]);
+                }
+                return subtotal;
+            }
+            int middle = (from + to) >>> 1;
+            FixedPointTask left = new FixedPointTask(rules, baseAmounts, results, from, middle, threshold);
+            left.fork();
+            long right = new FixedPointTask(rules, baseAmounts, results, middle, to, threshold).compute();
+            return Math.addExact(left.join(), right);
+        }
+    }
+}
@@ -0,0 +1,48 @@
+package com.alps.core.price;
+
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+
+/**
+ * Represents the outcome of pricing many seats with a {@link BulkPricingEngine}:
+ * the final price of every seat, in the order the seats were given, and their
+ * total.
+ */
+@Getter
+@EqualsAndHashCode
+public class BulkPricingResult {
+    private final List<String> seatIds;
+    private final List<BigDecimal> amounts;
+    private final BigDecimal total;
+
+    BulkPricingResult(String[] seatIds, BigDecimal[] amounts, BigDecimal total) {
+        this.seatIds = Collections.unmodifiableList(Arrays.asList(seatIds));
+        this.amounts = Collections.unmodifiableList(Arrays.asList(amounts));
+        this.total = total;
+    }
+
+    /**
+     * Gets the number of seats priced.
+     *
+     * @return The number of seats.
+     */
+    public int size() {
+        return seatIds.size();
+    }
+
+    /**
+     * Gets the final price of the seat at a position.
+     *
+     * @param index The position of the seat, in the order the seats were given.
+     * @return The final price of the seat.
+     * @throws IndexOutOfBoundsException if the index is out of range.
+     */
+    public BigDecimal amountAt(int index) {
+        return amounts.get(index);
+    }
+}
@@ -0,0 +1,156 @@
+package com.alps.core.price;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+import com.alps.core.clock.ClockProvider;
+
+import lombok.Getter;
+import lombok.NonNull;
+
+/**
+ * Represents a {@link DiscountRule} that only applies to some
+ * {@link PricingContext}s. A rule declares the user tiers, sessions and seat
+ * sections it targets, where an empty set matches any value, and the time
+ * window it is valid in. Declaring the criteria, rather than checking them
+ * inside the rule, lets a {@link DiscountRuleIndex} skip rules that cannot
+ * match.
+ *
+ * Matching rules are applied from the highest priority to the lowest. An
+ * exclusive rule stops the evaluation once applied, so no lower priority rule
+ * is applied after it.
+ */
+@Getter
+public class ConditionalDiscountRule {
+    private final String ruleId;
+    private final DiscountRule rule;
+    private final int priority;
+    private final boolean exclusive;
+    private final Set<String> userTiers;
+    private final Set<String> sessionIds;
+    private final Set<String> sections;
+    private final long validFromMillis;
+    private final long validUntilMillis;
+
+    private ConditionalDiscountRule(
+            String ruleId,
+            DiscountRule rule,
+            int priority,
+            boolean exclusive,
+            Set<String> userTiers,
+            Set<String> sessionIds,
+            Set<String> sections,
+            long validFromMillis,
+            long validUntilMillis) {
+        this.ruleId = ruleId;
+        this.rule = rule;
+        this.priority = priority;
+        this.exclusive = exclusive;
+        this.userTiers = userTiers;
+        this.sessionIds = sessionIds;
+        this.sections = sections;
+        this.validFromMillis = validFromMillis;
+        this.validUntilMillis = validUntilMillis;
+    }
+
+    /**
+     * Factory method to create a rule that applies to every context until
+     * criteria are added.
+     *
+     * @param ruleId   The unique identifier for the rule.
+     * @param rule     The discount applied when the rule matches.
+     * @param priority The priority of the rule, higher priorities being applied first.
+     * @return A new, non-exclusive, ConditionalDiscountRule.
+     */
+    public static ConditionalDiscountRule create(@NonNull String ruleId, @NonNull DiscountRule rule, int priority) {
+        return new ConditionalDiscountRule(ruleId, rule, priority, false,
+                Collections.emptySet(), Collections.emptySet(), Collections.emptySet(),
+                Long.MIN_VALUE, Long.MAX_VALUE);
+    }
+
+    /**
+     * Returns a copy of this rule that only matches the given user tiers.
+     *
+     * @param userTiers The user tiers the rule targets.
+     * @return A new ConditionalDiscountRule with the criterion replaced.
+     */
+    public ConditionalDiscountRule forUserTiers(@NonNull String... userTiers) {
+        return new ConditionalDiscountRule(ruleId, rule, priority, exclusive,
+                setOf(userTiers), sessionIds, sections, validFromMillis, validUntilMillis);
+    }
+
+    /**
+     * Returns a copy of this rule that only matches the given sessions.
+     *
+     * @param sessionIds The ids of the sessions the rule targets.
+     * @return A new ConditionalDiscountRule with the criterion replaced.
+     */
+    public ConditionalDiscountRule forSessions(@NonNull String... sessionIds) {
+        return new ConditionalDiscountRule(ruleId, rule, priority, exclusive,
+                userTiers, setOf(sessionIds), sections, validFromMillis, validUntilMillis);
+    }
+
+    /**
+     * Returns a copy of this rule that only matches seats of the given sections.
+     *
+     * @param sections The seat sections the rule targets.
+     * @return A new ConditionalDiscountRule with the criterion replaced.
+     */
+    public ConditionalDiscountRule forSections(@NonNull String... sections) {
+        return new ConditionalDiscountRule(ruleId, rule, priority, exclusive,
+                userTiers, sessionIds, setOf(sections), validFromMillis, validUntilMillis);
+    }
+
+    /**
+     * Returns a copy of this rule that only matches between two times, in the
+     * system default zone.
+     *
+     * @param from  The first time the rule matches.
+     * @param until The time from which the rule no longer matches.
+     * @return A new ConditionalDiscountRule with the criterion replaced.
+     * @throws IllegalArgumentException if the window ends before it starts.
+     */
+    public ConditionalDiscountRule during(@NonNull LocalDateTime from, @NonNull LocalDateTime until) {
+        if (until.isBefore(from)) {
+            throw new IllegalArgumentException("The validity window must not end before it starts");
+        }
+        return new ConditionalDiscountRule(ruleId, rule, priority, exclusive, userTiers, sessionIds, sections,
+                ClockProvider.toEpochMillis(from), ClockProvider.toEpochMillis(until));
+    }
+
+    /**
+     * Returns a copy of this rule that stops the evaluation of lower priority
+     * rules once applied.
+     *
+     * @return A new, exclusive, ConditionalDiscountRule.
+     */
+    public ConditionalDiscountRule exclusive() {
+        return new ConditionalDiscountRule(ruleId, rule, priority, true,
+                userTiers, sessionIds, sections, validFromMillis, validUntilMillis);
+    }
+
+    /**
+     * Checks if the rule applies to a context.
+     *
+     * @param context The context being priced.
+     * @return true if every criterion of the rule matches the context, false otherwise.
+     */
+    public boolean matches(@NonNull PricingContext context) {
+        return context.getEpochMillis() >= validFromMillis
+                && context.getEpochMillis() < validUntilMillis
+                && matches(sessionIds, context.getSessionId())
+                && matches(sections, context.getSection())
+                && matches(userTiers, context.getUserTier());
+    }
+
+    private static boolean matches(Set<String> accepted, String value) {
+        return accepted.isEmpty() || (value != null && accepted.contains(value));
+    }
+
+    private static Set<String> setOf(String[] values) {
+        return Collections.unmodifiableSet(new LinkedHashSet<>(Arrays.asList(values)));
+    }
+}
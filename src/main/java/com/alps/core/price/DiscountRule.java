@@ -2,6 +2,8 @@ package com.alps.core.price;
 
 import java.math.BigDecimal;
 
+import lombok.NonNull;
+
 /**
  * Represents a rule that can be applied to a Price to calculate a discount.
  */
@@ -13,4 +15,36 @@ public interface DiscountRule {
      * @return The amount after the discount has been applied.
      */
     BigDecimal apply(BigDecimal amount);
+
+    /**
+     * Indicates whether the rule is pure, that is, whether it always returns the
+     * same result for the same amount and depends on nothing else, such as the
+     * time or stock levels. A {@link Price} whose rules are all pure computes its
+     * final price once and caches it.
+     *
+     * @return true if the rule is pure, false otherwise. Rules are not pure by default.
+     */
+    default boolean isPure() {
+        return false;
+    }
+
+    /**
+     * Declares a rule pure, typically a lambda, so that prices using it can be cached.
+     *
+     * @param rule The rule, which must only depend on the amount it is applied to.
+     * @return A pure rule applying the given rule.
+     */
+    static DiscountRule pure(@NonNull DiscountRule rule) {
+        return new DiscountRule() {
+            @Override
+            public BigDecimal apply(BigDecimal amount) {
+                return rule.apply(amount);
+            }
+
+            @Override
+            public boolean isPure() {
+                return true;
+            }
+        };
+    }
 }
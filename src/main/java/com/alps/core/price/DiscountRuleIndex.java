@@ -0,0 +1,216 @@
+package com.alps.core.price;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import lombok.NonNull;
+
+/**
+ * An immutable index of {@link ConditionalDiscountRule}s that finds the rules
+ * applying to a {@link PricingContext} without checking every rule.
+ *
+ * Each rule is filed once, under its most selective criterion: the one of its
+ * sessions, sections or user tiers criteria that lists the fewest values, ties
+ * going to sessions, then sections. A rule without any of these criteria is
+ * filed as unconditional. A lookup reads the unconditional rules and the
+ * buckets of the context's session, section and user tier, which are sorted by
+ * priority and merged, and checks the remaining criteria of these candidates
+ * only. Pricing cost therefore grows with the number of candidate rules rather
+ * than with the size of the index.
+ */
+public final class DiscountRuleIndex {
+
+    private static final int[] NONE = new int[0];
+    private static final Comparator<ConditionalDiscountRule> BY_PRIORITY = Comparator
+            .comparingInt(ConditionalDiscountRule::getPriority).reversed();
+
+    private final ConditionalDiscountRule[] rules;
+    private final int[] unconditional;
+    private final Map<String, int[]> bySession;
+    private final Map<String, int[]> bySection;
+    private final Map<String, int[]> byUserTier;
+
+    private DiscountRuleIndex(ConditionalDiscountRule[] rules) {
+        this.rules = rules;
+        List<Integer> unconditionalRanks = new ArrayList<>();
+        Map<String, List<Integer>> sessionRanks = new HashMap<>();
+        Map<String, List<Integer>> sectionRanks = new HashMap<>();
+        Map<String, List<Integer>> userTierRanks = new HashMap<>();
+
+        for (int rank = 0; rank < rules.length; rank++) {
+            ConditionalDiscountRule rule = rules[rank];
+            Set<String> sessions = rule.getSessionIds();
+            Set<String> sections = rule.getSections();
+            Set<String> userTiers = rule.getUserTiers();
+            if (isMostSelective(sessions, sections, userTiers)) {
+                file(sessionRanks, sessions, rank);
+            } else if (isMostSelective(sections, userTiers, sessions)) {
+                file(sectionRanks, sections, rank);
+            } else if (!userTiers.isEmpty()) {
+                file(userTierRanks, userTiers, rank);
+            } else {
+                unconditionalRanks.add(rank);
+            }
+        }
+
+        this.unconditional = toArray(unconditionalRanks);
+        this.bySession = toArrays(sessionRanks);
+        this.bySection = toArrays(sectionRanks);
+        this.byUserTier = toArrays(userTierRanks);
+    }
+
+    /**
+     * Creates an index of rules.
+     *
+     * @param rules The rules to index. Rules of equal priority are applied in
+     *              the order they are given.
+     * @return A new DiscountRuleIndex.
+     */
+    public static DiscountRuleIndex of(@NonNull Collection<ConditionalDiscountRule> rules) {
+        List<ConditionalDiscountRule> sorted = new ArrayList<>(rules);
+        sorted.sort(BY_PRIORITY);
+        return new DiscountRuleIndex(sorted.toArray(new ConditionalDiscountRule[0]));
+    }
+
+    /**
+     * Gets the number of indexed rules.
+     *
+     * @return The number of rules.
+     */
+    public int size() {
+        return rules.length;
+    }
+
+    /**
+     * Finds the rules to apply to a context, in the order they are applied: by
+     * descending priority, up to and including the first exclusive rule.
+     *
+     * @param context The context being priced.
+     * @return The matching rules.
+     */
+    public List<ConditionalDiscountRule> matching(@NonNull PricingContext context) {
+        List<ConditionalDiscountRule> matching = new ArrayList<>();
+        collect(context, matching);
+        return Collections.unmodifiableList(matching);
+    }
+
+    /**
+     * Applies the matching rules to an amount, by descending priority, stopping
+     * after the first exclusive rule.
+     *
+     * @param amount  The amount before discounts.
+     * @param context The context being priced.
+     * @return The amount after discounts. Unlike {@link Price}, it is not clamped at zero.
+     */
+    public BigDecimal apply(@NonNull BigDecimal amount, @NonNull PricingContext context) {
+        List<ConditionalDiscountRule> matching = new ArrayList<>();
+        collect(context, matching);
+        BigDecimal current = amount;
+        for (ConditionalDiscountRule rule : matching) {
+            current = rule.getRule().apply(current);
+        }
+        return current;
+    }
+
+    /**
+     * Creates a price carrying the rules matching a context.
+     *
+     * @param amount  The amount before discounts.
+     * @param context The context being priced.
+     * @return A new Price with the matching rules added in the order they apply.
+     */
+    public Price price(@NonNull BigDecimal amount, @NonNull PricingContext context) {
+        List<ConditionalDiscountRule> matching = new ArrayList<>();
+        collect(context, matching);
+        Price price = new Price(amount);
+        for (ConditionalDiscountRule rule : matching) {
+            price = price.addDiscountRule(rule.getRule());
+        }
+        return price;
+    }
+
+    /**
+     * Merges the candidate buckets of a context by rank, which is priority
+     * order, keeping the candidates whose criteria all match.
+     */
+    private void collect(PricingContext context, List<ConditionalDiscountRule> matching) {
+        int[] sessions = bucket(bySession, context.getSessionId());
+        int[] sections = bucket(bySection, context.getSection());
+        int[] userTiers = bucket(byUserTier, context.getUserTier());
+        int u = 0;
+        int s = 0;
+        int c = 0;
+        int t = 0;
+        while (true) {
+            int rank = Integer.MAX_VALUE;
+            if (u < unconditional.length) {
+                rank = unconditional[u];
+            }
+            if (s < sessions.length) {
+                rank = Math.min(rank, sessions[s]);
+            }
+            if (c < sections.length) {
+                rank = Math.min(rank, sections[c]);
+            }
+            if (t < userTiers.length) {
+                rank = Math.min(rank, userTiers[t]);
+            }
+            if (rank == Integer.MAX_VALUE) {
+                return;
+            }
+            if (u < unconditional.length && unconditional[u] == rank) {
+                u++;
+            } else if (s < sessions.length && sessions[s] == rank) {
+                s++;
+            } else if (c < sections.length && sections[c] == rank) {
+                c++;
+            } else {
+                t++;
+            }
+
+            ConditionalDiscountRule rule = rules[rank];
+            if (rule.matches(context)) {
+                matching.add(rule);
+                if (rule.isExclusive()) {
+                    return;
+                }
+            }
+        }
+    }
+
+    private static boolean isMostSelective(Set<String> candidate, Set<String> first, Set<String> second) {
+        return !candidate.isEmpty()
+                && (first.isEmpty() || candidate.size() <= first.size())
+                && (second.isEmpty() || candidate.size() <= second.size());
+    }
+
+    private static int[] bucket(Map<String, int[]> buckets, String key) {
+        if (key == null) {
+            return NONE;
+        }
+        return buckets.getOrDefault(key, NONE);
+    }
+
+    private static void file(Map<String, List<Integer>> buckets, Set<String> keys, int rank) {
+        for (String key : keys) {
+            buckets.computeIfAbsent(key, k -> new ArrayList<>()).add(rank);
+        }
+    }
+
+    private static Map<String, int[]> toArrays(Map<String, List<Integer>> buckets) {
+        Map<String, int[]> arrays = new HashMap<>(buckets.size() * 2);
+        buckets.forEach((key, ranks) -> arrays.put(key, toArray(ranks)));
+        return arrays;
+    }
+
+    private static int[] toArray(List<Integer> ranks) {
+        return ranks.stream().mapToInt(Integer::intValue).toArray();
+    }
+}
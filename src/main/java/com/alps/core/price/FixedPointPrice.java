@@ -0,0 +1,233 @@
+package com.alps.core.price;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.Arrays;
+
+import lombok.Getter;
+import lombok.NonNull;
+
+/**
+ * Represents a price as a fixed-point amount: a {@code long} number of minor
+ * units, such as cents, and the scale of the minor unit, such as 2. Discount
+ * rules are {@link LongDiscountRule}s applied in order on primitives, so
+ * computing a final price, or pricing many amounts with
+ * {@link #applyTo(long[], long[])}, does not allocate.
+ *
+ * Conversions from {@link BigDecimal} are exact unless a rounding mode is
+ * given, and conversions to BigDecimal are always exact. Like {@link Price},
+ * final prices are never negative. Arithmetic that overflows a {@code long}
+ * throws {@link ArithmeticException} instead of wrapping.
+ */
+public final class FixedPointPrice {
+    static final long BASIS_POINTS = 10_000L;
+
+    private static final LongDiscountRule[] NO_RULES = new LongDiscountRule[0];
+
+    @Getter
+    private final long amount;
+    @Getter
+    private final int scale;
+    private final LongDiscountRule[] discountRules;
+
+    private FixedPointPrice(long amount, int scale, LongDiscountRule[] discountRules) {
+        this.amount = amount;
+        this.scale = scale;
+        this.discountRules = discountRules;
+    }
+
+    /**
+     * Creates a price from an amount in minor units.
+     *
+     * @param amount The amount in minor units.
+     * @param scale  The number of decimal digits of the minor unit.
+     * @return A new FixedPointPrice without discount rules.
+     * @throws IllegalArgumentException if the scale is negative.
+     */
+    public static FixedPointPrice ofMinorUnits(long amount, int scale) {
+        if (scale < 0) {
+            throw new IllegalArgumentException("Scale must not be negative");
+        }
+        return new FixedPointPrice(amount, scale, NO_RULES);
+    }
+
+    /**
+     * Creates a price from a decimal amount that is exactly representable in the
+     * given scale.
+     *
+     * @param amount The amount.
+     * @param scale  The number of decimal digits of the minor unit.
+     * @return A new FixedPointPrice without discount rules.
+     * @throws ArithmeticException if the amount has more decimal digits than the
+     *                             scale or does not fit in a long.
+     */
+    public static FixedPointPrice of(@NonNull BigDecimal amount, int scale) {
+        return of(amount, scale, RoundingMode.UNNECESSARY);
+    }
+
+    /**
+     * Creates a price from a decimal amount, rounded to the given scale.
+     *
+     * @param amount   The amount.
+     * @param scale    The number of decimal digits of the minor unit.
+     * @param rounding The rounding applied to extra decimal digits.
+     * @return A new FixedPointPrice without discount rules.
+     * @throws ArithmeticException if the rounded amount does not fit in a long, or
+     *                             rounding is needed and the mode is UNNECESSARY.
+     */
+    public static FixedPointPrice of(@NonNull BigDecimal amount, int scale, @NonNull RoundingMode rounding) {
+        return ofMinorUnits(toMinorUnits(amount, scale, rounding), scale);
+    }
+
+    /**
+     * Adds a discount rule to this price.
+     *
+     * @param discountRule The discount rule to be added.
+     * @return A new FixedPointPrice with the added discount rule.
+     */
+    public FixedPointPrice addDiscountRule(@NonNull LongDiscountRule discountRule) {
+        LongDiscountRule[] newDiscountRules = Arrays.copyOf(discountRules, discountRules.length + 1);
+        newDiscountRules[discountRules.length] = discountRule;
+        return new FixedPointPrice(amount, scale, newDiscountRules);
+    }
+
+    /**
+     * Calculates the final price in minor units after applying all the discount rules.
+     *
+     * @return The final amount in minor units, never negative.
+     */
+    public long calculateFinalMinorUnits() {
+        return applyTo(amount);
+    }
+
+    /**
+     * Calculates the final price after applying all the discount rules.
+     *
+     * @return The final price, exactly, with this price's scale.
+     */
+    public BigDecimal calculateFinalPrice() {
+        return BigDecimal.valueOf(calculateFinalMinorUnits(), scale);
+    }
+
+    /**
+     * Applies this price's discount rules to another amount with the same scale.
+     *
+     * @param baseAmount The amount in minor units.
+     * @return The discounted amount in minor units, never negative.
+     */
+    public long applyTo(long baseAmount) {
+        long current = baseAmount;
+        for (LongDiscountRule rule : discountRules) {
+            current = rule.applyAsLong(current);
+        }
+        return Math.max(current, 0L);
+    }
+
+    /**
+     * Applies this price's discount rules to many amounts with the same scale,
+     * without allocating.
+     *
+     * @param baseAmounts The amounts in minor units.
+     * @param results     Receives the discounted amounts, at the same positions.
+     * @throws IllegalArgumentException if the results array is shorter than the amounts.
+     */
+    public void applyTo(@NonNull long[] baseAmounts, @NonNull long[] results) {
+        if (results.length < baseAmounts.length) {
+            throw new IllegalArgumentException("Results array too short");
+        }
+        for (int i = 0; i < baseAmounts.length; i++) {
+            results[i] = applyTo(baseAmounts[i]);
+        }
+    }
+
+    /**
+     * Converts the amount, before discounts, to a decimal.
+     *
+     * @return The amount, exactly, with this price's scale.
+     */
+    public BigDecimal toBigDecimal() {
+        return BigDecimal.valueOf(amount, scale);
+    }
+
+    /**
+     * Converts this price to a {@link Price} with the same amount and the
+     * discount rules adapted by {@link LongDiscountRule#asDiscountRule(int)}.
+     *
+     * @return An equivalent Price.
+     */
+    public Price toPrice() {
+        Price price = new Price(toBigDecimal());
+        for (LongDiscountRule rule : discountRules) {
+            price = price.addDiscountRule(rule.asDiscountRule(scale));
+        }
+        return price;
+    }
+
+    /**
+     * Converts a decimal amount to minor units of the given scale.
+     *
+     * @param amount   The amount.
+     * @param scale    The number of decimal digits of the minor unit.
+     * @param rounding The rounding applied to extra decimal digits.
+     * @return The amount in minor units.
+     * @throws ArithmeticException if the result does not fit in a long, or
+     *                             rounding is needed and the mode is UNNECESSARY.
+     */
+    public static long toMinorUnits(@NonNull BigDecimal amount, int scale, @NonNull RoundingMode rounding) {
+        return amount.setScale(scale, rounding).unscaledValue().longValueExact();
+    }
+
+    /**
+     * Divides two longs, rounding the quotient with the given mode, with the same
+     * results as {@link BigDecimal#divide(BigDecimal, int, RoundingMode)} at scale 0
+     * but without allocating.
+     *
+     * @param dividend The dividend.
+     * @param divisor  The divisor.
+     * @param rounding The rounding applied to the quotient.
+     * @return The rounded quotient.
+     * @throws ArithmeticException if the divisor is zero, or rounding is needed
+     *                             and the mode is UNNECESSARY.
+     */
+    public static long divide(long dividend, long divisor, @NonNull RoundingMode rounding) {
+        if (divisor == 0L) {
+            throw new ArithmeticException("Division by zero");
+        }
+        long quotient = dividend / divisor;
+        long remainder = dividend % divisor;
+        if (remainder == 0L) {
+            return quotient;
+        }
+        int sign = (dividend ^ divisor) < 0L ? -1 : 1;
+        boolean increment;
+        switch (rounding) {
+            case UNNECESSARY:
+                throw new ArithmeticException("Rounding necessary");
+            case DOWN:
+                increment = false;
+                break;
+            case UP:
+                increment = true;
+                break;
+            case FLOOR:
+                increment = sign < 0;
+                break;
+            case CEILING:
+                increment = sign > 0;
+                break;
+            default:
+                long absRemainder = Math.abs(remainder);
+                int half = Long.compare(absRemainder, Math.abs(divisor) - absRemainder);
+                if (half != 0) {
+                    increment = half > 0;
+                } else if (rounding == RoundingMode.HALF_UP) {
+                    increment = true;
+                } else if (rounding == RoundingMode.HALF_DOWN) {
+                    increment = false;
+                } else {
+                    increment = (quotient & 1L) != 0L;
+                }
+        }
+        return increment ? quotient + sign : quotient;
+    }
+}
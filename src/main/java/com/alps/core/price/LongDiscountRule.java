@@ -0,0 +1,96 @@
+package com.alps.core.price;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+import lombok.NonNull;
+
+/**
+ * Represents a discount rule working on fixed-point amounts, expressed as a
+ * {@code long} number of minor units such as cents. It is the allocation-free
+ * counterpart of {@link DiscountRule}, applied by {@link FixedPointPrice}.
+ */
+@FunctionalInterface
+public interface LongDiscountRule {
+    /**
+     * Applies the discount rule to a given amount.
+     *
+     * @param amount The amount in minor units before the discount is applied.
+     * @return The amount in minor units after the discount has been applied.
+     */
+    long applyAsLong(long amount);
+
+    /**
+     * Indicates whether the rule is pure, as defined by {@link DiscountRule#isPure()}.
+     *
+     * @return true if the rule is pure, false otherwise. Rules are not pure by default.
+     */
+    default boolean isPure() {
+        return false;
+    }
+
+    /**
+     * Adapts this rule to a {@link DiscountRule} working on amounts with the given
+     * scale. Amounts are converted to minor units with {@link RoundingMode#HALF_EVEN}
+     * and back exactly, and the adapted rule is pure if this rule is.
+     *
+     * @param scale The number of decimal digits of the minor unit.
+     * @return A DiscountRule applying this rule.
+     */
+    default DiscountRule asDiscountRule(int scale) {
+        LongDiscountRule rule = this;
+        DiscountRule adapted = amount -> BigDecimal.valueOf(
+                rule.applyAsLong(FixedPointPrice.toMinorUnits(amount, scale, RoundingMode.HALF_EVEN)), scale);
+        return isPure() ? DiscountRule.pure(adapted) : adapted;
+    }
+
+    /**
+     * Declares a rule pure, typically a lambda.
+     *
+     * @param rule The rule, which must only depend on the amount it is applied to.
+     * @return A pure rule applying the given rule.
+     */
+    static LongDiscountRule pure(@NonNull LongDiscountRule rule) {
+        return new LongDiscountRule() {
+            @Override
+            public long applyAsLong(long amount) {
+                return rule.applyAsLong(amount);
+            }
+
+            @Override
+            public boolean isPure() {
+                return true;
+            }
+        };
+    }
+
+    /**
+     * Creates a rule taking a fixed number of minor units off the amount.
+     *
+     * @param discount The discount in minor units.
+     * @return A pure rule subtracting the discount.
+     * @throws ArithmeticException when applied, if the result overflows.
+     */
+    static LongDiscountRule amountOff(long discount) {
+        return pure(amount -> Math.subtractExact(amount, discount));
+    }
+
+    /**
+     * Creates a rule taking a percentage off the amount, expressed in basis
+     * points, so 1250 takes 12.5% off. The discounted amount is rounded to a
+     * whole minor unit with the given rounding mode.
+     *
+     * @param basisPoints The discount in hundredths of a percent, between 0 and 10000.
+     * @param rounding    The rounding applied to the discounted amount.
+     * @return A pure rule applying the percentage.
+     * @throws IllegalArgumentException if the basis points are out of range.
+     */
+    static LongDiscountRule percentOff(long basisPoints, @NonNull RoundingMode rounding) {
+        if (basisPoints < 0 || basisPoints > FixedPointPrice.BASIS_POINTS) {
+            throw new IllegalArgumentException("Basis points must be between 0 and 10000");
+        }
+        long remaining = FixedPointPrice.BASIS_POINTS - basisPoints;
+        return pure(amount -> FixedPointPrice.divide(
+                Math.multiplyExact(amount, remaining), FixedPointPrice.BASIS_POINTS, rounding));
+    }
+}
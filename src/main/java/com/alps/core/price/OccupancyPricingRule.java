@@ -0,0 +1,206 @@
+package com.alps.core.price;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+import java.util.function.DoubleUnaryOperator;
+
+import com.alps.core.session.OccupancyGauge;
+
+import lombok.NonNull;
+
+/**
+ * A {@link DiscountRule} that scales amounts with the occupancy of a session,
+ * so prices rise as it fills up. Occupancy is divided into equal bands and the
+ * multiplier of every band is computed once, from either steps or a curve, with
+ * four decimal digits. Applying the rule reads the session's
+ * {@link OccupancyGauge} and multiplies by the multiplier of the current band.
+ * For a fixed base amount, {@link #tableFor(BigDecimal)} precomputes the price
+ * of every band, so quoting is a table lookup.
+ *
+ * The rule depends on the live occupancy, so it is not pure and prices using
+ * it are never cached.
+ */
+public final class OccupancyPricingRule implements DiscountRule {
+
+    private static final int MULTIPLIER_SCALE = 4;
+    private static final int PERCENT_BANDS = 100;
+
+    private final OccupancyGauge gauge;
+    private final BigDecimal[] multipliers;
+    private final long[] multiplierBasisPoints;
+
+    private OccupancyPricingRule(OccupancyGauge gauge, BigDecimal[] multipliers) {
+        this.gauge = gauge;
+        this.multipliers = multipliers;
+        this.multiplierBasisPoints = new long[multipliers.length];
+        for (int band = 0; band < multipliers.length; band++) {
+            multiplierBasisPoints[band] = multipliers[band].unscaledValue().longValueExact();
+        }
+    }
+
+    /**
+     * Creates a rule whose multiplier changes in steps. Occupancy is divided
+     * into 100 bands of one percent, and each band uses the multiplier of the
+     * highest step at or below it.
+     *
+     * @param gauge                  The occupancy of the session.
+     * @param multipliersFromPercent The multiplier applying from each occupancy
+     *                               percent, which must include a step at 0.
+     * @return A new OccupancyPricingRule.
+     * @throws IllegalArgumentException if there is no step at 0, a step is
+     *                                  outside 0 to 99, or a multiplier is negative.
+     * @throws ArithmeticException      if a multiplier has more than four decimal digits.
+     */
+    public static OccupancyPricingRule steps(
+            @NonNull OccupancyGauge gauge,
+            @NonNull Map<Integer, BigDecimal> multipliersFromPercent) {
+        NavigableMap<Integer, BigDecimal> steps = new TreeMap<>(multipliersFromPercent);
+        if (!steps.containsKey(0)) {
+            throw new IllegalArgumentException("A step must start at 0");
+        }
+        if (steps.lastKey() >= PERCENT_BANDS) {
+            throw new IllegalArgumentException("Steps must be between 0 and 99");
+        }
+        BigDecimal[] multipliers = new BigDecimal[PERCENT_BANDS];
+        for (int band = 0; band < PERCENT_BANDS; band++) {
+            multipliers[band] = multiplier(steps.floorEntry(band).getValue().setScale(MULTIPLIER_SCALE));
+        }
+        return new OccupancyPricingRule(gauge, multipliers);
+    }
+
+    /**
+     * Creates a rule whose multiplier follows a curve. Occupancy is divided into
+     * the given number of bands, and each band uses the value of the curve at
+     * the lowest occupancy of the band, rounded half-even to four decimal digits.
+     *
+     * @param gauge The occupancy of the session.
+     * @param bands The number of occupancy bands.
+     * @param curve Maps an occupancy from 0 to 1 to a multiplier.
+     * @return A new OccupancyPricingRule.
+     * @throws IllegalArgumentException if the number of bands is not positive or
+     *                                  the curve gives a negative or non-finite multiplier.
+     */
+    public static OccupancyPricingRule curve(
+            @NonNull OccupancyGauge gauge,
+            int bands,
+            @NonNull DoubleUnaryOperator curve) {
+        if (bands <= 0) {
+            throw new IllegalArgumentException("Bands must be positive");
+        }
+        BigDecimal[] multipliers = new BigDecimal[bands];
+        for (int band = 0; band < bands; band++) {
+            double value = curve.applyAsDouble((double) band / bands);
+            if (!Double.isFinite(value)) {
+                throw new IllegalArgumentException("Multipliers must be finite");
+            }
+            multipliers[band] = multiplier(BigDecimal.valueOf(value).setScale(MULTIPLIER_SCALE, RoundingMode.HALF_EVEN));
+        }
+        return new OccupancyPricingRule(gauge, multipliers);
+    }
+
+    /**
+     * Multiplies the amount by the multiplier of the current occupancy band. The
+     * result keeps the scale of the amount and is rounded half-even.
+     */
+    @Override
+    public BigDecimal apply(BigDecimal amount) {
+        return amount.multiply(currentMultiplier()).setScale(amount.scale(), RoundingMode.HALF_EVEN);
+    }
+
+    /**
+     * Gets the number of occupancy bands.
+     *
+     * @return The number of bands.
+     */
+    public int bands() {
+        return multipliers.length;
+    }
+
+    /**
+     * Gets the multiplier of an occupancy band.
+     *
+     * @param band The band.
+     * @return The multiplier, with four decimal digits.
+     * @throws ArrayIndexOutOfBoundsException if the band is out of range.
+     */
+    public BigDecimal multiplierAt(int band) {
+        return multipliers[band];
+    }
+
+    /**
+     * Gets the multiplier of the band the session is currently in.
+     *
+     * @return The multiplier, with four decimal digits.
+     */
+    public BigDecimal currentMultiplier() {
+        return multipliers[gauge.band(multipliers.length)];
+    }
+
+    /**
+     * Adapts this rule to amounts in minor units. The result is rounded half-even
+     * to a whole minor unit.
+     *
+     * @return A LongDiscountRule applying the multiplier of the current band.
+     */
+    public LongDiscountRule asLongDiscountRule() {
+        return amount -> FixedPointPrice.divide(
+                Math.multiplyExact(amount, multiplierBasisPoints[gauge.band(multiplierBasisPoints.length)]),
+                FixedPointPrice.BASIS_POINTS,
+                RoundingMode.HALF_EVEN);
+    }
+
+    /**
+     * Precomputes the price of a base amount in every occupancy band.
+     *
+     * @param base The amount before the rule is applied.
+     * @return A table quoting the base amount at the current occupancy.
+     */
+    public PriceTable tableFor(@NonNull BigDecimal base) {
+        BigDecimal[] prices = new BigDecimal[multipliers.length];
+        for (int band = 0; band < prices.length; band++) {
+            prices[band] = base.multiply(multipliers[band]).setScale(base.scale(), RoundingMode.HALF_EVEN);
+        }
+        return new PriceTable(prices);
+    }
+
+    private static BigDecimal multiplier(BigDecimal multiplier) {
+        if (multiplier.signum() < 0) {
+            throw new IllegalArgumentException("Multipliers must not be negative");
+        }
+        return multiplier;
+    }
+
+    /**
+     * The prices of a base amount in every occupancy band of a rule.
+     */
+    public final class PriceTable {
+        private final BigDecimal[] prices;
+
+        private PriceTable(BigDecimal[] prices) {
+            this.prices = prices;
+        }
+
+        /**
+         * Gets the price at the current occupancy of the session.
+         *
+         * @return The price of the current band.
+         */
+        public BigDecimal quote() {
+            return prices[gauge.band(prices.length)];
+        }
+
+        /**
+         * Gets the price of an occupancy band.
+         *
+         * @param band The band.
+         * @return The price of the band.
+         * @throws ArrayIndexOutOfBoundsException if the band is out of range.
+         */
+        public BigDecimal priceAt(int band) {
+            return prices[band];
+        }
+    }
+}
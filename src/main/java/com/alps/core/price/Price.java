@@ -1,19 +1,25 @@
 package com.alps.core.price;
 
 import java.math.BigDecimal;
-import java.util.ArrayList;
-import java.util.List;
-import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.Arrays;
 
 /**
  * Represents the price of an item, which can be a reservation or a ticket
  * associated with a seat.
  * This class allows for the application of various discount rules to compute a
  * final price.
+ *
+ * The discount rules are kept in a flat array that is applied in order. When
+ * every rule is {@link DiscountRule#isPure() pure}, the final price is computed
+ * on first use and cached, since a Price never changes.
  */
 public class Price {
+    private static final DiscountRule[] NO_RULES = new DiscountRule[0];
+
     private final BigDecimal amount;
-    private final List<DiscountRule> discountRules;
+    private final DiscountRule[] discountRules;
+    private final boolean pure;
+    private volatile BigDecimal finalPrice;
 
     /**
      * Constructs a Price object with an initial amount.
@@ -21,20 +27,24 @@ public class Price {
      * @param amount The initial price amount without any discounts applied.
      */
     public Price(BigDecimal amount) {
-        this.amount = amount;
-        this.discountRules = new CopyOnWriteArrayList<>();
+        this(amount, NO_RULES);
     }
 
     /**
-     * Constructs a Price object with an initial amount and a list of discount
+     * Constructs a Price object with an initial amount and an array of discount
      * rules.
      *
      * @param amount        The initial price amount without any discounts applied.
-     * @param discountRules The list of discount rules to be applied to this price.
+     * @param discountRules The discount rules to be applied to this price, in order.
      */
-    private Price(BigDecimal amount, List<DiscountRule> discountRules) {
+    private Price(BigDecimal amount, DiscountRule[] discountRules) {
         this.amount = amount;
         this.discountRules = discountRules;
+        boolean allPure = true;
+        for (DiscountRule rule : discountRules) {
+            allPure &= rule.isPure();
+        }
+        this.pure = allPure;
     }
 
     /**
@@ -44,21 +54,35 @@ public class Price {
      * @return A new Price object with the added discount rule.
      */
     public Price addDiscountRule(DiscountRule discountRule) {
-        List<DiscountRule> newDiscountRules = new ArrayList<>(this.discountRules);
-        newDiscountRules.add(discountRule);
+        DiscountRule[] newDiscountRules = Arrays.copyOf(this.discountRules, this.discountRules.length + 1);
+        newDiscountRules[this.discountRules.length] = discountRule;
         return new Price(this.amount, newDiscountRules);
     }
 
     /**
-     * Calculates the final price after applying all the discount rules.
+     * Calculates the final price after applying all the discount rules in the
+     * order they were added. The result is cached when every rule is pure.
      *
      * @return The final price after discounts have been applied. This value is
      *         guaranteed to be non-negative.
      */
     public BigDecimal calculateFinalPrice() {
-        BigDecimal finalPrice = discountRules.stream()
-                .reduce(amount, (currentPrice, rule) -> rule.apply(currentPrice), BigDecimal::add);
-        return finalPrice.compareTo(BigDecimal.ZERO) >= 0 ? finalPrice : BigDecimal.ZERO;
+        BigDecimal cached = finalPrice;
+        if (cached != null) {
+            return cached;
+        }
+        BigDecimal computed = applyRules();
+        if (pure) {
+            finalPrice = computed;
+        }
+        return computed;
+    }
 
+    private BigDecimal applyRules() {
+        BigDecimal currentPrice = amount;
+        for (DiscountRule rule : discountRules) {
+            currentPrice = rule.apply(currentPrice);
+        }
+        return currentPrice.compareTo(BigDecimal.ZERO) >= 0 ? currentPrice : BigDecimal.ZERO;
     }
 }
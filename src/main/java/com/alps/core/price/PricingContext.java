@@ -0,0 +1,81 @@
+package com.alps.core.price;
+
+import java.time.LocalDateTime;
+
+import com.alps.core.clock.ClockProvider;
+
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NonNull;
+
+/**
+ * Represents what a price is computed for: who is buying, which seat of which
+ * session, and when. {@link ConditionalDiscountRule}s are matched against it.
+ */
+@Getter
+@EqualsAndHashCode
+public class PricingContext {
+    private final String userId;
+    private final String userTier;
+    private final String sessionId;
+    private final String seatId;
+    private final String section;
+    private final long epochMillis;
+
+    private PricingContext(
+            String userId,
+            String userTier,
+            String sessionId,
+            String seatId,
+            String section,
+            long epochMillis) {
+        this.userId = userId;
+        this.userTier = userTier;
+        this.sessionId = sessionId;
+        this.seatId = seatId;
+        this.section = section;
+        this.epochMillis = epochMillis;
+    }
+
+    /**
+     * Factory method to create a new instance of PricingContext.
+     *
+     * @param userId      The id of the user buying the seat.
+     * @param userTier    The tier of the user, or null if the user has none.
+     * @param sessionId   The id of the session.
+     * @param seatId      The id of the seat.
+     * @param section     The section of the seat, or null if it has none.
+     * @param epochMillis The time the price applies at, in epoch milliseconds.
+     * @return A new instance of PricingContext.
+     */
+    public static PricingContext create(
+            @NonNull String userId,
+            String userTier,
+            @NonNull String sessionId,
+            @NonNull String seatId,
+            String section,
+            long epochMillis) {
+        return new PricingContext(userId, userTier, sessionId, seatId, section, epochMillis);
+    }
+
+    /**
+     * Factory method to create a new instance of PricingContext at a local time.
+     *
+     * @param userId    The id of the user buying the seat.
+     * @param userTier  The tier of the user, or null if the user has none.
+     * @param sessionId The id of the session.
+     * @param seatId    The id of the seat.
+     * @param section   The section of the seat, or null if it has none.
+     * @param time      The time the price applies at, in the system default zone.
+     * @return A new instance of PricingContext.
+     */
+    public static PricingContext create(
+            @NonNull String userId,
+            String userTier,
+            @NonNull String sessionId,
+            @NonNull String seatId,
+            String section,
+            @NonNull LocalDateTime time) {
+        return create(userId, userTier, sessionId, seatId, section, ClockProvider.toEpochMillis(time));
+    }
+}
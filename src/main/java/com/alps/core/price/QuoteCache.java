@@ -0,0 +1,394 @@
+package com.alps.core.price;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+import com.alps.core.clock.ClockProvider;
+
+import lombok.NonNull;
+
+/**
+ * A bounded cache of quotes, keyed by session, seat category and rule-set
+ * version, so that repeated requests for the same quote do not run the
+ * {@link Price} rule chain again.
+ *
+ * Size is bounded with W-TinyLFU. New quotes enter a small LRU window. A quote
+ * leaving the window is admitted to the main LRU region only if a frequency
+ * sketch of recent lookups estimates it more popular than the quote it would
+ * evict, so bursts of one-off quotes do not flush the popular ones. The sketch
+ * halves its counters periodically to follow changes in popularity. Quotes
+ * also expire after a fixed time to live, measured with a {@link ClockProvider}.
+ *
+ * When a promotion changes, raising the version floor of a session, or of every
+ * session, atomically hides every quote computed with an older rule set: once
+ * {@link #invalidateBefore(String, long)} returns, no lookup finds such a quote,
+ * and quotes still being computed with it are rejected when they are put.
+ * Session floors are dropped once the global floor reaches them, and
+ * {@link #forgetSession(String)} drops the floor and quotes of a session that
+ * has ended.
+ *
+ * The cache is thread-safe. Lookups and updates of the regions are serialized
+ * on the cache, and loaders run outside of it, so concurrent misses on the same
+ * key may each compute the quote.
+ */
+public class QuoteCache {
+
+    private static final int WINDOW_PERCENT = 1;
+
+    private final int windowCapacity;
+    private final int mainCapacity;
+    private final long ttlMillis;
+    private final ClockProvider clock;
+    private final LinkedHashMap<QuoteKey, Entry> window = new LinkedHashMap<>(16, 0.75f, true);
+    private final LinkedHashMap<QuoteKey, Entry> main = new LinkedHashMap<>(16, 0.75f, true);
+    private final FrequencySketch sketch;
+    private final AtomicLong versionFloor = new AtomicLong(Long.MIN_VALUE);
+    private final Map<String, Long> sessionFloors = new ConcurrentHashMap<>();
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+    private final LongAdder expirations = new LongAdder();
+    private final LongAdder invalidations = new LongAdder();
+    private final LongAdder rejectedPuts = new LongAdder();
+
+    /**
+     * Represents a cached quote and the time it expires at.
+     */
+    private static final class Entry {
+        private final BigDecimal quote;
+        private final long expiresAtMillis;
+
+        private Entry(BigDecimal quote, long expiresAtMillis) {
+            this.quote = quote;
+            this.expiresAtMillis = expiresAtMillis;
+        }
+    }
+
+    /**
+     * Constructs a QuoteCache measuring time with the system clock.
+     *
+     * @param maximumSize The maximum number of quotes kept.
+     * @param ttl         How long a quote is kept after it is put.
+     * @throws IllegalArgumentException if the size or the time to live is not positive.
+     */
+    public QuoteCache(int maximumSize, @NonNull Duration ttl) {
+        this(maximumSize, ttl, ClockProvider.system());
+    }
+
+    /**
+     * Constructs a QuoteCache.
+     *
+     * @param maximumSize The maximum number of quotes kept.
+     * @param ttl         How long a quote is kept after it is put.
+     * @param clock       The clock measuring the time to live.
+     * @throws IllegalArgumentException if the size or the time to live is not positive.
+     */
+    public QuoteCache(int maximumSize, @NonNull Duration ttl, @NonNull ClockProvider clock) {
+        if (maximumSize <= 0) {
+            throw new IllegalArgumentException("Maximum size must be positive");
+        }
+        if (ttl.isNegative() || ttl.isZero()) {
+            throw new IllegalArgumentException("Time to live must be positive");
+        }
+        this.windowCapacity = Math.max(1, maximumSize * WINDOW_PERCENT / 100);
+        this.mainCapacity = maximumSize - windowCapacity;
+        this.ttlMillis = ttl.toMillis();
+        this.clock = clock;
+        this.sketch = new FrequencySketch(maximumSize);
+    }
+
+    /**
+     * Looks a quote up.
+     *
+     * @param key The key of the quote.
+     * @return The cached quote, or an empty optional if it is missing, expired or
+     *         was computed with an invalidated rule set.
+     */
+    public Optional<BigDecimal> get(@NonNull QuoteKey key) {
+        if (isStale(key)) {
+            misses.increment();
+            return Optional.empty();
+        }
+        long now = clock.currentTimeMillis();
+        synchronized (this) {
+            sketch.increment(key.hashCode());
+            Entry entry = window.get(key);
+            if (entry == null) {
+                entry = main.get(key);
+            }
+            if (entry != null && entry.expiresAtMillis <= now) {
+                remove(key);
+                expirations.increment();
+                entry = null;
+            }
+            if (entry == null) {
+                misses.increment();
+                return Optional.empty();
+            }
+            hits.increment();
+            return Optional.of(entry.quote);
+        }
+    }
+
+    /**
+     * Looks a quote up, computing and caching it if it is missing.
+     *
+     * @param key    The key of the quote.
+     * @param loader Computes the quote on a miss, outside of the cache's lock.
+     * @return The cached or computed quote.
+     * @throws NullPointerException if the loader returns null.
+     */
+    public BigDecimal get(@NonNull QuoteKey key, @NonNull Function<QuoteKey, BigDecimal> loader) {
+        Optional<BigDecimal> cached = get(key);
+        if (cached.isPresent()) {
+            return cached.get();
+        }
+        BigDecimal quote = Objects.requireNonNull(loader.apply(key), "The loader returned no quote");
+        put(key, quote);
+        return quote;
+    }
+
+    /**
+     * Caches a quote, replacing any quote cached for the same key.
+     *
+     * @param key   The key of the quote.
+     * @param quote The quote.
+     * @return true if the quote was cached, false if its rule-set version has
+     *         been invalidated.
+     */
+    public boolean put(@NonNull QuoteKey key, @NonNull BigDecimal quote) {
+        Entry entry = new Entry(quote, clock.currentTimeMillis() + ttlMillis);
+        synchronized (this) {
+            if (isStale(key)) {
+                rejectedPuts.increment();
+                return false;
+            }
+            if (window.containsKey(key)) {
+                window.put(key, entry);
+                return true;
+            }
+            if (main.containsKey(key)) {
+                main.put(key, entry);
+                return true;
+            }
+            sketch.increment(key.hashCode());
+            window.put(key, entry);
+            if (window.size() > windowCapacity) {
+                Map.Entry<QuoteKey, Entry> candidate = removeEldest(window);
+                admit(candidate.getKey(), candidate.getValue());
+            }
+            return true;
+        }
+    }
+
+    /**
+     * Invalidates the quotes of every session computed with a rule-set version
+     * older than the given one. Quotes with older versions are no longer found,
+     * nor accepted, once this method returns.
+     *
+     * @param version The oldest rule-set version still valid.
+     */
+    public void invalidateBefore(long version) {
+        long floor = versionFloor.accumulateAndGet(version, Math::max);
+        for (Map.Entry<String, Long> sessionFloor : sessionFloors.entrySet()) {
+            if (sessionFloor.getValue() <= floor) {
+                sessionFloors.remove(sessionFloor.getKey(), sessionFloor.getValue());
+            }
+        }
+        purgeStale();
+    }
+
+    /**
+     * Invalidates the quotes of a session computed with a rule-set version older
+     * than the given one. Quotes with older versions are no longer found, nor
+     * accepted, once this method returns.
+     *
+     * @param sessionId The id of the session.
+     * @param version   The oldest rule-set version still valid for the session.
+     */
+    public void invalidateBefore(@NonNull String sessionId, long version) {
+        sessionFloors.compute(sessionId, (id, floor) -> {
+            long raised = floor == null ? version : Math.max(floor, version);
+            return raised <= versionFloor.get() ? null : raised;
+        });
+        purgeStale();
+    }
+
+    /**
+     * Forgets a session that has ended, dropping its version floor and every
+     * quote cached for it.
+     *
+     * @param sessionId The id of the session.
+     */
+    public void forgetSession(@NonNull String sessionId) {
+        synchronized (this) {
+            window.keySet().removeIf(key -> key.getSessionId().equals(sessionId));
+            main.keySet().removeIf(key -> key.getSessionId().equals(sessionId));
+        }
+        sessionFloors.remove(sessionId);
+    }
+
+    /**
+     * Gets the number of cached quotes, including expired quotes not yet removed.
+     *
+     * @return The number of quotes.
+     */
+    public synchronized int size() {
+        return window.size() + main.size();
+    }
+
+    /**
+     * Gets the number of sessions with a version floor of their own.
+     *
+     * @return The number of session floors kept.
+     */
+    int sessionFloorCount() {
+        return sessionFloors.size();
+    }
+
+    /**
+     * Gets a snapshot of the cache's counters.
+     *
+     * @return The current statistics.
+     */
+    public QuoteCacheStats stats() {
+        return new QuoteCacheStats(
+                hits.sum(),
+                misses.sum(),
+                evictions.sum(),
+                expirations.sum(),
+                invalidations.sum(),
+                rejectedPuts.sum());
+    }
+
+    private boolean isStale(QuoteKey key) {
+        long version = key.getRuleSetVersion();
+        if (version < versionFloor.get()) {
+            return true;
+        }
+        Long sessionFloor = sessionFloors.get(key.getSessionId());
+        return sessionFloor != null && version < sessionFloor;
+    }
+
+    /**
+     * Moves a quote leaving the window to the main region, if there is room or
+     * the sketch estimates it more popular than the main region's LRU quote.
+     * Must be called while holding the cache's lock.
+     */
+    private void admit(QuoteKey key, Entry entry) {
+        if (main.size() < mainCapacity) {
+            main.put(key, entry);
+            return;
+        }
+        Iterator<Map.Entry<QuoteKey, Entry>> iterator = main.entrySet().iterator();
+        if (!iterator.hasNext()) {
+            evictions.increment();
+            return;
+        }
+        Map.Entry<QuoteKey, Entry> victim = iterator.next();
+        if (victim.getValue().expiresAtMillis <= clock.currentTimeMillis()) {
+            iterator.remove();
+            expirations.increment();
+            main.put(key, entry);
+        } else if (sketch.frequency(key.hashCode()) > sketch.frequency(victim.getKey().hashCode())) {
+            iterator.remove();
+            evictions.increment();
+            main.put(key, entry);
+        } else {
+            evictions.increment();
+        }
+    }
+
+    private void remove(QuoteKey key) {
+        if (window.remove(key) == null) {
+            main.remove(key);
+        }
+    }
+
+    private synchronized void purgeStale() {
+        purgeStale(window);
+        purgeStale(main);
+    }
+
+    private void purgeStale(LinkedHashMap<QuoteKey, Entry> region) {
+        Iterator<QuoteKey> iterator = region.keySet().iterator();
+        while (iterator.hasNext()) {
+            if (isStale(iterator.next())) {
+                iterator.remove();
+                invalidations.increment();
+            }
+        }
+    }
+
+    private static Map.Entry<QuoteKey, Entry> removeEldest(LinkedHashMap<QuoteKey, Entry> region) {
+        Iterator<Map.Entry<QuoteKey, Entry>> iterator = region.entrySet().iterator();
+        Map.Entry<QuoteKey, Entry> eldest = iterator.next();
+        iterator.remove();
+        return Map.entry(eldest.getKey(), eldest.getValue());
+    }
+
+    /**
+     * A count-min sketch of 4-bit counters estimating how often keys were looked
+     * up recently. Once the number of increments reaches ten times the width,
+     * every counter is halved. Must be used while holding the cache's lock.
+     */
+    private static final class FrequencySketch {
+        private static final int DEPTH = 4;
+        private static final int MAX_COUNT = 15;
+        private static final int[] SEEDS = { 0x9E3779B1, 0x85EBCA6B, 0xC2B2AE35, 0x27D4EB2F };
+
+        private final byte[] counters;
+        private final int mask;
+        private final int width;
+        private final int sampleSize;
+        private int additions;
+
+        private FrequencySketch(int maximumSize) {
+            int target = (int) Math.min(1 << 24, Math.max(16L, 2L * maximumSize));
+            this.width = Integer.highestOneBit(target - 1) << 1;
+            this.mask = width - 1;
+            this.counters = new byte[DEPTH * width];
+            this.sampleSize = 10 * width;
+        }
+
+        void increment(int hash) {
+            boolean added = false;
+            for (int row = 0; row < DEPTH; row++) {
+                int index = index(hash, row);
+                if (counters[index] < MAX_COUNT) {
+                    counters[index]++;
+                    added = true;
+                }
+            }
+            if (added && ++additions >= sampleSize) {
+                for (int i = 0; i < counters.length; i++) {
+                    counters[i] = (byte) (counters[i] >>> 1);
+                }
+                additions >>>= 1;
+            }
+        }
+
+        int frequency(int hash) {
+            int frequency = MAX_COUNT;
+            for (int row = 0; row < DEPTH; row++) {
+                frequency = Math.min(frequency, counters[index(hash, row)]);
+            }
+            return frequency;
+        }
+
+        private int index(int hash, int row) {
+            int spread = hash * SEEDS[row];
+            spread ^= spread >>> 16;
+            return row * width + (spread & mask);
+        }
+    }
+}
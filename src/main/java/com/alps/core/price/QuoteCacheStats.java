@@ -0,0 +1,52 @@
+package com.alps.core.price;
+
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+
+/**
+ * A point-in-time snapshot of the counters of a {@link QuoteCache}.
+ */
+@Getter
+@EqualsAndHashCode
+public final class QuoteCacheStats {
+    private final long hitCount;
+    private final long missCount;
+    private final long evictionCount;
+    private final long expirationCount;
+    private final long invalidationCount;
+    private final long rejectedPutCount;
+
+    QuoteCacheStats(
+            long hitCount,
+            long missCount,
+            long evictionCount,
+            long expirationCount,
+            long invalidationCount,
+            long rejectedPutCount) {
+        this.hitCount = hitCount;
+        this.missCount = missCount;
+        this.evictionCount = evictionCount;
+        this.expirationCount = expirationCount;
+        this.invalidationCount = invalidationCount;
+        this.rejectedPutCount = rejectedPutCount;
+    }
+
+    /**
+     * Gets the number of lookups.
+     *
+     * @return The number of hits and misses.
+     */
+    public long requestCount() {
+        return hitCount + missCount;
+    }
+
+    /**
+     * Gets the share of lookups that found a quote.
+     *
+     * @return The hit rate, from 0 to 1, or 1 if there was no lookup.
+     */
+    public double hitRate() {
+        long requests = requestCount();
+        return requests == 0L ? 1.0 : (double) hitCount / requests;
+    }
+}
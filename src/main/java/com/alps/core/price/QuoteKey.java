@@ -0,0 +1,35 @@
+package com.alps.core.price;
+
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NonNull;
+
+/**
+ * Identifies a cached quote: the session, the seat category within it, and the
+ * version of the rule set the quote was computed with.
+ */
+@Getter
+@EqualsAndHashCode
+public final class QuoteKey {
+    private final String sessionId;
+    private final String category;
+    private final long ruleSetVersion;
+
+    private QuoteKey(String sessionId, String category, long ruleSetVersion) {
+        this.sessionId = sessionId;
+        this.category = category;
+        this.ruleSetVersion = ruleSetVersion;
+    }
+
+    /**
+     * Factory method to create a new instance of QuoteKey.
+     *
+     * @param sessionId      The id of the session.
+     * @param category       The seat category.
+     * @param ruleSetVersion The version of the rule set used to compute the quote.
+     * @return A new instance of QuoteKey.
+     */
+    public static QuoteKey create(@NonNull String sessionId, @NonNull String category, long ruleSetVersion) {
+        return new QuoteKey(sessionId, category, ruleSetVersion);
+    }
+}
@@ -0,0 +1,30 @@
+package com.alps.core.reservation;
+
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NonNull;
+import lombok.ToString;
+
+/**
+ * Represents a place in the {@link WaitingRoom} of a session. Tokens are
+ * numbered in the order they were handed out, and are admitted in that order.
+ */
+@Getter
+@EqualsAndHashCode
+@ToString
+public final class AdmissionToken {
+
+    private final String sessionId;
+    private final long sequence;
+
+    /**
+     * Constructs an AdmissionToken.
+     *
+     * @param sessionId The id of the session whose waiting room issued the token.
+     * @param sequence  The 1-based position of the token in issue order.
+     */
+    AdmissionToken(@NonNull String sessionId, long sequence) {
+        this.sessionId = sessionId;
+        this.sequence = sequence;
+    }
+}
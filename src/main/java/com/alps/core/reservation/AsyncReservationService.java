@@ -0,0 +1,151 @@
+package com.alps.core.reservation;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+
+import com.alps.core.location.LocationSeat;
+import com.alps.core.lock.LockAttempt;
+import com.alps.core.lock.LockProvider;
+import com.alps.core.price.Price;
+import com.alps.core.session.Session;
+import com.alps.core.user.User;
+
+import lombok.Getter;
+import lombok.NonNull;
+
+/**
+ * An asynchronous facade over reservations and seats. Every operation runs on
+ * the configured {@link Executor} and returns a {@link CompletableFuture}, so
+ * the calling thread is never blocked, not even while an operation waits on a
+ * {@link LockProvider}. Failures of the underlying operation, such as a seat
+ * already being reserved, complete the future exceptionally.
+ *
+ * The executor decides how many requests can be in flight at once. An executor
+ * running each task on its own virtual thread lets a very large number of
+ * requests wait on locks concurrently; see
+ * {@code com.alps.infrastructure.concurrent.ReservationExecutors} for a default.
+ */
+@Getter
+public class AsyncReservationService {
+
+    private final Executor executor;
+
+    /**
+     * Constructs an AsyncReservationService.
+     *
+     * @param executor The executor running every operation.
+     */
+    public AsyncReservationService(@NonNull Executor executor) {
+        this.executor = executor;
+    }
+
+    /**
+     * Asynchronously creates a reservation, as {@link Reservation#create}.
+     *
+     * @param reservationId  Unique identifier for the reservation.
+     * @param user           The user making the reservation.
+     * @param session        The session for which the reservation is made.
+     * @param seats          The set of seats to be reserved.
+     * @param creationTime   The time at which the reservation is created.
+     * @param expirationTime The duration after which the reservation expires.
+     * @param lockProvider   A {@link LockProvider} for concurrency management.
+     * @param status         The initial status of the reservation, defaults to PENDING if null.
+     * @param price          The total price of the reservation.
+     * @return A future completed with the new reservation.
+     */
+    public CompletableFuture<Reservation> create(
+            @NonNull String reservationId,
+            @NonNull User user,
+            @NonNull Session session,
+            @NonNull Set<LocationSeat> seats,
+            @NonNull LocalDateTime creationTime,
+            @NonNull Duration expirationTime,
+            @NonNull LockProvider lockProvider,
+            ReservationStatus status,
+            @NonNull Price price) {
+        return CompletableFuture.supplyAsync(() -> Reservation.create(
+                reservationId, user, session, seats, creationTime, expirationTime, lockProvider, status, price),
+                executor);
+    }
+
+    /**
+     * Asynchronously claims seats in the session's inventory, as {@link Reservation#claim}.
+     *
+     * @param reservationId  Unique identifier for the reservation.
+     * @param user           The user making the reservation.
+     * @param session        The session whose inventory holds the seats.
+     * @param seats          The set of seats to be reserved.
+     * @param creationTime   The time at which the reservation is created.
+     * @param expirationTime The duration after which the reservation expires.
+     * @param lockProvider   A {@link LockProvider} for concurrency management.
+     * @param status         The initial status of the reservation, defaults to PENDING if null.
+     * @param price          The total price of the reservation.
+     * @return A future completed with the new reservation, or completed exceptionally with an
+     *         {@link IllegalStateException} if the session is sold out or a seat is taken.
+     */
+    public CompletableFuture<Reservation> claim(
+            @NonNull String reservationId,
+            @NonNull User user,
+            @NonNull Session session,
+            @NonNull Set<LocationSeat> seats,
+            @NonNull LocalDateTime creationTime,
+            @NonNull Duration expirationTime,
+            @NonNull LockProvider lockProvider,
+            ReservationStatus status,
+            @NonNull Price price) {
+        return CompletableFuture.supplyAsync(() -> Reservation.claim(
+                reservationId, user, session, seats, creationTime, expirationTime, lockProvider, status, price),
+                executor);
+    }
+
+    /**
+     * Asynchronously cancels a reservation, as {@link Reservation#cancel()}.
+     *
+     * @param reservation The reservation to cancel.
+     * @return A future completed with the cancelled reservation.
+     */
+    public CompletableFuture<Reservation> cancel(@NonNull Reservation reservation) {
+        return CompletableFuture.supplyAsync(reservation::cancel, executor);
+    }
+
+    /**
+     * Asynchronously cancels a reservation, giving up once the timeout elapses while waiting for
+     * its locks, as {@link Reservation#cancel(Duration)}.
+     *
+     * @param reservation The reservation to cancel.
+     * @param timeout     The maximum time to wait for all the locks involved.
+     * @return A future completed with the attempt.
+     */
+    public CompletableFuture<LockAttempt<Reservation>> cancel(
+            @NonNull Reservation reservation,
+            @NonNull Duration timeout) {
+        return CompletableFuture.supplyAsync(() -> reservation.cancel(timeout), executor);
+    }
+
+    /**
+     * Asynchronously reserves a seat, as {@link LocationSeat#reserve()}.
+     *
+     * @param seat The seat to reserve.
+     * @return A future completed with the reserved seat.
+     */
+    public CompletableFuture<LocationSeat> reserve(@NonNull LocationSeat seat) {
+        return CompletableFuture.supplyAsync(seat::reserve, executor);
+    }
+
+    /**
+     * Asynchronously reserves a seat, giving up once the timeout elapses while waiting for its
+     * lock, as {@link LocationSeat#reserve(Duration)}.
+     *
+     * @param seat    The seat to reserve.
+     * @param timeout The maximum time to wait for the seat's lock.
+     * @return A future completed with the attempt.
+     */
+    public CompletableFuture<LockAttempt<LocationSeat>> reserve(
+            @NonNull LocationSeat seat,
+            @NonNull Duration timeout) {
+        return CompletableFuture.supplyAsync(() -> seat.reserve(timeout), executor);
+    }
+}
@@ -0,0 +1,152 @@
+package com.alps.core.reservation;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.alps.core.location.LocationSeat;
+import com.alps.core.reservation.ReservationResult.Status;
+import com.alps.core.session.SeatInventory;
+import com.alps.core.session.Session;
+
+import lombok.NonNull;
+
+/**
+ * Claims seats for many {@link ReservationRequest}s at once. Requests are
+ * grouped by session, and each group is handled in a single pass over the
+ * session's {@link SeatInventory}:
+ *
+ * <ol>
+ * <li>a sold-out session rejects the whole group without touching a seat;</li>
+ * <li>conflicts inside the group are resolved deterministically, in
+ * submission order: a request asking for a seat already asked for by an
+ * earlier request of the batch is a conflict;</li>
+ * <li>the union of the remaining requests' seats is claimed with one
+ * {@link SeatInventory#reserveAll(int...)} call;</li>
+ * <li>only if that claim fails, because seats were taken outside the batch,
+ * are the requests claimed one by one, still in submission order.</li>
+ * </ol>
+ *
+ * This class is stateless and thread-safe.
+ */
+public class BatchReservationService {
+
+    /**
+     * Handles a batch of requests.
+     *
+     * @param requests The requests, in submission order.
+     * @return One result per request, in the same order.
+     */
+    public List<ReservationResult> submit(@NonNull List<ReservationRequest> requests) {
+        ReservationResult[] results = new ReservationResult[requests.size()];
+        Map<Session, List<Integer>> groups = new IdentityHashMap<>();
+        List<Session> sessions = new ArrayList<>();
+        for (int i = 0; i < requests.size(); i++) {
+            Session session = requests.get(i).getSession();
+            groups.computeIfAbsent(session, key -> {
+                sessions.add(key);
+                return new ArrayList<>();
+            }).add(i);
+        }
+
+        for (Session session : sessions) {
+            submitGroup(session, requests, groups.get(session), results);
+        }
+        return Arrays.asList(results);
+    }
+
+    private void submitGroup(
+            Session session,
+            List<ReservationRequest> requests,
+            List<Integer> positions,
+            ReservationResult[] results) {
+        if (session.isSoldOut()) {
+            for (int position : positions) {
+                results[position] = ReservationResult.rejected(requests.get(position), Status.SOLD_OUT);
+            }
+            return;
+        }
+
+        SeatInventory inventory = session.getInventory();
+        BitSet requested = new BitSet(inventory.capacity());
+        List<Integer> accepted = new ArrayList<>(positions.size());
+        List<int[]> acceptedIndexes = new ArrayList<>(positions.size());
+        for (int position : positions) {
+            ReservationRequest request = requests.get(position);
+            int[] indexes = indexesOf(inventory, request);
+            if (indexes == null) {
+                results[position] = ReservationResult.rejected(request, Status.INVALID);
+            } else if (anySet(requested, indexes)) {
+                results[position] = ReservationResult.rejected(request, Status.CONFLICT);
+            } else {
+                for (int index : indexes) {
+                    requested.set(index);
+                }
+                accepted.add(position);
+                acceptedIndexes.add(indexes);
+            }
+        }
+
+        if (inventory.reserveAll(requested.stream().toArray())) {
+            for (int position : accepted) {
+                results[position] = reserved(requests.get(position));
+            }
+            return;
+        }
+
+        for (int i = 0; i < accepted.size(); i++) {
+            int position = accepted.get(i);
+            ReservationRequest request = requests.get(position);
+            if (session.isSoldOut()) {
+                results[position] = ReservationResult.rejected(request, Status.SOLD_OUT);
+            } else if (inventory.reserveAll(acceptedIndexes.get(i))) {
+                results[position] = reserved(request);
+            } else {
+                results[position] = ReservationResult.rejected(request, Status.CONFLICT);
+            }
+        }
+    }
+
+    private static ReservationResult reserved(ReservationRequest request) {
+        Reservation reservation = Reservation.claimed(
+                request.getReservationId(),
+                request.getUser(),
+                request.getSession(),
+                request.getSeats(),
+                request.getCreationTime(),
+                request.getExpirationTime(),
+                request.getLockProvider(),
+                null,
+                request.getPrice());
+        return ReservationResult.reserved(request, reservation);
+    }
+
+    /**
+     * Maps the seats of a request to inventory indexes, or returns null if a
+     * seat does not belong to the session.
+     */
+    private static int[] indexesOf(SeatInventory inventory, ReservationRequest request) {
+        int[] indexes = new int[request.getSeats().size()];
+        int i = 0;
+        for (LocationSeat seat : request.getSeats()) {
+            int index = inventory.indexOf(seat.getSeatId());
+            if (index < 0) {
+                return null;
+            }
+            indexes[i++] = index;
+        }
+        return indexes;
+    }
+
+    private static boolean anySet(BitSet bits, int[] indexes) {
+        for (int index : indexes) {
+            if (bits.get(index)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -4,16 +4,22 @@ import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.Collections;
 import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.stream.Collectors;
 
+import com.alps.core.clock.ClockProvider;
 import com.alps.core.location.LocationSeat;
+import com.alps.core.lock.LockAttempt;
 import com.alps.core.lock.LockProvider;
 import com.alps.core.price.Price;
 import com.alps.core.reservation.ReservationStatus.StandardStatus;
+import com.alps.core.session.SeatInventory;
 import com.alps.core.session.Session;
 import com.alps.core.user.User;
 
+import lombok.AccessLevel;
 import lombok.EqualsAndHashCode;
 import lombok.Getter;
 import lombok.NonNull;
@@ -35,6 +41,12 @@ public class Reservation {
     private final ReservationStatus status;
     private final LockProvider lockProvider;
     private final Price price;
+    @Getter(AccessLevel.NONE)
+    @EqualsAndHashCode.Exclude
+    private final AtomicBoolean seatsHeld;
+    @Getter(AccessLevel.NONE)
+    @EqualsAndHashCode.Exclude
+    private final long expirationDeadlineMillis;
 
     /**
      * Constructs a new Reservation instance with specified details. This constructor is private
@@ -49,6 +61,9 @@ public class Reservation {
      * @param status         The current status of the reservation.
      * @param lockProvider   A {@link LockProvider} for handling concurrency.
      * @param price          The {@link Price} object representing the total cost of the reservation.
+     * @param seatsHeld      Whether the seats are still held in the session's {@link SeatInventory},
+     *                       shared by every instance derived from the same claim, or null if the
+     *                       reservation was not claimed.
      */
     private Reservation(
             @NonNull String reservationId,
@@ -59,7 +74,8 @@ public class Reservation {
             @NonNull Duration expirationTime,
             @NonNull ReservationStatus status,
             @NonNull LockProvider lockProvider,
-            @NonNull Price price) {
+            @NonNull Price price,
+            AtomicBoolean seatsHeld) {
         this.reservationId = reservationId;
         this.user = user;
         this.session = session;
@@ -69,6 +85,8 @@ public class Reservation {
         this.status = status;
         this.lockProvider = lockProvider;
         this.price = price;
+        this.seatsHeld = seatsHeld;
+        this.expirationDeadlineMillis = ClockProvider.toEpochMillis(creationTime.plus(expirationTime));
     }
 
     /**
@@ -109,9 +127,91 @@ public class Reservation {
                 expirationTime,
                 status == null ? new ReservationStatus(StandardStatus.PENDING) : status,
                 lockProvider,
+                price,
+                null);
+    }
+
+    /**
+     * Factory method to create a new Reservation instance that claims the specified seats in the
+     * session's {@link SeatInventory}. The claim is all-or-nothing: seats are taken in the inventory's
+     * canonical order, and if any of them is already reserved every seat taken so far is released
+     * before the exception is thrown, so a failed claim never strands inventory. Requests for a
+     * sold-out session are rejected before any seat is looked at.
+     *
+     * @param reservationId  Unique identifier for the reservation.
+     * @param user           The user making the reservation.
+     * @param session        The session whose inventory holds the seats.
+     * @param seats          The set of seats to be reserved.
+     * @param creationTime   The time at which the reservation is created.
+     * @param expirationTime The duration after which the reservation expires.
+     * @param lockProvider   A {@link LockProvider} for concurrency management.
+     * @param status         The initial status of the reservation, defaults to PENDING if null.
+     * @param price          The total price of the reservation, including any applicable fees or discounts.
+     * @return A new instance of Reservation holding the claimed seats.
+     * @throws IllegalArgumentException if a seat does not belong to the session.
+     * @throws IllegalStateException if the session is sold out or any of the seats is already reserved.
+     */
+    public static Reservation claim(
+            @NonNull String reservationId,
+            @NonNull User user,
+            @NonNull Session session,
+            @NonNull Set<LocationSeat> seats,
+            @NonNull LocalDateTime creationTime,
+            @NonNull Duration expirationTime,
+            @NonNull LockProvider lockProvider,
+            ReservationStatus status,
+            @NonNull Price price) {
+
+        if (session.isSoldOut()) {
+            throw new IllegalStateException("The session is sold out.");
+        }
+
+        List<String> seatIds = seats.stream()
+                .map(LocationSeat::getSeatId)
+                .collect(Collectors.toList());
+
+        if (!session.getInventory().reserveAll(seatIds)) {
+            throw new IllegalStateException("One or more seats are already reserved.");
+        }
+
+        return claimed(reservationId, user, session, seats, creationTime, expirationTime, lockProvider, status,
                 price);
     }
 
+    /**
+     * Creates a reservation for seats that the caller has already reserved in the session's
+     * {@link SeatInventory}, taking ownership of that claim.
+     *
+     * @return A new instance of Reservation holding the claimed seats.
+     */
+    static Reservation claimed(
+            @NonNull String reservationId,
+            @NonNull User user,
+            @NonNull Session session,
+            @NonNull Set<LocationSeat> seats,
+            @NonNull LocalDateTime creationTime,
+            @NonNull Duration expirationTime,
+            @NonNull LockProvider lockProvider,
+            ReservationStatus status,
+            @NonNull Price price) {
+
+        Set<LocationSeat> reservedSeats = seats.stream()
+                .map(seat -> seat.withAvailability(false))
+                .collect(Collectors.toCollection(LinkedHashSet::new));
+
+        return new Reservation(
+                reservationId,
+                user,
+                session,
+                reservedSeats,
+                creationTime,
+                expirationTime,
+                status == null ? new ReservationStatus(StandardStatus.PENDING) : status,
+                lockProvider,
+                price,
+                new AtomicBoolean(true));
+    }
+
     /**
      * Provides an unmodifiable view of the seats associated with this reservation.
      *
@@ -127,41 +227,212 @@ public class Reservation {
      * @return True if the reservation is expired, otherwise false.
      */
     public boolean isExpired() {
-        LocalDateTime now = LocalDateTime.now();
-        return now.isAfter(creationTime.plus(expirationTime));
+        return isExpired(ClockProvider.system());
+    }
+
+    /**
+     * Determines if the reservation is expired at the time given by a clock. The deadline is
+     * converted to epoch milliseconds when the reservation is created, so this compares primitives only.
+     *
+     * @param clock The clock providing the current time.
+     * @return True if the reservation is expired, otherwise false.
+     */
+    public boolean isExpired(@NonNull ClockProvider clock) {
+        return clock.currentTimeMillis() > expirationDeadlineMillis;
+    }
+
+    /**
+     * Gets the expiration deadline in epoch milliseconds, as computed when the reservation was created.
+     *
+     * @return The deadline in epoch milliseconds.
+     */
+    long expirationDeadlineMillis() {
+        return expirationDeadlineMillis;
     }
 
     /**
      * Attempts to cancel the reservation, setting its status to CANCELLED if currently PENDING.
      * If the reservation is not in a cancellable state, an exception is thrown.
+     * Seats claimed through {@link #claim} are released back to the session's inventory.
      *
      * @return A new {@link Reservation} instance with updated status, if cancellation is successful.
-     * @throws IllegalStateException if the reservation's status is not PENDING.
+     * @throws IllegalStateException if the reservation's status is not PENDING, or if its claim
+     *                               was already settled through another instance.
      */
     public Reservation cancel() {
         lockProvider.lock();
         try {
-            if (status.getStandardStatus() == ReservationStatus.StandardStatus.PENDING) {
-
-                Set<LocationSeat> locationsReleased = seats.stream()
-                        .map(LocationSeat::release)
-                        .collect(Collectors.toCollection(LinkedHashSet::new));
-
-                return new Reservation(
-                        this.reservationId,
-                        this.user,
-                        this.session,
-                        locationsReleased,
-                        this.creationTime,
-                        this.expirationTime,
-                        new ReservationStatus(ReservationStatus.StandardStatus.CANCELLED),
-                        this.lockProvider,
-                        this.price);
-            } else {
-                throw new IllegalStateException("The reservation cannot be canceled in its current state.");
+            requireCancellable();
+
+            Set<LocationSeat> locationsReleased = seats.stream()
+                    .map(LocationSeat::release)
+                    .collect(Collectors.toCollection(LinkedHashSet::new));
+
+            return cancelled(locationsReleased);
+        } finally {
+            lockProvider.unlock();
+        }
+    }
+
+    /**
+     * Attempts to cancel the reservation like {@link #cancel()}, but gives up once the deadline
+     * passes while waiting for the reservation's lock or the lock of any of its seats.
+     * Nothing is released when the attempt is contended.
+     *
+     * @param timeout The maximum time to wait for all the locks involved.
+     * @return An attempt holding the cancelled {@link Reservation}, or a contended attempt if a
+     *         lock was not acquired before the deadline.
+     * @throws IllegalStateException if the reservation's status is not PENDING.
+     */
+    public LockAttempt<Reservation> cancel(@NonNull Duration timeout) {
+        long deadline = System.nanoTime() + timeout.toNanos();
+        return LockAttempt.underLock(lockProvider, timeout, () -> {
+            requireCancellable();
+
+            Set<LocationSeat> locationsReleased = new LinkedHashSet<>();
+            for (LocationSeat seat : seats) {
+                Duration remaining = Duration.ofNanos(Math.max(0L, deadline - System.nanoTime()));
+                LockAttempt<LocationSeat> attempt = seat.release(remaining);
+                if (attempt.isContended()) {
+                    return LockAttempt.contended();
+                }
+                locationsReleased.add(attempt.get());
             }
+
+            return LockAttempt.acquired(cancelled(locationsReleased));
+        });
+    }
+
+    /**
+     * Expires the reservation, setting its status to EXPIRED if currently PENDING and releasing
+     * its seats. Seats claimed through {@link #claim} are released back to the session's inventory.
+     *
+     * @return A new {@link Reservation} instance with the EXPIRED status.
+     * @throws IllegalStateException if the reservation's status is not PENDING, or if its claim
+     *                               was already settled through another instance.
+     */
+    public Reservation expire() {
+        return expire(true);
+    }
+
+    /**
+     * Expires the reservation, optionally leaving the release of claimed seats to the caller so it
+     * can be batched with other reservations of the same session.
+     *
+     * @param releaseClaim Whether claimed seats are released back to the inventory here.
+     * @return A new {@link Reservation} instance with the EXPIRED status.
+     */
+    Reservation expire(boolean releaseClaim) {
+        lockProvider.lock();
+        try {
+            if (status.getStandardStatus() != StandardStatus.PENDING) {
+                throw new IllegalStateException("The reservation cannot be expired in its current state.");
+            }
+
+            Set<LocationSeat> locationsReleased = seats.stream()
+                    .map(LocationSeat::release)
+                    .collect(Collectors.toCollection(LinkedHashSet::new));
+
+            settleClaim(releaseClaim);
+            return withStatus(locationsReleased, StandardStatus.EXPIRED);
         } finally {
             lockProvider.unlock();
         }
     }
+
+    /**
+     * Confirms the reservation, setting its status to CONFIRMED if currently PENDING. The seats stay
+     * reserved, and a claim on the session's inventory is settled so that expiring or cancelling
+     * another instance of the same claim no longer releases them.
+     *
+     * @return A new {@link Reservation} instance with the CONFIRMED status.
+     * @throws IllegalStateException if the reservation's status is not PENDING, or if its claim
+     *                               was already settled through another instance.
+     */
+    public Reservation confirm() {
+        lockProvider.lock();
+        try {
+            if (status.getStandardStatus() != StandardStatus.PENDING) {
+                throw new IllegalStateException("The reservation cannot be confirmed in its current state.");
+            }
+
+            settleClaim(false);
+            return withStatus(seats, StandardStatus.CONFIRMED);
+        } finally {
+            lockProvider.unlock();
+        }
+    }
+
+    /**
+     * Gets the moment after which this reservation is considered expired.
+     *
+     * @return The creation time plus the expiration time.
+     */
+    public LocalDateTime getExpirationDeadline() {
+        return creationTime.plus(expirationTime);
+    }
+
+    /**
+     * Checks whether the seats of this reservation were claimed in the session's {@link SeatInventory}.
+     *
+     * @return True if the reservation was created through {@link #claim}, otherwise false.
+     */
+    public boolean isClaimed() {
+        return seatsHeld != null;
+    }
+
+    private void requireCancellable() {
+        if (status.getStandardStatus() != ReservationStatus.StandardStatus.PENDING) {
+            throw new IllegalStateException("The reservation cannot be canceled in its current state.");
+        }
+    }
+
+    private Reservation cancelled(Set<LocationSeat> locationsReleased) {
+        settleClaim(true);
+        return withStatus(locationsReleased, StandardStatus.CANCELLED);
+    }
+
+    private Reservation withStatus(Set<LocationSeat> locationsReleased, StandardStatus standardStatus) {
+        return new Reservation(
+                this.reservationId,
+                this.user,
+                this.session,
+                locationsReleased,
+                this.creationTime,
+                this.expirationTime,
+                new ReservationStatus(standardStatus),
+                this.lockProvider,
+                this.price,
+                this.seatsHeld);
+    }
+
+    /**
+     * Settles the claim on the session's inventory. The shared flag makes sure a claim is settled
+     * at most once, even when several instances derived from the same claim are cancelled or expired.
+     *
+     * @param release Whether the claimed seats are released back to the inventory here.
+     * @throws IllegalStateException if the claim was already settled.
+     */
+    private void settleClaim(boolean release) {
+        if (seatsHeld == null) {
+            return;
+        }
+        if (!seatsHeld.compareAndSet(true, false)) {
+            throw new IllegalStateException("The reservation has already been settled.");
+        }
+        if (release) {
+            session.getInventory().releaseAll(seatIds());
+        }
+    }
+
+    /**
+     * Gets the ids of the seats held by this reservation.
+     *
+     * @return The seat ids, in the order of {@link #getSeats()}.
+     */
+    List<String> seatIds() {
+        return seats.stream()
+                .map(LocationSeat::getSeatId)
+                .collect(Collectors.toList());
+    }
 }
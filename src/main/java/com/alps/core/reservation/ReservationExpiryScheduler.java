@@ -0,0 +1,206 @@
+package com.alps.core.reservation;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+import com.alps.core.clock.ClockProvider;
+import com.alps.core.reservation.ReservationStatus.StandardStatus;
+import com.alps.core.session.Session;
+
+import lombok.NonNull;
+
+/**
+ * Expires pending reservations when their hold runs out and gives their seats
+ * back. Reservations are kept on a hierarchical {@link TimingWheel} keyed on
+ * {@link Reservation#getExpirationDeadline()}, converted to epoch milliseconds
+ * once when the reservation is created, so scheduling and unscheduling
+ * are constant time and each pending hold costs a single wheel entry, instead
+ * of polling every reservation with {@link Reservation#isExpired()}.
+ *
+ * When the wheel is advanced, every reservation that became due is moved to
+ * {@link StandardStatus#EXPIRED}. Seats claimed in a session's inventory are
+ * released in one batch per session, and each expired reservation is handed to
+ * the listener. Reservations that are confirmed or cancelled before their
+ * deadline should be unscheduled.
+ *
+ * Time is read from a {@link ClockProvider}, which drives {@link #advance()}
+ * and the periodic task started with {@link #start(ScheduledExecutorService)}.
+ */
+public class ReservationExpiryScheduler {
+
+    private final TimingWheel<Reservation> wheel;
+    private final Map<String, TimingWheel.Entry<Reservation>> entries = new HashMap<>();
+    private final Consumer<Reservation> onExpired;
+    private final ClockProvider clock;
+    private final long tickMillis;
+
+    /**
+     * Constructs a ReservationExpiryScheduler driven by the system clock.
+     *
+     * @param tick      The resolution of the scheduler.
+     * @param onExpired Receives every reservation moved to EXPIRED.
+     */
+    public ReservationExpiryScheduler(@NonNull Duration tick, @NonNull Consumer<Reservation> onExpired) {
+        this(tick, ClockProvider.system(), onExpired);
+    }
+
+    /**
+     * Constructs a ReservationExpiryScheduler driven by the given clock, starting
+     * at its current time.
+     *
+     * @param tick      The resolution of the scheduler.
+     * @param clock     The clock providing the current time.
+     * @param onExpired Receives every reservation moved to EXPIRED.
+     * @throws IllegalArgumentException if the tick is shorter than a millisecond.
+     */
+    public ReservationExpiryScheduler(
+            @NonNull Duration tick,
+            @NonNull ClockProvider clock,
+            @NonNull Consumer<Reservation> onExpired) {
+        this(tick, clock, clock.currentTimeMillis(), onExpired);
+    }
+
+    /**
+     * Constructs a ReservationExpiryScheduler driven by the system clock,
+     * starting at the given time.
+     *
+     * @param tick      The resolution of the scheduler.
+     * @param start     The time the scheduler starts from.
+     * @param onExpired Receives every reservation moved to EXPIRED.
+     * @throws IllegalArgumentException if the tick is shorter than a millisecond.
+     */
+    public ReservationExpiryScheduler(
+            @NonNull Duration tick,
+            @NonNull LocalDateTime start,
+            @NonNull Consumer<Reservation> onExpired) {
+        this(tick, ClockProvider.system(), ClockProvider.toEpochMillis(start), onExpired);
+    }
+
+    private ReservationExpiryScheduler(
+            Duration tick,
+            ClockProvider clock,
+            long startMillis,
+            Consumer<Reservation> onExpired) {
+        this.tickMillis = tick.toMillis();
+        this.clock = clock;
+        this.wheel = new TimingWheel<>(tickMillis, startMillis);
+        this.onExpired = onExpired;
+    }
+
+    /**
+     * Schedules a pending reservation for expiry at its deadline. Scheduling a
+     * reservation again replaces its previous entry.
+     *
+     * @param reservation The reservation to schedule.
+     * @throws IllegalArgumentException if the reservation is not PENDING.
+     */
+    public synchronized void schedule(@NonNull Reservation reservation) {
+        if (reservation.getStatus().getStandardStatus() != StandardStatus.PENDING) {
+            throw new IllegalArgumentException("Only pending reservations can be scheduled for expiry.");
+        }
+        TimingWheel.Entry<Reservation> previous = entries.remove(reservation.getReservationId());
+        if (previous != null) {
+            wheel.remove(previous);
+        }
+        entries.put(reservation.getReservationId(),
+                wheel.add(reservation, reservation.expirationDeadlineMillis()));
+    }
+
+    /**
+     * Removes a reservation from the scheduler, typically after it was confirmed
+     * or cancelled.
+     *
+     * @param reservationId The id of the reservation.
+     * @return true if the reservation was scheduled, false otherwise.
+     */
+    public synchronized boolean unschedule(@NonNull String reservationId) {
+        TimingWheel.Entry<Reservation> entry = entries.remove(reservationId);
+        return entry != null && wheel.remove(entry);
+    }
+
+    /**
+     * Gets the number of reservations waiting for their deadline.
+     *
+     * @return The number of scheduled reservations.
+     */
+    public synchronized int pendingCount() {
+        return wheel.size();
+    }
+
+    /**
+     * Advances the scheduler to the current time of its clock, expiring every
+     * reservation whose deadline has passed.
+     *
+     * @return The reservations moved to EXPIRED by this call.
+     */
+    public List<Reservation> advance() {
+        return advanceTo(clock.currentTimeMillis());
+    }
+
+    /**
+     * Advances the scheduler to the given time, expiring every reservation whose
+     * deadline has passed. Reservations that were already settled elsewhere are
+     * skipped.
+     *
+     * @param now The current time.
+     * @return The reservations moved to EXPIRED by this call.
+     */
+    public List<Reservation> advanceTo(@NonNull LocalDateTime now) {
+        return advanceTo(ClockProvider.toEpochMillis(now));
+    }
+
+    private List<Reservation> advanceTo(long nowMillis) {
+        List<Reservation> due = new ArrayList<>();
+        synchronized (this) {
+            wheel.advanceTo(nowMillis, reservation -> {
+                entries.remove(reservation.getReservationId());
+                due.add(reservation);
+            });
+        }
+        if (due.isEmpty()) {
+            return due;
+        }
+
+        List<Reservation> expired = new ArrayList<>(due.size());
+        Map<Session, List<String>> releases = new IdentityHashMap<>();
+        for (Reservation reservation : due) {
+            try {
+                expired.add(reservation.expire(false));
+            } catch (IllegalStateException e) {
+                continue;
+            }
+            if (reservation.isClaimed()) {
+                releases.computeIfAbsent(reservation.getSession(), session -> new ArrayList<>())
+                        .addAll(reservation.seatIds());
+            }
+        }
+
+        releases.forEach((session, seatIds) -> session.getInventory().releaseAll(seatIds));
+        expired.forEach(onExpired);
+        return expired;
+    }
+
+    /**
+     * Starts advancing the scheduler to the time of its clock once per tick on
+     * the given executor.
+     *
+     * @param executor The executor driving the scheduler.
+     * @return The future of the periodic task, which can be cancelled to stop it.
+     */
+    public ScheduledFuture<?> start(@NonNull ScheduledExecutorService executor) {
+        return executor.scheduleAtFixedRate(
+                this::advance,
+                tickMillis,
+                tickMillis,
+                TimeUnit.MILLISECONDS);
+    }
+}
@@ -0,0 +1,15 @@
+package com.alps.core.reservation;
+
+import java.util.List;
+
+import com.alps.core.reservation.ReservationStatus.StandardStatus;
+
+public interface ReservationRepository {
+    Reservation findById(String id);
+    List<Reservation> findByUserId(String userId);
+    List<Reservation> findBySessionId(String sessionId);
+    List<Reservation> findByStatus(StandardStatus status);
+    List<Reservation> findBySessionIdAndStatus(String sessionId, StandardStatus status);
+    Reservation save(Reservation reservation);
+    void delete(String id);
+}
@@ -0,0 +1,88 @@
+package com.alps.core.reservation;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+import com.alps.core.location.LocationSeat;
+import com.alps.core.lock.LockProvider;
+import com.alps.core.price.Price;
+import com.alps.core.session.Session;
+import com.alps.core.user.User;
+
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NonNull;
+
+/**
+ * Represents a request to claim seats of a session, as submitted to a
+ * {@link BatchReservationService}. It carries the same details as
+ * {@link Reservation#claim}, and the resulting reservation is PENDING.
+ */
+@Getter
+@EqualsAndHashCode
+public class ReservationRequest {
+
+    private final String reservationId;
+    private final User user;
+    private final Session session;
+    private final Set<LocationSeat> seats;
+    private final LocalDateTime creationTime;
+    private final Duration expirationTime;
+    private final LockProvider lockProvider;
+    private final Price price;
+
+    private ReservationRequest(
+            String reservationId,
+            User user,
+            Session session,
+            Set<LocationSeat> seats,
+            LocalDateTime creationTime,
+            Duration expirationTime,
+            LockProvider lockProvider,
+            Price price) {
+        this.reservationId = reservationId;
+        this.user = user;
+        this.session = session;
+        this.seats = seats;
+        this.creationTime = creationTime;
+        this.expirationTime = expirationTime;
+        this.lockProvider = lockProvider;
+        this.price = price;
+    }
+
+    /**
+     * Factory method to create a new ReservationRequest instance.
+     *
+     * @param reservationId  Unique identifier for the reservation to be created.
+     * @param user           The user making the reservation.
+     * @param session        The session whose inventory holds the seats.
+     * @param seats          The set of seats requested.
+     * @param creationTime   The time at which the reservation is created.
+     * @param expirationTime The duration after which the reservation expires.
+     * @param lockProvider   A {@link LockProvider} for concurrency management.
+     * @param price          The total price of the reservation.
+     * @return A new instance of ReservationRequest.
+     */
+    public static ReservationRequest create(
+            @NonNull String reservationId,
+            @NonNull User user,
+            @NonNull Session session,
+            @NonNull Set<LocationSeat> seats,
+            @NonNull LocalDateTime creationTime,
+            @NonNull Duration expirationTime,
+            @NonNull LockProvider lockProvider,
+            @NonNull Price price) {
+        return new ReservationRequest(
+                reservationId,
+                user,
+                session,
+                Collections.unmodifiableSet(new LinkedHashSet<>(seats)),
+                creationTime,
+                expirationTime,
+                lockProvider,
+                price);
+    }
+}
@@ -0,0 +1,74 @@
+package com.alps.core.reservation;
+
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NonNull;
+
+/**
+ * Represents the outcome of a {@link ReservationRequest} handled by a
+ * {@link BatchReservationService}. A successful result carries the claimed
+ * reservation; any other result reports why no seat was claimed.
+ */
+@Getter
+@EqualsAndHashCode
+public class ReservationResult {
+
+    /**
+     * The possible outcomes of a request.
+     */
+    public enum Status {
+        /** The seats were claimed and the reservation created. */
+        RESERVED,
+        /** A seat was taken, either by an earlier request of the batch or in the inventory. */
+        CONFLICT,
+        /** The session had no seat left. */
+        SOLD_OUT,
+        /** A seat does not belong to the session. */
+        INVALID
+    }
+
+    private final ReservationRequest request;
+    private final Status status;
+    private final Reservation reservation;
+
+    private ReservationResult(ReservationRequest request, Status status, Reservation reservation) {
+        this.request = request;
+        this.status = status;
+        this.reservation = reservation;
+    }
+
+    /**
+     * Creates a successful result.
+     *
+     * @param request     The request that was handled.
+     * @param reservation The reservation holding the claimed seats.
+     * @return A RESERVED result.
+     */
+    static ReservationResult reserved(@NonNull ReservationRequest request, @NonNull Reservation reservation) {
+        return new ReservationResult(request, Status.RESERVED, reservation);
+    }
+
+    /**
+     * Creates a result for a request whose seats were not claimed.
+     *
+     * @param request The request that was handled.
+     * @param status  The reason no seat was claimed.
+     * @return A result without a reservation.
+     * @throws IllegalArgumentException if the status is RESERVED.
+     */
+    static ReservationResult rejected(@NonNull ReservationRequest request, @NonNull Status status) {
+        if (status == Status.RESERVED) {
+            throw new IllegalArgumentException("A reserved result needs a reservation");
+        }
+        return new ReservationResult(request, status, null);
+    }
+
+    /**
+     * Checks whether the request's seats were claimed.
+     *
+     * @return true if the status is RESERVED, false otherwise.
+     */
+    public boolean isReserved() {
+        return status == Status.RESERVED;
+    }
+}
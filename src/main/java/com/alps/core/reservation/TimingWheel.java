@@ -0,0 +1,240 @@
+package com.alps.core.reservation;
+
+import java.util.function.Consumer;
+
+/**
+ * A hierarchical timing wheel. Time is divided into ticks, and each level of
+ * the wheel has 64 slots whose span grows by a factor of 64 per level. An entry
+ * is placed in the lowest level able to hold its deadline and is cascaded to
+ * lower levels as time advances, so adding and removing entries is constant
+ * time. A bitmap of the occupied slots of each level lets advancing jump
+ * straight to the next tick that fires or cascades entries, so it costs one
+ * step per such tick plus the entries that move, however long the wheel idles.
+ * Deadlines beyond the top level are parked in its last slot and re-evaluated
+ * when that slot comes around.
+ *
+ * This class is not thread-safe.
+ *
+ * @param <T> The type of the values scheduled on the wheel.
+ */
+final class TimingWheel<T> {
+
+    private static final int LEVEL_BITS = 6;
+    private static final int WHEEL_SIZE = 1 << LEVEL_BITS;
+    private static final int SLOT_MASK = WHEEL_SIZE - 1;
+    private static final int LEVELS = 4;
+
+    private final long tickMillis;
+    private final Entry<T>[][] slots;
+    private final long[] occupied = new long[LEVELS];
+    private long currentTick;
+    private int size;
+
+    /**
+     * Represents a value scheduled on the wheel, linked into the list of its slot.
+     *
+     * @param <T> The type of the value.
+     */
+    static final class Entry<T> {
+        private final T value;
+        private final long deadlineTick;
+        private Entry<T> previous;
+        private Entry<T> next;
+        private int level = -1;
+        private int slot;
+
+        private Entry(T value, long deadlineTick) {
+            this.value = value;
+            this.deadlineTick = deadlineTick;
+        }
+
+        T getValue() {
+            return value;
+        }
+    }
+
+    /**
+     * Constructs a TimingWheel starting at the given time.
+     *
+     * @param tickMillis  The duration of a tick in milliseconds.
+     * @param startMillis The current time in epoch milliseconds.
+     */
+    TimingWheel(long tickMillis, long startMillis) {
+        if (tickMillis <= 0) {
+            throw new IllegalArgumentException("Tick must be positive");
+        }
+        this.tickMillis = tickMillis;
+        this.currentTick = startMillis / tickMillis;
+        @SuppressWarnings("unchecked")
+        Entry<T>[][] table = (Entry<T>[][]) new Entry<?>[LEVELS][WHEEL_SIZE];
+        this.slots = table;
+    }
+
+    /**
+     * Schedules a value. The value becomes due on the first tick at or after its
+     * deadline, and no earlier than the next tick.
+     *
+     * @param value          The value to schedule.
+     * @param deadlineMillis The deadline in epoch milliseconds.
+     * @return The entry, which can be passed to {@link #remove(Entry)}.
+     */
+    Entry<T> add(T value, long deadlineMillis) {
+        long deadlineTick = Math.max(currentTick + 1, Math.floorDiv(deadlineMillis + tickMillis - 1, tickMillis));
+        Entry<T> entry = new Entry<>(value, deadlineTick);
+        place(entry);
+        size++;
+        return entry;
+    }
+
+    /**
+     * Removes a scheduled entry before it becomes due.
+     *
+     * @param entry The entry returned by {@link #add(Object, long)}.
+     * @return true if the entry was scheduled and is now removed, false if it had
+     *         already become due or been removed.
+     */
+    boolean remove(Entry<T> entry) {
+        if (entry.level < 0) {
+            return false;
+        }
+        unlink(entry);
+        size--;
+        return true;
+    }
+
+    /**
+     * Advances the wheel to the given time, handing every value that became due
+     * to the consumer.
+     *
+     * @param nowMillis The current time in epoch milliseconds.
+     * @param due       Receives the values whose deadline has passed.
+     */
+    void advanceTo(long nowMillis, Consumer<T> due) {
+        long targetTick = Math.floorDiv(nowMillis, tickMillis);
+        while (currentTick < targetTick) {
+            long nextTick = size == 0 ? Long.MAX_VALUE : nextEventTick();
+            if (nextTick > targetTick) {
+                currentTick = targetTick;
+                return;
+            }
+            currentTick = nextTick;
+            cascade();
+            Entry<T> entry = detach(0, (int) (currentTick & SLOT_MASK));
+            while (entry != null) {
+                Entry<T> next = entry.next;
+                entry.next = null;
+                size--;
+                due.accept(entry.value);
+                entry = next;
+            }
+        }
+    }
+
+    /**
+     * Gets the number of scheduled entries.
+     *
+     * @return The number of entries not yet due.
+     */
+    int size() {
+        return size;
+    }
+
+    /**
+     * Finds the first tick after the current one at which an occupied level 0
+     * slot fires or an occupied higher level slot cascades. Every tick before it
+     * would leave the wheel unchanged.
+     */
+    private long nextEventTick() {
+        long next = Long.MAX_VALUE;
+        if (occupied[0] != 0L) {
+            long rotated = Long.rotateRight(occupied[0], (int) ((currentTick + 1) & SLOT_MASK));
+            next = currentTick + 1 + Long.numberOfTrailingZeros(rotated);
+        }
+        for (int level = 1; level < LEVELS; level++) {
+            if (occupied[level] == 0L) {
+                continue;
+            }
+            int shift = LEVEL_BITS * level;
+            long rotation = (currentTick >>> shift) + 1;
+            long rotated = Long.rotateRight(occupied[level], (int) (rotation & SLOT_MASK));
+            next = Math.min(next, (rotation + Long.numberOfTrailingZeros(rotated)) << shift);
+        }
+        return next;
+    }
+
+    /**
+     * Moves the entries of every higher level slot that starts at the current
+     * tick down to the level that now fits their deadline.
+     */
+    private void cascade() {
+        for (int level = 1; level < LEVELS; level++) {
+            int shift = LEVEL_BITS * level;
+            if ((currentTick & ((1L << shift) - 1)) != 0) {
+                return;
+            }
+            Entry<T> entry = detach(level, (int) ((currentTick >>> shift) & SLOT_MASK));
+            while (entry != null) {
+                Entry<T> next = entry.next;
+                entry.next = null;
+                place(entry);
+                entry = next;
+            }
+        }
+    }
+
+    private void place(Entry<T> entry) {
+        long delta = Math.max(0L, entry.deadlineTick - currentTick);
+        for (int level = 0; level < LEVELS; level++) {
+            if (delta < (1L << (LEVEL_BITS * (level + 1)))) {
+                link(entry, level, (int) ((entry.deadlineTick >>> (LEVEL_BITS * level)) & SLOT_MASK));
+                return;
+            }
+        }
+        int top = LEVELS - 1;
+        link(entry, top, (int) (((currentTick >>> (LEVEL_BITS * top)) - 1) & SLOT_MASK));
+    }
+
+    private void link(Entry<T> entry, int level, int slot) {
+        Entry<T> head = slots[level][slot];
+        entry.level = level;
+        entry.slot = slot;
+        entry.previous = null;
+        entry.next = head;
+        if (head != null) {
+            head.previous = entry;
+        }
+        slots[level][slot] = entry;
+        occupied[level] |= 1L << slot;
+    }
+
+    private void unlink(Entry<T> entry) {
+        if (entry.previous != null) {
+            entry.previous.next = entry.next;
+        } else {
+            slots[entry.level][entry.slot] = entry.next;
+            if (entry.next == null) {
+                occupied[entry.level] &= ~(1L << entry.slot);
+            }
+        }
+        if (entry.next != null) {
+            entry.next.previous = entry.previous;
+        }
+        entry.previous = null;
+        entry.next = null;
+        entry.level = -1;
+    }
+
+    /**
+     * Detaches the whole list of a slot, marking its entries as unscheduled.
+     */
+    private Entry<T> detach(int level, int slot) {
+        Entry<T> head = slots[level][slot];
+        slots[level][slot] = null;
+        occupied[level] &= ~(1L << slot);
+        for (Entry<T> entry = head; entry != null; entry = entry.next) {
+            entry.level = -1;
+            entry.previous = null;
+        }
+        return head;
+    }
+}
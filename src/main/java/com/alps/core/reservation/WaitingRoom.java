@@ -0,0 +1,340 @@
+package com.alps.core.reservation;
+
+import java.time.LocalDateTime;
+import java.util.BitSet;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+
+import com.alps.core.clock.ClockProvider;
+import com.alps.core.session.Session;
+
+import lombok.Getter;
+import lombok.NonNull;
+
+/**
+ * An admission queue in front of the reservation path of a high-demand
+ * session. Clients {@link #join()} the room and receive ordered
+ * {@link AdmissionToken}s; tokens are admitted in order, at most a configured
+ * number per second, and only admitted tokens may claim seats. Each token
+ * is used up by a successful claim and backs at most one claim at a time, so
+ * however many clients are waiting, the number of claims contending for seat
+ * locks stays bounded by the admission rate.
+ *
+ * Admission is tracked as a frontier: every token whose sequence is at or
+ * below it is admitted. The frontier moves forward with time and never past
+ * the last issued token, so joining, checking admission and reporting a queue
+ * position are all constant time. Admissions left unused while the room is
+ * empty are banked up to one second's worth, which bounds the burst let through
+ * when clients arrive after a quiet period.
+ *
+ * Used tokens are tracked the same way: a frontier below which every token is
+ * used, plus a bitset of the tokens used out of order above it, so the memory
+ * kept grows with the spread of claims rather than with their number.
+ *
+ * Checks without an explicit time read the room's {@link ClockProvider}.
+ */
+public class WaitingRoom {
+
+    private static final long MILLIS_PER_SECOND = 1_000L;
+
+    @Getter
+    private final Session session;
+    @Getter
+    private final int admissionsPerSecond;
+    private final ClockProvider clock;
+    private final AtomicLong issued = new AtomicLong();
+    private final UsedTokens usedTokens = new UsedTokens();
+    private final long maxCredit;
+
+    private volatile long admitted;
+    private long credit;
+    private long lastMillis;
+
+    /**
+     * Constructs a WaitingRoom driven by the system clock, opening now.
+     *
+     * @param session             The session guarded by the room.
+     * @param admissionsPerSecond The number of tokens admitted per second.
+     * @throws IllegalArgumentException if the admission rate is not positive.
+     */
+    public WaitingRoom(@NonNull Session session, int admissionsPerSecond) {
+        this(session, admissionsPerSecond, ClockProvider.system());
+    }
+
+    /**
+     * Constructs a WaitingRoom driven by the given clock, opening at its current
+     * time.
+     *
+     * @param session             The session guarded by the room.
+     * @param admissionsPerSecond The number of tokens admitted per second.
+     * @param clock               The clock providing the current time.
+     * @throws IllegalArgumentException if the admission rate is not positive.
+     */
+    public WaitingRoom(@NonNull Session session, int admissionsPerSecond, @NonNull ClockProvider clock) {
+        this(session, admissionsPerSecond, clock, clock.currentTimeMillis());
+    }
+
+    /**
+     * Constructs a WaitingRoom driven by the system clock, opening at the given
+     * time. Admissions start accruing from that moment.
+     *
+     * @param session             The session guarded by the room.
+     * @param admissionsPerSecond The number of tokens admitted per second.
+     * @param openingTime         The time the room opens.
+     * @throws IllegalArgumentException if the admission rate is not positive.
+     */
+    public WaitingRoom(@NonNull Session session, int admissionsPerSecond, @NonNull LocalDateTime openingTime) {
+        this(session, admissionsPerSecond, ClockProvider.system(), ClockProvider.toEpochMillis(openingTime));
+    }
+
+    private WaitingRoom(Session session, int admissionsPerSecond, ClockProvider clock, long openingMillis) {
+        if (admissionsPerSecond <= 0) {
+            throw new IllegalArgumentException("Admissions per second must be positive");
+        }
+        this.session = session;
+        this.admissionsPerSecond = admissionsPerSecond;
+        this.clock = clock;
+        this.maxCredit = admissionsPerSecond * MILLIS_PER_SECOND;
+        this.lastMillis = openingMillis;
+    }
+
+    /**
+     * Joins the room, taking the next place in the queue.
+     *
+     * @return A token numbered after every token issued before it.
+     */
+    public AdmissionToken join() {
+        return new AdmissionToken(session.getSessionId(), issued.incrementAndGet());
+    }
+
+    /**
+     * Gets the position of a token in the queue at the current time of the room's clock.
+     *
+     * @param token The token.
+     * @return The number of places left before the token is admitted, or 0 if it is admitted.
+     * @throws IllegalArgumentException if the token was issued by another room.
+     */
+    public long position(@NonNull AdmissionToken token) {
+        return position(token, clock.currentTimeMillis());
+    }
+
+    /**
+     * Gets the position of a token in the queue at the given time.
+     *
+     * @param token The token.
+     * @param now   The current time.
+     * @return The number of places left before the token is admitted, or 0 if it is admitted.
+     * @throws IllegalArgumentException if the token was issued by another room.
+     */
+    public long position(@NonNull AdmissionToken token, @NonNull LocalDateTime now) {
+        return position(token, ClockProvider.toEpochMillis(now));
+    }
+
+    /**
+     * Checks whether a token is admitted at the current time of the room's clock.
+     *
+     * @param token The token.
+     * @return true if the token may claim seats, false otherwise.
+     * @throws IllegalArgumentException if the token was issued by another room.
+     */
+    public boolean isAdmitted(@NonNull AdmissionToken token) {
+        return position(token) == 0L;
+    }
+
+    /**
+     * Checks whether a token is admitted at the given time.
+     *
+     * @param token The token.
+     * @param now   The current time.
+     * @return true if the token may claim seats, false otherwise.
+     * @throws IllegalArgumentException if the token was issued by another room.
+     */
+    public boolean isAdmitted(@NonNull AdmissionToken token, @NonNull LocalDateTime now) {
+        return position(token, now) == 0L;
+    }
+
+    /**
+     * Claims the seats of a request on behalf of an admitted token at the
+     * current time of the room's clock, like
+     * {@link #claim(AdmissionToken, ReservationRequest, LocalDateTime)}.
+     *
+     * @param token   The token of the client.
+     * @param request The seats to claim.
+     * @return A new reservation holding the claimed seats.
+     * @throws IllegalArgumentException if the token was issued by another room, or the request is
+     *                                  for another session.
+     * @throws IllegalStateException    if the token is not admitted yet, has already been used or
+     *                                  is backing another claim, the session is sold out or any of
+     *                                  the seats is already reserved.
+     */
+    public Reservation claim(@NonNull AdmissionToken token, @NonNull ReservationRequest request) {
+        return claim(token, request, clock.currentTimeMillis());
+    }
+
+    /**
+     * Claims the seats of a request on behalf of an admitted token, as
+     * {@link Reservation#claim}. The token is used up when the claim succeeds;
+     * if the claim fails, the token may be used again for another request.
+     *
+     * @param token   The token of the client.
+     * @param request The seats to claim.
+     * @param now     The current time.
+     * @return A new reservation holding the claimed seats.
+     * @throws IllegalArgumentException if the token was issued by another room, or the request is
+     *                                  for another session.
+     * @throws IllegalStateException    if the token is not admitted yet, has already been used or
+     *                                  is backing another claim, the session is sold out or any of
+     *                                  the seats is already reserved.
+     */
+    public Reservation claim(
+            @NonNull AdmissionToken token,
+            @NonNull ReservationRequest request,
+            @NonNull LocalDateTime now) {
+        return claim(token, request, ClockProvider.toEpochMillis(now));
+    }
+
+    private Reservation claim(AdmissionToken token, ReservationRequest request, long nowMillis) {
+        if (request.getSession() != session) {
+            throw new IllegalArgumentException("The request is for another session.");
+        }
+        if (position(token, nowMillis) != 0L) {
+            throw new IllegalStateException("The admission token has not been admitted yet.");
+        }
+        if (!usedTokens.begin(token.getSequence())) {
+            throw new IllegalStateException("The admission token has already been used.");
+        }
+        boolean claimed = false;
+        try {
+            Reservation reservation = Reservation.claim(
+                    request.getReservationId(),
+                    request.getUser(),
+                    session,
+                    request.getSeats(),
+                    request.getCreationTime(),
+                    request.getExpirationTime(),
+                    request.getLockProvider(),
+                    null,
+                    request.getPrice());
+            claimed = true;
+            return reservation;
+        } finally {
+            usedTokens.finish(token.getSequence(), claimed);
+        }
+    }
+
+    /**
+     * Checks whether a token has been used up by a successful claim, or is
+     * backing a claim in progress.
+     *
+     * @param token The token.
+     * @return true if the token can no longer claim seats, false otherwise.
+     * @throws IllegalArgumentException if the token was issued by another room.
+     */
+    public boolean isUsed(@NonNull AdmissionToken token) {
+        requireOwnToken(token);
+        return usedTokens.isUsed(token.getSequence());
+    }
+
+    /**
+     * Gets the number of tokens issued but not admitted at the current time of
+     * the room's clock.
+     *
+     * @return The number of clients still waiting.
+     */
+    public long waitingCount() {
+        return issued.get() - advanceTo(clock.currentTimeMillis());
+    }
+
+    /**
+     * Gets the number of tokens issued but not admitted at the given time.
+     *
+     * @param now The current time.
+     * @return The number of clients still waiting.
+     */
+    public long waitingCount(@NonNull LocalDateTime now) {
+        return issued.get() - advanceTo(ClockProvider.toEpochMillis(now));
+    }
+
+    private long position(AdmissionToken token, long nowMillis) {
+        requireOwnToken(token);
+        if (token.getSequence() <= admitted) {
+            return 0L;
+        }
+        return Math.max(0L, token.getSequence() - advanceTo(nowMillis));
+    }
+
+    /**
+     * Moves the admission frontier forward to the given time and returns it.
+     * Times earlier than the last one seen leave the frontier unchanged.
+     */
+    private synchronized long advanceTo(long nowMillis) {
+        if (nowMillis > lastMillis) {
+            // A second of admissions fills the bank, so longer gaps are capped
+            // before multiplying; a negative difference means it overflowed.
+            long elapsed = nowMillis - lastMillis;
+            if (elapsed < 0L || elapsed > MILLIS_PER_SECOND) {
+                elapsed = MILLIS_PER_SECOND;
+            }
+            credit = Math.min(maxCredit, credit + elapsed * admissionsPerSecond);
+            lastMillis = nowMillis;
+        }
+        long waiting = issued.get() - admitted;
+        long admissions = Math.min(waiting, credit / MILLIS_PER_SECOND);
+        if (admissions > 0) {
+            credit -= admissions * MILLIS_PER_SECOND;
+            admitted += admissions;
+        }
+        return admitted;
+    }
+
+    private void requireOwnToken(AdmissionToken token) {
+        if (!token.getSessionId().equals(session.getSessionId()) || token.getSequence() > issued.get()) {
+            throw new IllegalArgumentException("The admission token was not issued by this waiting room.");
+        }
+    }
+
+    /**
+     * Tracks which tokens have been used up by a successful claim, and which are
+     * backing a claim in progress.
+     */
+    private static final class UsedTokens {
+        private final Set<Long> inProgress = new HashSet<>();
+        private long usedUpTo;
+        private BitSet usedAbove = new BitSet();
+
+        /**
+         * Marks a token as backing a claim in progress.
+         *
+         * @return false if the token is used or already backing another claim.
+         */
+        synchronized boolean begin(long sequence) {
+            return !isUsedUp(sequence) && inProgress.add(sequence);
+        }
+
+        /**
+         * Ends the claim backed by a token, using the token up if the claim
+         * succeeded.
+         */
+        synchronized void finish(long sequence, boolean claimed) {
+            inProgress.remove(sequence);
+            if (!claimed) {
+                return;
+            }
+            usedAbove.set(Math.toIntExact(sequence - usedUpTo - 1));
+            int used = usedAbove.nextClearBit(0);
+            if (used > 0) {
+                usedUpTo += used;
+                usedAbove = usedAbove.get(used, usedAbove.length());
+            }
+        }
+
+        synchronized boolean isUsed(long sequence) {
+            return isUsedUp(sequence) || inProgress.contains(sequence);
+        }
+
+        private boolean isUsedUp(long sequence) {
+            return sequence <= usedUpTo || usedAbove.get(Math.toIntExact(sequence - usedUpTo - 1));
+        }
+    }
+}
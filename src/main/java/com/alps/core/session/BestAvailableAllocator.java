@@ -0,0 +1,306 @@
+package com.alps.core.session;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+import lombok.NonNull;
+
+/**
+ * Finds and claims blocks of adjacent seats in a session. The seats are
+ * organized in rows given in order of preference, each listing its seat ids in
+ * physical order. Every row keeps a segment tree over its free seats that
+ * tracks the longest free run, so rows without a large enough block are
+ * skipped in constant time and a fitting block is found in logarithmic time,
+ * which keeps allocation fast even at high occupancy.
+ *
+ * The allocator listens to the session's {@link SeatInventory}, so seats
+ * reserved or released through any other path are reflected in its indexes.
+ * The listener only flags the changed seat in a per-row dirty bitset with an
+ * atomic update, so reserving and releasing seats stays lock-free; flagged
+ * seats are re-read into the segment trees on the next search. Blocks are
+ * claimed with {@link SeatInventory#reserveAll(int...)}; when a concurrent
+ * claim wins the race for a block, the block is flagged and the search starts
+ * again from the best row, a bounded number of times.
+ *
+ * The allocator should be closed once it is no longer needed, which
+ * unregisters its listener from the inventory.
+ */
+public class BestAvailableAllocator implements AutoCloseable {
+
+    private static final int MAX_ATTEMPTS = 16;
+
+    private final SeatInventory inventory;
+    private final Row[] rows;
+    private final Row[] rowOfSeat;
+    private final int[] positionOfSeat;
+    private final SeatInventory.Listener listener = this::markChanged;
+    private volatile boolean closed;
+
+    /**
+     * Constructs a BestAvailableAllocator for a session.
+     *
+     * @param session The session whose seats are allocated.
+     * @param rows    The rows of seat ids, best row first, each in physical
+     *                order. Seats not listed in any row are never allocated.
+     * @throws IllegalArgumentException if a row is empty, a seat is unknown to
+     *                                  the session or listed more than once.
+     */
+    public BestAvailableAllocator(@NonNull Session session, @NonNull List<List<String>> rows) {
+        this.inventory = session.getInventory();
+        this.rows = new Row[rows.size()];
+        this.rowOfSeat = new Row[inventory.capacity()];
+        this.positionOfSeat = new int[inventory.capacity()];
+
+        for (int r = 0; r < rows.size(); r++) {
+            List<String> seatIds = rows.get(r);
+            if (seatIds.isEmpty()) {
+                throw new IllegalArgumentException("Rows must not be empty");
+            }
+            int[] indexes = new int[seatIds.size()];
+            Row row = new Row(indexes);
+            for (int position = 0; position < indexes.length; position++) {
+                int index = inventory.indexOf(seatIds.get(position));
+                if (index < 0) {
+                    throw new IllegalArgumentException("Unknown seat id: " + seatIds.get(position));
+                }
+                if (rowOfSeat[index] != null) {
+                    throw new IllegalArgumentException("Seat listed more than once: " + seatIds.get(position));
+                }
+                indexes[position] = index;
+                rowOfSeat[index] = row;
+                positionOfSeat[index] = position;
+            }
+            this.rows[r] = row;
+        }
+
+        inventory.addListener(listener);
+        for (Row row : this.rows) {
+            for (int position = 0; position < row.size; position++) {
+                row.markDirty(position);
+            }
+        }
+    }
+
+    /**
+     * Finds the best block of adjacent available seats and claims it. Rows are
+     * searched in order of preference, and the first fitting block of the first
+     * row that has one is taken.
+     *
+     * @param count The number of adjacent seats wanted.
+     * @return The ids of the claimed seats in physical order, or an empty
+     *         optional if no row has a large enough block.
+     * @throws IllegalArgumentException if the count is not positive.
+     * @throws IllegalStateException    if the allocator is closed.
+     */
+    public Optional<List<String>> allocate(int count) {
+        if (count <= 0) {
+            throw new IllegalArgumentException("Count must be positive");
+        }
+        ensureOpen();
+        if (inventory.remainingSeats() < count) {
+            return Optional.empty();
+        }
+
+        for (int attempt = 0; attempt < MAX_ATTEMPTS; attempt++) {
+            int[] block = findBest(count);
+            if (block == null) {
+                return Optional.empty();
+            }
+            if (inventory.reserveAll(block)) {
+                return Optional.of(seatIds(block));
+            }
+            for (int index : block) {
+                markChanged(index);
+            }
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * Gets the size of the largest block of adjacent available seats in any
+     * row.
+     *
+     * @return The length of the longest free run.
+     * @throws IllegalStateException if the allocator is closed.
+     */
+    public int largestAvailableBlock() {
+        ensureOpen();
+        int largest = 0;
+        for (Row row : rows) {
+            largest = Math.max(largest, row.longestRun());
+        }
+        return largest;
+    }
+
+    /**
+     * Unregisters the allocator from the session's inventory. The allocator
+     * cannot be used afterwards.
+     */
+    @Override
+    public void close() {
+        closed = true;
+        inventory.removeListener(listener);
+    }
+
+    /**
+     * Finds the first fitting block of the first row that has one, or null if
+     * no row has a large enough block.
+     */
+    private int[] findBest(int count) {
+        for (Row row : rows) {
+            int start = row.findFirst(count);
+            if (start >= 0) {
+                int[] block = new int[count];
+                System.arraycopy(row.indexes, start, block, 0, count);
+                return block;
+            }
+        }
+        return null;
+    }
+
+    private void ensureOpen() {
+        if (closed) {
+            throw new IllegalStateException("The allocator is closed.");
+        }
+    }
+
+    /**
+     * Called by the inventory on the thread changing a seat, so it must not block.
+     */
+    private void markChanged(int index) {
+        Row row = rowOfSeat[index];
+        if (row != null) {
+            row.markDirty(positionOfSeat[index]);
+        }
+    }
+
+    private List<String> seatIds(int[] block) {
+        List<String> seatIds = new ArrayList<>(block.length);
+        for (int index : block) {
+            seatIds.add(inventory.seatIdAt(index));
+        }
+        return Collections.unmodifiableList(seatIds);
+    }
+
+    /**
+     * A row of seats with a segment tree over its free seats. Each node stores
+     * the length of the free run at the start of its range, at the end of its
+     * range, and the longest free run inside it. Changed positions are flagged
+     * in a dirty bitset without locking and applied to the tree before it is
+     * read.
+     */
+    private final class Row {
+        private final int[] indexes;
+        private final int size;
+        private final int[] prefix;
+        private final int[] suffix;
+        private final int[] longest;
+        private final AtomicLongArray dirtyPositions;
+        private final AtomicBoolean dirty = new AtomicBoolean();
+
+        private Row(int[] indexes) {
+            this.indexes = indexes;
+            this.size = indexes.length;
+            this.prefix = new int[4 * size];
+            this.suffix = new int[4 * size];
+            this.longest = new int[4 * size];
+            this.dirtyPositions = new AtomicLongArray((size + 63) >>> 6);
+        }
+
+        /**
+         * Flags the seat at a position of the row as changed. The bit is set
+         * before the row flag, so a concurrent {@link #sync()} that clears the
+         * flag either sees the bit or leaves the flag raised again.
+         */
+        void markDirty(int position) {
+            long bit = 1L << position;
+            int word = position >>> 6;
+            long current;
+            do {
+                current = dirtyPositions.get(word);
+            } while ((current & bit) == 0L && !dirtyPositions.compareAndSet(word, current, current | bit));
+            dirty.set(true);
+        }
+
+        synchronized int longestRun() {
+            sync();
+            return longest[1];
+        }
+
+        /**
+         * Finds the leftmost position starting a free run of at least the given
+         * length, or -1 if there is none.
+         */
+        synchronized int findFirst(int count) {
+            sync();
+            if (longest[1] < count) {
+                return -1;
+            }
+            return find(1, 0, size - 1, count);
+        }
+
+        /**
+         * Re-reads the availability of every flagged seat into the tree. Must be
+         * called while holding the row's monitor.
+         */
+        private void sync() {
+            if (!dirty.getAndSet(false)) {
+                return;
+            }
+            for (int word = 0; word < dirtyPositions.length(); word++) {
+                long bits = dirtyPositions.getAndSet(word, 0L);
+                while (bits != 0L) {
+                    int position = (word << 6) + Long.numberOfTrailingZeros(bits);
+                    update(1, 0, size - 1, position, inventory.isAvailable(indexes[position]) ? 1 : 0);
+                    bits &= bits - 1;
+                }
+            }
+        }
+
+        private void update(int node, int low, int high, int position, int free) {
+            if (low == high) {
+                prefix[node] = free;
+                suffix[node] = free;
+                longest[node] = free;
+                return;
+            }
+            int middle = (low + high) >>> 1;
+            if (position <= middle) {
+                update(2 * node, low, middle, position, free);
+            } else {
+                update(2 * node + 1, middle + 1, high, position, free);
+            }
+            pull(node, low, middle, high);
+        }
+
+        private void pull(int node, int low, int middle, int high) {
+            int left = 2 * node;
+            int right = left + 1;
+            int leftLength = middle - low + 1;
+            int rightLength = high - middle;
+            prefix[node] = prefix[left] == leftLength ? leftLength + prefix[right] : prefix[left];
+            suffix[node] = suffix[right] == rightLength ? rightLength + suffix[left] : suffix[right];
+            longest[node] = Math.max(Math.max(longest[left], longest[right]), suffix[left] + prefix[right]);
+        }
+
+        private int find(int node, int low, int high, int count) {
+            if (low == high) {
+                return low;
+            }
+            int middle = (low + high) >>> 1;
+            int left = 2 * node;
+            int right = left + 1;
+            if (longest[left] >= count) {
+                return find(left, low, middle, count);
+            }
+            if (suffix[left] + prefix[right] >= count) {
+                return middle - suffix[left] + 1;
+            }
+            return find(right, middle + 1, high, count);
+        }
+    }
+}
@@ -0,0 +1,86 @@
+package com.alps.core.session;
+
+import lombok.NonNull;
+
+/**
+ * Reads the occupancy of a session from the remaining-seats counter of its
+ * {@link SeatInventory}, without locking or scanning the seats, so it can be
+ * consulted on every quote. While reservations are in flight on other threads
+ * the reading may briefly lag behind them.
+ */
+public final class OccupancyGauge {
+
+    private final SeatInventory inventory;
+    private final int capacity;
+
+    private OccupancyGauge(SeatInventory inventory) {
+        this.inventory = inventory;
+        this.capacity = inventory.capacity();
+    }
+
+    /**
+     * Creates a gauge reading the occupancy of a session.
+     *
+     * @param session The session to observe.
+     * @return A new OccupancyGauge.
+     */
+    public static OccupancyGauge of(@NonNull Session session) {
+        return of(session.getInventory());
+    }
+
+    /**
+     * Creates a gauge reading the occupancy of an inventory.
+     *
+     * @param inventory The inventory to observe.
+     * @return A new OccupancyGauge.
+     */
+    public static OccupancyGauge of(@NonNull SeatInventory inventory) {
+        return new OccupancyGauge(inventory);
+    }
+
+    /**
+     * Gets the number of seats of the session.
+     *
+     * @return The capacity.
+     */
+    public int capacity() {
+        return capacity;
+    }
+
+    /**
+     * Gets the number of seats that are not available.
+     *
+     * @return The number of occupied seats, between zero and the capacity.
+     */
+    public int occupiedSeats() {
+        return Math.max(0, Math.min(capacity, capacity - inventory.remainingSeats()));
+    }
+
+    /**
+     * Gets the occupancy band the session is in, when occupancy is divided into
+     * equal bands. A full session is in the last band.
+     *
+     * @param bands The number of bands.
+     * @return The band, from zero to {@code bands - 1}. Sessions without seats
+     *         are in band zero.
+     * @throws IllegalArgumentException if the number of bands is not positive.
+     */
+    public int band(int bands) {
+        if (bands <= 0) {
+            throw new IllegalArgumentException("Bands must be positive");
+        }
+        if (capacity == 0) {
+            return 0;
+        }
+        return (int) Math.min(bands - 1, (long) occupiedSeats() * bands / capacity);
+    }
+
+    /**
+     * Gets the occupancy as a fraction of the capacity.
+     *
+     * @return The occupancy, from 0 to 1.
+     */
+    public double occupancy() {
+        return capacity == 0 ? 0.0 : (double) occupiedSeats() / capacity;
+    }
+}
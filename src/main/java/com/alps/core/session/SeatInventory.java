@@ -0,0 +1,504 @@
+package com.alps.core.session;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+import com.alps.core.location.LocationSeat;
+
+import lombok.NonNull;
+
+/**
+ * Tracks the live availability of the seats of a session.
+ * Each seat id is mapped to a dense index when the inventory is built, and
+ * availability is kept in an atomic bitset where a set bit means the seat is
+ * available. Lookups are constant time and reserve/release operations are a
+ * single compare-and-set on the word holding the seat, without taking a lock.
+ * A striped counter of remaining seats is maintained alongside the bitset, so
+ * capacity checks and the sold-out gate are answered without scanning it.
+ */
+public class SeatInventory {
+
+    private static final int WORD_SHIFT = 6;
+    private static final int WORD_MASK = (1 << WORD_SHIFT) - 1;
+
+    private final String[] seatIds;
+    private final Map<String, Integer> indexes;
+    private final AtomicLongArray availability;
+    private final LongAdder remaining = new LongAdder();
+    private volatile Listener[] listeners = new Listener[0];
+
+    /**
+     * Receives notifications when the availability of a seat changes. Listeners
+     * are called on the thread that changed the seat, after the change, and
+     * notifications for the same seat may arrive out of order across threads, so
+     * listeners should re-read the availability they care about.
+     */
+    @FunctionalInterface
+    public interface Listener {
+        /**
+         * Called after the seat at the given index was reserved or released.
+         *
+         * @param index The index of the seat whose availability changed.
+         */
+        void availabilityChanged(int index);
+    }
+
+    /**
+     * Constructs a new SeatInventory from the seat ids in their index order.
+     *
+     * @param seatIds The seat ids, where the position of each id is its index.
+     */
+    private SeatInventory(String[] seatIds) {
+        this.seatIds = seatIds;
+        this.indexes = new HashMap<>(seatIds.length * 2);
+        this.availability = new AtomicLongArray((seatIds.length + WORD_MASK) >>> WORD_SHIFT);
+        for (int index = 0; index < seatIds.length; index++) {
+            if (indexes.putIfAbsent(seatIds[index], index) != null) {
+                throw new IllegalArgumentException("Duplicate seat id: " + seatIds[index]);
+            }
+        }
+    }
+
+    /**
+     * Factory method to create an inventory from a collection of seats. Seats are
+     * indexed in the iteration order of the collection and start with the
+     * availability reported by {@link LocationSeat#isAvailable()}.
+     *
+     * @param seats The seats to track.
+     * @return A new SeatInventory for the given seats.
+     * @throws IllegalArgumentException if two seats share the same id.
+     */
+    public static SeatInventory of(@NonNull Collection<LocationSeat> seats) {
+        String[] seatIds = new String[seats.size()];
+        boolean[] available = new boolean[seats.size()];
+        int index = 0;
+        for (LocationSeat seat : seats) {
+            seatIds[index] = seat.getSeatId();
+            available[index] = seat.isAvailable();
+            index++;
+        }
+
+        SeatInventory inventory = new SeatInventory(seatIds);
+        for (int i = 0; i < available.length; i++) {
+            if (available[i]) {
+                inventory.tryRelease(i);
+            }
+        }
+        return inventory;
+    }
+
+    /**
+     * Registers a listener notified of every subsequent availability change.
+     *
+     * @param listener The listener to register.
+     */
+    public synchronized void addListener(@NonNull Listener listener) {
+        Listener[] current = listeners;
+        Listener[] updated = Arrays.copyOf(current, current.length + 1);
+        updated[current.length] = listener;
+        listeners = updated;
+    }
+
+    /**
+     * Unregisters a listener, which receives no further notification once this
+     * method returns, apart from notifications already in progress.
+     *
+     * @param listener The listener to unregister, as passed to
+     *                 {@link #addListener(Listener)}.
+     * @return true if the listener was registered, false otherwise.
+     */
+    public synchronized boolean removeListener(@NonNull Listener listener) {
+        Listener[] current = listeners;
+        for (int i = 0; i < current.length; i++) {
+            if (current[i] == listener) {
+                Listener[] updated = new Listener[current.length - 1];
+                System.arraycopy(current, 0, updated, 0, i);
+                System.arraycopy(current, i + 1, updated, i, current.length - i - 1);
+                listeners = updated;
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Gets the number of seats tracked by this inventory.
+     *
+     * @return The number of seats.
+     */
+    public int capacity() {
+        return seatIds.length;
+    }
+
+    /**
+     * Gets the dense index assigned to a seat id.
+     *
+     * @param seatId The id of the seat.
+     * @return The index of the seat, or {@code -1} if the seat is not tracked.
+     */
+    public int indexOf(@NonNull String seatId) {
+        Integer index = indexes.get(seatId);
+        return index == null ? -1 : index;
+    }
+
+    /**
+     * Gets the seat id stored at a dense index.
+     *
+     * @param index The index of the seat.
+     * @return The id of the seat.
+     * @throws IndexOutOfBoundsException if the index is out of range.
+     */
+    public String seatIdAt(int index) {
+        return seatIds[index];
+    }
+
+    /**
+     * Checks if a seat is available.
+     *
+     * @param seatId The id of the seat.
+     * @return {@code true} if the seat is tracked and available, otherwise
+     *         {@code false}.
+     */
+    public boolean isAvailable(@NonNull String seatId) {
+        int index = indexOf(seatId);
+        return index >= 0 && isAvailable(index);
+    }
+
+    /**
+     * Checks if the seat at a dense index is available.
+     *
+     * @param index The index of the seat.
+     * @return {@code true} if the seat is available, otherwise {@code false}.
+     * @throws IndexOutOfBoundsException if the index is out of range.
+     */
+    public boolean isAvailable(int index) {
+        Objects.checkIndex(index, seatIds.length);
+        return (availability.get(index >>> WORD_SHIFT) & bit(index)) != 0;
+    }
+
+    /**
+     * Checks if at least one seat is available.
+     *
+     * @return {@code true} if any seat is available, otherwise {@code false}.
+     */
+    public boolean hasAvailableSeats() {
+        return remainingSeats() > 0;
+    }
+
+    /**
+     * Gets the number of available seats. The count is maintained on every
+     * reserve and release, so reading it does not scan the inventory. While
+     * changes are in flight on other threads it may briefly lag behind them.
+     *
+     * @return The number of available seats.
+     */
+    public int remainingSeats() {
+        return remaining.intValue();
+    }
+
+    /**
+     * Attempts to reserve a seat, making it unavailable.
+     *
+     * @param seatId The id of the seat.
+     * @return {@code true} if the seat was available and is now reserved,
+     *         {@code false} if it was already reserved.
+     * @throws IllegalArgumentException if the seat is not tracked.
+     */
+    public boolean tryReserve(@NonNull String seatId) {
+        return tryReserve(requireIndex(seatId));
+    }
+
+    /**
+     * Attempts to reserve the seat at a dense index, making it unavailable.
+     *
+     * @param index The index of the seat.
+     * @return {@code true} if the seat was available and is now reserved,
+     *         {@code false} if it was already reserved.
+     * @throws IndexOutOfBoundsException if the index is out of range.
+     */
+    public boolean tryReserve(int index) {
+        Objects.checkIndex(index, seatIds.length);
+        int word = index >>> WORD_SHIFT;
+        long bit = bit(index);
+        long current;
+        do {
+            current = availability.get(word);
+            if ((current & bit) == 0) {
+                return false;
+            }
+        } while (!availability.compareAndSet(word, current, current & ~bit));
+        remaining.decrement();
+        notifyChanged(index);
+        return true;
+    }
+
+    /**
+     * Attempts to release a seat, making it available again.
+     *
+     * @param seatId The id of the seat.
+     * @return {@code true} if the seat was reserved and is now available,
+     *         {@code false} if it was already available.
+     * @throws IllegalArgumentException if the seat is not tracked.
+     */
+    public boolean tryRelease(@NonNull String seatId) {
+        return tryRelease(requireIndex(seatId));
+    }
+
+    /**
+     * Attempts to release the seat at a dense index, making it available again.
+     *
+     * @param index The index of the seat.
+     * @return {@code true} if the seat was reserved and is now available,
+     *         {@code false} if it was already available.
+     * @throws IndexOutOfBoundsException if the index is out of range.
+     */
+    public boolean tryRelease(int index) {
+        Objects.checkIndex(index, seatIds.length);
+        int word = index >>> WORD_SHIFT;
+        long bit = bit(index);
+        long current;
+        do {
+            current = availability.get(word);
+            if ((current & bit) != 0) {
+                return false;
+            }
+        } while (!availability.compareAndSet(word, current, current | bit));
+        remaining.increment();
+        notifyChanged(index);
+        return true;
+    }
+
+    /**
+     * Atomically reserves a group of seats. Either every seat is reserved or none
+     * is. Seats are claimed in ascending index order, so concurrent group claims
+     * never wait on each other, and seats sharing a bitset word are claimed with a
+     * single compare-and-set on a bitmask. If any seat is already reserved, the
+     * words claimed so far are rolled back before returning.
+     *
+     * @param seatIds The ids of the seats to reserve.
+     * @return {@code true} if all seats were reserved, {@code false} if at least
+     *         one of them was already reserved.
+     * @throws IllegalArgumentException if any seat is not tracked.
+     */
+    public boolean reserveAll(@NonNull Collection<String> seatIds) {
+        return reserveAll(toIndexes(seatIds));
+    }
+
+    /**
+     * Atomically reserves the seats at a group of dense indexes. Either every
+     * seat is reserved or none is.
+     *
+     * @param indexes The indexes of the seats to reserve.
+     * @return {@code true} if all seats were reserved, {@code false} if at least
+     *         one of them was already reserved.
+     * @throws IndexOutOfBoundsException if any index is out of range.
+     */
+    public boolean reserveAll(@NonNull int... indexes) {
+        int[] sorted = sortedIndexes(indexes);
+        int start = 0;
+        while (start < sorted.length) {
+            int word = sorted[start] >>> WORD_SHIFT;
+            int end = start;
+            long mask = 0L;
+            while (end < sorted.length && (sorted[end] >>> WORD_SHIFT) == word) {
+                mask |= bit(sorted[end]);
+                end++;
+            }
+            if (!clearBits(word, mask)) {
+                rollback(sorted, start);
+                return false;
+            }
+            start = end;
+        }
+        remaining.add(-sorted.length);
+        for (int index : sorted) {
+            notifyChanged(index);
+        }
+        return true;
+    }
+
+    /**
+     * Releases a group of seats, making every reserved seat in the group
+     * available again. Seats sharing a bitset word are released with a single
+     * compare-and-set on a bitmask.
+     *
+     * @param seatIds The ids of the seats to release.
+     * @return The number of seats that were reserved and are now available.
+     * @throws IllegalArgumentException if any seat is not tracked.
+     */
+    public int releaseAll(@NonNull Collection<String> seatIds) {
+        return releaseAll(toIndexes(seatIds));
+    }
+
+    /**
+     * Releases the seats at a group of dense indexes, making every reserved seat
+     * in the group available again.
+     *
+     * @param indexes The indexes of the seats to release.
+     * @return The number of seats that were reserved and are now available.
+     * @throws IndexOutOfBoundsException if any index is out of range.
+     */
+    public int releaseAll(@NonNull int... indexes) {
+        int[] sorted = sortedIndexes(indexes);
+        int released = 0;
+        int start = 0;
+        while (start < sorted.length) {
+            int word = sorted[start] >>> WORD_SHIFT;
+            long mask = 0L;
+            while (start < sorted.length && (sorted[start] >>> WORD_SHIFT) == word) {
+                mask |= bit(sorted[start]);
+                start++;
+            }
+            long changed = setBits(word, mask);
+            released += Long.bitCount(changed);
+            notifyChanged(word, changed);
+        }
+        remaining.add(released);
+        return released;
+    }
+
+    /**
+     * Gets the number of words of the availability bitmap. Each word covers 64
+     * consecutive seat indexes.
+     *
+     * @return The number of words.
+     */
+    public int wordCount() {
+        return availability.length();
+    }
+
+    /**
+     * Gets a word of the availability bitmap. Bit {@code i} of word {@code w}
+     * stands for the seat at index {@code w * 64 + i}, and a set bit means the
+     * seat is available.
+     *
+     * @param word The position of the word.
+     * @return The availability bits of the word.
+     * @throws IndexOutOfBoundsException if the word is out of range.
+     */
+    public long availabilityWord(int word) {
+        return availability.get(word);
+    }
+
+    /**
+     * Replaces a word of the availability bitmap, typically when restoring a
+     * snapshot. Bits beyond the capacity are ignored, the remaining-seat count
+     * is adjusted and listeners are notified of every seat that changed.
+     *
+     * @param word The position of the word.
+     * @param bits The availability bits of the word.
+     * @throws IndexOutOfBoundsException if the word is out of range.
+     */
+    public void restoreWord(int word, long bits) {
+        int seats = seatIds.length - (Objects.checkIndex(word, availability.length()) << WORD_SHIFT);
+        long valid = seats >= Long.SIZE ? -1L : (1L << seats) - 1;
+        long previous = availability.getAndSet(word, bits & valid);
+        long changed = previous ^ (bits & valid);
+        remaining.add(Long.bitCount(bits & valid) - Long.bitCount(previous));
+        notifyChanged(word, changed);
+    }
+
+    /**
+     * Clears every bit of the mask in one compare-and-set, provided all of them
+     * are currently set.
+     */
+    private boolean clearBits(int word, long mask) {
+        long current;
+        do {
+            current = availability.get(word);
+            if ((current & mask) != mask) {
+                return false;
+            }
+        } while (!availability.compareAndSet(word, current, current & ~mask));
+        return true;
+    }
+
+    /**
+     * Sets the bits of the mask in one compare-and-set and returns the bits that
+     * were actually changed.
+     */
+    private long setBits(int word, long mask) {
+        long current;
+        do {
+            current = availability.get(word);
+            if ((current & mask) == mask) {
+                return 0L;
+            }
+        } while (!availability.compareAndSet(word, current, current | mask));
+        return mask & ~current;
+    }
+
+    /**
+     * Gives back the seats claimed before the failing position of a group
+     * reservation.
+     */
+    private void rollback(int[] sorted, int failedAt) {
+        int start = 0;
+        while (start < failedAt) {
+            int word = sorted[start] >>> WORD_SHIFT;
+            long mask = 0L;
+            while (start < failedAt && (sorted[start] >>> WORD_SHIFT) == word) {
+                mask |= bit(sorted[start]);
+                start++;
+            }
+            setBits(word, mask);
+        }
+    }
+
+    private void notifyChanged(int index) {
+        for (Listener listener : listeners) {
+            listener.availabilityChanged(index);
+        }
+    }
+
+    private void notifyChanged(int word, long changedBits) {
+        if (listeners.length == 0) {
+            return;
+        }
+        long bits = changedBits;
+        while (bits != 0L) {
+            int index = (word << WORD_SHIFT) + Long.numberOfTrailingZeros(bits);
+            notifyChanged(index);
+            bits &= bits - 1;
+        }
+    }
+
+    private int[] toIndexes(Collection<String> seatIds) {
+        int[] result = new int[seatIds.size()];
+        int position = 0;
+        for (String seatId : seatIds) {
+            result[position++] = requireIndex(seatId);
+        }
+        return result;
+    }
+
+    private int[] sortedIndexes(int[] indexes) {
+        int[] sorted = indexes.clone();
+        Arrays.sort(sorted);
+        int unique = 0;
+        for (int position = 0; position < sorted.length; position++) {
+            Objects.checkIndex(sorted[position], seatIds.length);
+            if (unique == 0 || sorted[unique - 1] != sorted[position]) {
+                sorted[unique++] = sorted[position];
+            }
+        }
+        return unique == sorted.length ? sorted : Arrays.copyOf(sorted, unique);
+    }
+
+    private int requireIndex(String seatId) {
+        int index = indexOf(seatId);
+        if (index < 0) {
+            throw new IllegalArgumentException("Unknown seat id: " + seatId);
+        }
+        return index;
+    }
+
+    private static long bit(int index) {
+        return 1L << (index & WORD_MASK);
+    }
+}
@@ -1,7 +1,9 @@
 package com.alps.core.session;
 
+import com.alps.core.clock.ClockProvider;
 import com.alps.core.location.Location;
 import com.alps.core.location.LocationSeat;
+import lombok.AccessLevel;
 import lombok.EqualsAndHashCode;
 import lombok.Getter;
 import lombok.NonNull;
@@ -13,6 +15,7 @@ import java.util.Set;
  * Represents a scheduled session that occurs at a specific location and within a specified time frame.
  * Each session is unique and identified by a session ID, and contains details such as the session's name,
  * start and end times, location, and a set of seats. This class is used to determine its active state based on the current time.
+ * Live seat availability is tracked by a {@link SeatInventory} built from the seats when the session is created.
  */
 @Getter
 @EqualsAndHashCode
@@ -23,6 +26,14 @@ public class Session {
     private final LocalDateTime endTime;
     private final Location location;
     private final Set<LocationSeat> seats;
+    @EqualsAndHashCode.Exclude
+    private final SeatInventory inventory;
+    @Getter(AccessLevel.NONE)
+    @EqualsAndHashCode.Exclude
+    private final long startEpochMillis;
+    @Getter(AccessLevel.NONE)
+    @EqualsAndHashCode.Exclude
+    private final long endEpochMillis;
 
     /**
      * Constructs a new Session instance with specified details.
@@ -47,6 +58,9 @@ public class Session {
         this.endTime = endTime;
         this.location = location;
         this.seats = seats;
+        this.inventory = SeatInventory.of(seats);
+        this.startEpochMillis = ClockProvider.toEpochMillis(startTime);
+        this.endEpochMillis = ClockProvider.toEpochMillis(endTime);
     }
 
     /**
@@ -83,30 +97,59 @@ public class Session {
      * @return {@code true} if the current time is after the session's start time and before its end time, otherwise {@code false}.
      */
     public boolean isActive() {
-        LocalDateTime now = LocalDateTime.now();
-        return now.isAfter(startTime) && now.isBefore(endTime);
+        return isActive(ClockProvider.system());
+    }
+
+    /**
+     * Determines whether the session is active at the time given by a clock. The bounds are
+     * converted to epoch milliseconds when the session is created, so this compares primitives only.
+     * 
+     * @param clock The clock providing the current time.
+     * @return {@code true} if the current time is after the session's start time and before its end time, otherwise {@code false}.
+     */
+    public boolean isActive(@NonNull ClockProvider clock) {
+        long now = clock.currentTimeMillis();
+        return now > startEpochMillis && now < endEpochMillis;
     }
 
     /**
      * Checks if there are any available seats for this session.
+     * This reads the remaining-seat counter of the session's {@link SeatInventory}.
      * 
      * @return {@code true} if at least one seat is available, otherwise {@code false}.
      */
     public boolean hasAvailableSeats() {
-        return seats.stream().anyMatch(LocationSeat::isAvailable);
+        return inventory.hasAvailableSeats();
+    }
+
+    /**
+     * Gets the number of seats still available for this session. The count is kept up to date by
+     * every reservation, release and expiry, so this does not scan the seats.
+     * 
+     * @return The number of available seats.
+     */
+    public int remainingSeats() {
+        return inventory.remainingSeats();
+    }
+
+    /**
+     * Checks if every seat of this session is reserved. This is meant as a cheap gate that rejects
+     * requests before any lock is touched.
+     * 
+     * @return {@code true} if no seat is available, otherwise {@code false}.
+     */
+    public boolean isSoldOut() {
+        return inventory.remainingSeats() <= 0;
     }
 
     /**
      * Checks if a specific seat is available for this session.
+     * The lookup is constant time through the session's {@link SeatInventory}.
      * 
      * @param seatId The ID of the seat to check.
      * @return {@code true} if the specified seat is available, otherwise {@code false}.
      */
     public boolean isSeatAvailable(String seatId) {
-        return seats.stream()
-                    .filter(seat -> seat.getSeatId().equals(seatId))
-                    .findFirst()
-                    .map(LocationSeat::isAvailable)
-                    .orElse(false);
+        return seatId != null && inventory.isAvailable(seatId);
     }
 }
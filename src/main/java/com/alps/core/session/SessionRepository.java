@@ -0,0 +1,13 @@
+package com.alps.core.session;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface SessionRepository {
+    Session findById(String id);
+    List<Session> findActiveAt(LocalDateTime time);
+    List<Session> findStartingBetween(LocalDateTime from, LocalDateTime to);
+    List<Session> findOverlapping(LocalDateTime from, LocalDateTime to);
+    Session save(Session session);
+    void delete(String id);
+}
@@ -2,12 +2,14 @@ package com.alps.core.ticket;
 
 import java.time.LocalDate;
 
+import com.alps.core.clock.ClockProvider;
 import com.alps.core.location.LocationSeat;
 import com.alps.core.price.Price;
 import com.alps.core.reservation.Reservation;
 import com.alps.core.session.Session;
 import com.alps.core.user.User;
 
+import lombok.AccessLevel;
 import lombok.EqualsAndHashCode;
 import lombok.Getter;
 import lombok.NonNull;
@@ -29,6 +31,9 @@ public class Ticket {
     private final Price price;
     private final LocalDate validUntil;
     private boolean used;
+    @Getter(AccessLevel.NONE)
+    @EqualsAndHashCode.Exclude
+    private final long validUntilEpochMillis;
 
     /**
      * Constructs a new Ticket instance with the specified details.
@@ -60,6 +65,7 @@ public class Ticket {
         this.price = price;
         this.validUntil = validUntil;
         this.used = used;
+        this.validUntilEpochMillis = ClockProvider.toEpochMillis(validUntil);
     }
 
     /**
@@ -113,7 +119,19 @@ public class Ticket {
      * @return True if the ticket is valid, otherwise false.
      */
     public boolean isValid() {
-        return !used && LocalDate.now().isBefore(validUntil) && session.isActive();
+        return isValid(ClockProvider.system());
+    }
+
+    /**
+     * Checks whether the ticket is valid at the time given by a clock, with the same rules as
+     * {@link #isValid()}. Every bound is precomputed in epoch milliseconds, so the check does not
+     * allocate.
+     *
+     * @param clock The clock providing the current time.
+     * @return True if the ticket is valid, otherwise false.
+     */
+    public boolean isValid(@NonNull ClockProvider clock) {
+        return !used && clock.currentTimeMillis() < validUntilEpochMillis && session.isActive(clock);
     }
 
 }
\ No newline at end of file
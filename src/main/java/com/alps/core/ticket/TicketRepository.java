@@ -0,0 +1,14 @@
+package com.alps.core.ticket;
+
+import java.time.LocalDate;
+import java.util.List;
+
+public interface TicketRepository {
+    Ticket findById(String id);
+    List<Ticket> findByUserId(String userId);
+    List<Ticket> findBySessionId(String sessionId);
+    List<Ticket> findExpired(LocalDate today);
+    Ticket save(Ticket ticket);
+    void delete(String id);
+    int deleteExpired(LocalDate today);
+}
@@ -0,0 +1,74 @@
+package com.alps.infrastructure.clock;
+
+import java.time.Duration;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import com.alps.core.clock.ClockProvider;
+
+import lombok.Getter;
+import lombok.NonNull;
+
+/**
+ * A coarse-grained {@link ClockProvider} whose time is refreshed by a
+ * background ticker. Reading the time is a single volatile read, which makes
+ * it suited to sweeps running millions of time checks, at the cost of being up
+ * to one resolution behind the system clock.
+ *
+ * The ticker runs on a daemon thread owned by the clock and stops when the
+ * clock is closed, after which the time no longer advances.
+ */
+public class CachedClockProvider implements ClockProvider, AutoCloseable {
+
+    private static final Duration DEFAULT_RESOLUTION = Duration.ofMillis(1);
+
+    @Getter
+    private final Duration resolution;
+    private final ScheduledExecutorService ticker;
+    private volatile long currentTimeMillis;
+
+    /**
+     * Constructs a CachedClockProvider with millisecond resolution.
+     */
+    public CachedClockProvider() {
+        this(DEFAULT_RESOLUTION);
+    }
+
+    /**
+     * Constructs a CachedClockProvider refreshed at the given resolution.
+     *
+     * @param resolution The time between two refreshes.
+     * @throws IllegalArgumentException if the resolution is shorter than a millisecond.
+     */
+    public CachedClockProvider(@NonNull Duration resolution) {
+        if (resolution.toMillis() < 1) {
+            throw new IllegalArgumentException("Resolution must be at least one millisecond");
+        }
+        this.resolution = resolution;
+        this.currentTimeMillis = System.currentTimeMillis();
+        this.ticker = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "cached-clock");
+            thread.setDaemon(true);
+            return thread;
+        });
+        ticker.scheduleAtFixedRate(
+                () -> currentTimeMillis = System.currentTimeMillis(),
+                resolution.toMillis(),
+                resolution.toMillis(),
+                TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public long currentTimeMillis() {
+        return currentTimeMillis;
+    }
+
+    /**
+     * Stops the ticker.
+     */
+    @Override
+    public void close() {
+        ticker.shutdownNow();
+    }
+}
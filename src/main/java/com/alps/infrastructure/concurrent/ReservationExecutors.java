@@ -0,0 +1,82 @@
+package com.alps.infrastructure.concurrent;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Creates executors suited to running reservation requests, which spend most
+ * of their time waiting on locks.
+ *
+ * On JDK 21 and later the default executor starts a virtual thread per task,
+ * so waiting requests do not hold on to platform threads. The library targets
+ * JDK 17, so the virtual thread executor is looked up reflectively; when it is
+ * missing, a fixed pool of daemon platform threads is used instead.
+ */
+public final class ReservationExecutors {
+
+    private static final int THREADS_PER_PROCESSOR = 8;
+    private static final Method VIRTUAL_THREAD_EXECUTOR = findVirtualThreadExecutor();
+
+    private ReservationExecutors() {
+    }
+
+    /**
+     * Creates the default executor: a virtual thread per task when the runtime
+     * supports it, otherwise a platform pool with eight threads per processor.
+     *
+     * @return A new executor, to be shut down by the caller.
+     */
+    public static ExecutorService newDefault() {
+        if (VIRTUAL_THREAD_EXECUTOR != null) {
+            try {
+                return (ExecutorService) VIRTUAL_THREAD_EXECUTOR.invoke(null);
+            } catch (ReflectiveOperationException e) {
+                // fall through to the platform pool
+            }
+        }
+        return newPlatformPool(Runtime.getRuntime().availableProcessors() * THREADS_PER_PROCESSOR);
+    }
+
+    /**
+     * Creates a fixed pool of daemon platform threads.
+     *
+     * @param threads The number of threads.
+     * @return A new executor, to be shut down by the caller.
+     * @throws IllegalArgumentException if the number of threads is not positive.
+     */
+    public static ExecutorService newPlatformPool(int threads) {
+        if (threads <= 0) {
+            throw new IllegalArgumentException("Threads must be positive");
+        }
+        return Executors.newFixedThreadPool(threads, daemonThreadFactory());
+    }
+
+    /**
+     * Checks whether the runtime supports virtual threads.
+     *
+     * @return true if {@link #newDefault()} runs tasks on virtual threads.
+     */
+    public static boolean supportsVirtualThreads() {
+        return VIRTUAL_THREAD_EXECUTOR != null;
+    }
+
+    private static ThreadFactory daemonThreadFactory() {
+        AtomicInteger counter = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, "reservation-" + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    private static Method findVirtualThreadExecutor() {
+        try {
+            return Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+        } catch (NoSuchMethodException e) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,196 @@
+package com.alps.infrastructure.journal;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import com.alps.core.reservation.Reservation;
+import com.alps.core.ticket.Ticket;
+
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NonNull;
+import lombok.ToString;
+
+/**
+ * Represents a lifecycle event written to a {@link ReservationJournal}. Every
+ * record names the session it belongs to, the reservation or ticket it is
+ * about, and the seats it affects.
+ *
+ * Records are encoded as a type byte, the timestamp in epoch milliseconds, the
+ * session and subject ids, and the seat ids, each string prefixed by its UTF-8
+ * length as an unsigned short.
+ */
+@Getter
+@EqualsAndHashCode
+@ToString
+public final class JournalRecord {
+
+    /**
+     * The kinds of events recorded in the journal.
+     */
+    public enum Type {
+        /** Seats were claimed by a pending reservation. */
+        RESERVATION_CREATED(1),
+        /** A reservation was cancelled and its seats released. */
+        RESERVATION_CANCELLED(2),
+        /** A reservation expired and its seats were released. */
+        RESERVATION_EXPIRED(3),
+        /** A reservation was confirmed and its seats sold. */
+        RESERVATION_CONFIRMED(4),
+        /** A ticket was used. */
+        TICKET_USED(5);
+
+        private final byte code;
+
+        Type(int code) {
+            this.code = (byte) code;
+        }
+
+        static Type of(byte code) {
+            for (Type type : values()) {
+                if (type.code == code) {
+                    return type;
+                }
+            }
+            throw new IllegalArgumentException("Unknown record type: " + code);
+        }
+    }
+
+    private static final int MAX_STRING_LENGTH = 0xFFFF;
+
+    private final Type type;
+    private final long timestampMillis;
+    private final String sessionId;
+    private final String subjectId;
+    private final List<String> seatIds;
+
+    private JournalRecord(Type type, long timestampMillis, String sessionId, String subjectId, List<String> seatIds) {
+        this.type = type;
+        this.timestampMillis = timestampMillis;
+        this.sessionId = sessionId;
+        this.subjectId = subjectId;
+        this.seatIds = seatIds;
+    }
+
+    /**
+     * Factory method to create a new JournalRecord instance.
+     *
+     * @param type            The kind of event.
+     * @param timestampMillis The time of the event in epoch milliseconds.
+     * @param sessionId       The id of the session the event belongs to.
+     * @param subjectId       The id of the reservation or ticket the event is about.
+     * @param seatIds         The ids of the seats affected by the event.
+     * @return A new instance of JournalRecord.
+     * @throws IllegalArgumentException if there are more than 65535 seats.
+     */
+    public static JournalRecord create(
+            @NonNull Type type,
+            long timestampMillis,
+            @NonNull String sessionId,
+            @NonNull String subjectId,
+            @NonNull List<String> seatIds) {
+        if (seatIds.size() > MAX_STRING_LENGTH) {
+            throw new IllegalArgumentException("Too many seats in one record");
+        }
+        return new JournalRecord(type, timestampMillis, sessionId, subjectId,
+                Collections.unmodifiableList(new ArrayList<>(seatIds)));
+    }
+
+    /**
+     * Creates a record of a reservation event, stamped with the current system time.
+     *
+     * @param type        The kind of event, one of the RESERVATION types.
+     * @param reservation The reservation the event is about.
+     * @return A new instance of JournalRecord.
+     * @throws IllegalArgumentException if the type is not a reservation event.
+     */
+    public static JournalRecord of(@NonNull Type type, @NonNull Reservation reservation) {
+        if (type == Type.TICKET_USED) {
+            throw new IllegalArgumentException("Not a reservation event: " + type);
+        }
+        List<String> seatIds = new ArrayList<>(reservation.getSeats().size());
+        reservation.getSeats().forEach(seat -> seatIds.add(seat.getSeatId()));
+        return create(type, System.currentTimeMillis(), reservation.getSession().getSessionId(),
+                reservation.getReservationId(), seatIds);
+    }
+
+    /**
+     * Creates a record of a ticket being used, stamped with the current system time.
+     *
+     * @param ticket The ticket that was used.
+     * @return A new instance of JournalRecord.
+     */
+    public static JournalRecord used(@NonNull Ticket ticket) {
+        return create(Type.TICKET_USED, System.currentTimeMillis(), ticket.getSession().getSessionId(),
+                ticket.getTicketId(), List.of(ticket.getLocationSeat().getSeatId()));
+    }
+
+    /**
+     * Encodes the record.
+     *
+     * @return The binary form of the record.
+     * @throws IllegalArgumentException if an id is longer than 65535 bytes in UTF-8.
+     */
+    byte[] encode() {
+        List<byte[]> strings = new ArrayList<>(seatIds.size() + 2);
+        strings.add(utf8(sessionId));
+        strings.add(utf8(subjectId));
+        seatIds.forEach(seatId -> strings.add(utf8(seatId)));
+
+        int size = Byte.BYTES + Long.BYTES + Short.BYTES;
+        for (byte[] string : strings) {
+            size += Short.BYTES + string.length;
+        }
+        ByteBuffer buffer = ByteBuffer.allocate(size);
+        buffer.put(type.code);
+        buffer.putLong(timestampMillis);
+        putString(buffer, strings.get(0));
+        putString(buffer, strings.get(1));
+        buffer.putShort((short) seatIds.size());
+        for (int i = 2; i < strings.size(); i++) {
+            putString(buffer, strings.get(i));
+        }
+        return buffer.array();
+    }
+
+    /**
+     * Decodes a record from the buffer's remaining bytes.
+     *
+     * @param buffer The encoded record.
+     * @return The decoded record.
+     */
+    static JournalRecord decode(ByteBuffer buffer) {
+        Type type = Type.of(buffer.get());
+        long timestampMillis = buffer.getLong();
+        String sessionId = getString(buffer);
+        String subjectId = getString(buffer);
+        int seats = Short.toUnsignedInt(buffer.getShort());
+        List<String> seatIds = new ArrayList<>(seats);
+        for (int i = 0; i < seats; i++) {
+            seatIds.add(getString(buffer));
+        }
+        return new JournalRecord(type, timestampMillis, sessionId, subjectId, Collections.unmodifiableList(seatIds));
+    }
+
+    private static byte[] utf8(String value) {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        if (bytes.length > MAX_STRING_LENGTH) {
+            throw new IllegalArgumentException("Id too long for the journal: " + value);
+        }
+        return bytes;
+    }
+
+    private static void putString(ByteBuffer buffer, byte[] bytes) {
+        buffer.putShort((short) bytes.length);
+        buffer.put(bytes);
+    }
+
+    private static String getString(ByteBuffer buffer) {
+        byte[] bytes = new byte[Short.toUnsignedInt(buffer.getShort())];
+        buffer.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,138 @@
+package com.alps.infrastructure.journal;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+
+import com.alps.core.reservation.ReservationStatus.StandardStatus;
+import com.alps.core.session.SeatInventory;
+import com.alps.core.session.Session;
+
+import lombok.Getter;
+import lombok.NonNull;
+
+/**
+ * Rebuilds seat state from a {@link ReservationJournal} at startup. Records
+ * are applied to the {@link SeatInventory} of their session in append order:
+ * created reservations reserve their seats, cancelled and expired ones release
+ * them, and confirmed ones keep them. Records of sessions that are no longer
+ * known are skipped, as are seat ids their session no longer knows, so that
+ * recovery always runs to the end of the journal.
+ *
+ * The outcome reports the last status of every reservation seen, the tickets
+ * that were used, so that pending holds can be scheduled for expiry again, and
+ * the unknown seat ids that were skipped.
+ */
+@Getter
+public final class JournalRecovery {
+
+    private final Map<String, StandardStatus> reservationStatuses;
+    private final Set<String> usedTickets;
+    private final Map<String, Set<String>> unknownSeats;
+    private final long position;
+    private final long appliedRecords;
+
+    private JournalRecovery(
+            Map<String, StandardStatus> reservationStatuses,
+            Set<String> usedTickets,
+            Map<String, Set<String>> unknownSeats,
+            long position,
+            long appliedRecords) {
+        this.reservationStatuses = Collections.unmodifiableMap(reservationStatuses);
+        this.usedTickets = Collections.unmodifiableSet(usedTickets);
+        this.unknownSeats = Collections.unmodifiableMap(unknownSeats);
+        this.position = position;
+        this.appliedRecords = appliedRecords;
+    }
+
+    /**
+     * Replays the whole journal onto the given sessions.
+     *
+     * @param journal  The journal to replay.
+     * @param sessions Looks up a session by id, returning null for unknown sessions.
+     * @return The outcome of the recovery.
+     */
+    public static JournalRecovery replay(
+            @NonNull ReservationJournal journal,
+            @NonNull Function<String, Session> sessions) {
+        return replay(journal, 0L, sessions);
+    }
+
+    /**
+     * Replays the records appended after a position onto the given sessions,
+     * typically the position stored with a snapshot of their seat state.
+     *
+     * @param journal      The journal to replay.
+     * @param fromPosition The position to replay from.
+     * @param sessions     Looks up a session by id, returning null for unknown sessions.
+     * @return The outcome of the recovery.
+     */
+    public static JournalRecovery replay(
+            @NonNull ReservationJournal journal,
+            long fromPosition,
+            @NonNull Function<String, Session> sessions) {
+        Map<String, StandardStatus> statuses = new HashMap<>();
+        Set<String> usedTickets = new HashSet<>();
+        Map<String, Set<String>> unknownSeats = new HashMap<>();
+        long[] applied = new long[1];
+
+        long position = journal.replay(fromPosition, record -> {
+            Session session = sessions.apply(record.getSessionId());
+            if (session == null) {
+                return;
+            }
+            SeatInventory inventory = session.getInventory();
+            switch (record.getType()) {
+                case RESERVATION_CREATED:
+                    int[] reserved = knownIndexes(inventory, record, unknownSeats);
+                    if (!inventory.reserveAll(reserved)) {
+                        Arrays.stream(reserved).forEach(inventory::tryReserve);
+                    }
+                    statuses.put(record.getSubjectId(), StandardStatus.PENDING);
+                    break;
+                case RESERVATION_CANCELLED:
+                    inventory.releaseAll(knownIndexes(inventory, record, unknownSeats));
+                    statuses.put(record.getSubjectId(), StandardStatus.CANCELLED);
+                    break;
+                case RESERVATION_EXPIRED:
+                    inventory.releaseAll(knownIndexes(inventory, record, unknownSeats));
+                    statuses.put(record.getSubjectId(), StandardStatus.EXPIRED);
+                    break;
+                case RESERVATION_CONFIRMED:
+                    statuses.put(record.getSubjectId(), StandardStatus.CONFIRMED);
+                    break;
+                case TICKET_USED:
+                    usedTickets.add(record.getSubjectId());
+                    break;
+                default:
+                    return;
+            }
+            applied[0]++;
+        });
+        return new JournalRecovery(statuses, usedTickets, unknownSeats, position, applied[0]);
+    }
+
+    /**
+     * Resolves the seat ids of a record to inventory indexes, collecting the ids
+     * the inventory does not know instead of failing the replay.
+     */
+    private static int[] knownIndexes(
+            SeatInventory inventory,
+            JournalRecord record,
+            Map<String, Set<String>> unknownSeats) {
+        return record.getSeatIds().stream()
+                .mapToInt(seatId -> {
+                    int index = inventory.indexOf(seatId);
+                    if (index < 0) {
+                        unknownSeats.computeIfAbsent(record.getSessionId(), id -> new HashSet<>()).add(seatId);
+                    }
+                    return index;
+                })
+                .filter(index -> index >= 0)
+                .toArray();
+    }
+}
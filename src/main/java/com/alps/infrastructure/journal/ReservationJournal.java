@@ -0,0 +1,392 @@
+package com.alps.infrastructure.journal;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.zip.CRC32;
+
+import lombok.Getter;
+import lombok.NonNull;
+
+/**
+ * An append-only journal of reservation lifecycle events, written to
+ * memory-mapped segment files in a directory. Appending a record copies it
+ * into the mapped segment without a system call; durability comes from
+ * {@link #sync()}, which forces everything appended since the previous sync
+ * in one call, so many appends share a single flush. Appenders that must not
+ * proceed before their record is durable wait with
+ * {@link #awaitSynced(long, Duration)}, usually while {@link #start} syncs on a
+ * fixed interval.
+ *
+ * Each record is framed by its payload length and a CRC32 of the payload. A
+ * segment ends at the first zero length, and a record that does not fit in the
+ * current segment starts the next one. When the journal is opened, the last
+ * segment is scanned and everything after its last intact record, such as a
+ * record torn by a crash, is discarded.
+ *
+ * Positions are logical offsets across segments: a position identifies the
+ * end of a record, and replaying from it yields the records appended after.
+ */
+public class ReservationJournal implements Closeable {
+
+    private static final int DEFAULT_SEGMENT_SIZE = 64 << 20;
+    private static final int HEADER_SIZE = 2 * Integer.BYTES;
+    private static final String SEGMENT_PREFIX = "journal-";
+    private static final String SEGMENT_SUFFIX = ".seg";
+
+    private final Path directory;
+    @Getter
+    private final int segmentSize;
+    private final Object syncLock = new Object();
+
+    private long segmentIndex;
+    private MappedByteBuffer segment;
+    private int syncedOffset;
+    private long position;
+    private volatile long syncedPosition;
+    private boolean closed;
+
+    /**
+     * Opens a journal with 64 MiB segments.
+     *
+     * @param directory The directory holding the segment files, created if missing.
+     * @throws UncheckedIOException if the journal cannot be opened.
+     */
+    public ReservationJournal(@NonNull Path directory) {
+        this(directory, DEFAULT_SEGMENT_SIZE);
+    }
+
+    /**
+     * Opens a journal with the given segment size, recovering the write position
+     * from the existing segments. A journal must always be opened with the same
+     * segment size.
+     *
+     * @param directory   The directory holding the segment files, created if missing.
+     * @param segmentSize The size of each segment file in bytes.
+     * @throws IllegalArgumentException if the segment size is smaller than 4 KiB.
+     * @throws UncheckedIOException     if the journal cannot be opened.
+     */
+    public ReservationJournal(@NonNull Path directory, int segmentSize) {
+        if (segmentSize < 4096) {
+            throw new IllegalArgumentException("Segment size must be at least 4096 bytes");
+        }
+        this.directory = directory;
+        this.segmentSize = segmentSize;
+        try {
+            Files.createDirectories(directory);
+            List<Long> segments = segmentIndexes();
+            this.segmentIndex = segments.isEmpty() ? 0L : segments.get(segments.size() - 1);
+            this.segment = map(segmentIndex, FileChannel.MapMode.READ_WRITE);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        int end = scan(segment, 0, segmentSize, null);
+        discardTail(end);
+        this.syncedOffset = end;
+        this.position = segmentIndex * segmentSize + end;
+        this.syncedPosition = position;
+    }
+
+    /**
+     * Appends a record. The record is visible to {@link #replay} immediately,
+     * and durable once a {@link #sync()} covering its position has completed.
+     *
+     * @param record The record to append.
+     * @return The position right after the record.
+     * @throws IllegalArgumentException if the record does not fit in a segment.
+     * @throws IllegalStateException    if the journal is closed.
+     * @throws UncheckedIOException     if a new segment cannot be created.
+     */
+    public long append(@NonNull JournalRecord record) {
+        byte[] payload = record.encode();
+        int length = HEADER_SIZE + payload.length;
+        if (length > segmentSize) {
+            throw new IllegalArgumentException("Record larger than a segment");
+        }
+        CRC32 crc = new CRC32();
+        crc.update(payload);
+
+        synchronized (this) {
+            requireOpen();
+            int offset = (int) (position - segmentIndex * segmentSize);
+            if (offset + length > segmentSize) {
+                roll();
+                offset = 0;
+            }
+            segment.put(offset + HEADER_SIZE, payload);
+            segment.putInt(offset + Integer.BYTES, (int) crc.getValue());
+            segment.putInt(offset, payload.length);
+            position += length;
+            return position;
+        }
+    }
+
+    /**
+     * Forces every record appended so far to the storage device, in a single
+     * call for all of them, and wakes up the threads waiting for them.
+     *
+     * @throws IllegalStateException if the journal is closed.
+     */
+    public void sync() {
+        synchronized (syncLock) {
+            MappedByteBuffer buffer;
+            int from;
+            int to;
+            long target;
+            synchronized (this) {
+                requireOpen();
+                buffer = segment;
+                from = syncedOffset;
+                to = (int) (position - segmentIndex * segmentSize);
+                target = position;
+                syncedOffset = to;
+            }
+            if (to > from) {
+                buffer.force(from, to - from);
+            }
+            synchronized (this) {
+                if (target > syncedPosition) {
+                    syncedPosition = target;
+                }
+                notifyAll();
+            }
+        }
+    }
+
+    /**
+     * Waits until a position is durable.
+     *
+     * @param position The position returned by {@link #append(JournalRecord)}.
+     * @param timeout  The maximum time to wait.
+     * @return true if the position is durable, false if the waiting time elapsed.
+     * @throws InterruptedException if the current thread is interrupted while waiting.
+     */
+    public boolean awaitSynced(long position, @NonNull Duration timeout) throws InterruptedException {
+        if (syncedPosition >= position) {
+            return true;
+        }
+        long deadline = System.nanoTime() + timeout.toNanos();
+        synchronized (this) {
+            while (syncedPosition < position) {
+                long remaining = deadline - System.nanoTime();
+                if (remaining <= 0L || closed) {
+                    return syncedPosition >= position;
+                }
+                TimeUnit.NANOSECONDS.timedWait(this, remaining);
+            }
+            return true;
+        }
+    }
+
+    /**
+     * Gets the position after the last appended record.
+     *
+     * @return The current write position.
+     */
+    public synchronized long position() {
+        return position;
+    }
+
+    /**
+     * Gets the position up to which records are durable.
+     *
+     * @return The position covered by the last completed sync.
+     */
+    public long syncedPosition() {
+        return syncedPosition;
+    }
+
+    /**
+     * Starts syncing the journal on a fixed interval, grouping every record
+     * appended in between into a single flush.
+     *
+     * @param executor The executor driving the syncs.
+     * @param interval The time between two syncs.
+     * @return The future of the periodic task, which can be cancelled to stop it.
+     */
+    public ScheduledFuture<?> start(@NonNull ScheduledExecutorService executor, @NonNull Duration interval) {
+        return executor.scheduleWithFixedDelay(() -> {
+            if (!isClosed()) {
+                sync();
+            }
+        }, interval.toNanos(), interval.toNanos(), TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Reads every record appended so far, in append order.
+     *
+     * @param consumer Receives each record.
+     * @return The position after the last record read.
+     */
+    public long replay(@NonNull Consumer<JournalRecord> consumer) {
+        return replay(0L, consumer);
+    }
+
+    /**
+     * Reads the records appended after a position, in append order.
+     *
+     * @param fromPosition A position returned by {@link #append(JournalRecord)},
+     *                     or 0 to read from the beginning.
+     * @param consumer     Receives each record.
+     * @return The position after the last record read.
+     * @throws IllegalArgumentException if the position is beyond the end of the journal.
+     * @throws UncheckedIOException     if a segment cannot be read.
+     */
+    public long replay(long fromPosition, @NonNull Consumer<JournalRecord> consumer) {
+        long end = position();
+        if (fromPosition < 0L || fromPosition > end) {
+            throw new IllegalArgumentException("Position out of range: " + fromPosition);
+        }
+        long current = fromPosition;
+        while (current < end) {
+            long index = current / segmentSize;
+            int from = (int) (current - index * segmentSize);
+            int limit = (int) Math.min(segmentSize, end - index * segmentSize);
+            ByteBuffer buffer;
+            try {
+                buffer = map(index, FileChannel.MapMode.READ_ONLY);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            int stop = scan(buffer, from, limit, consumer);
+            current = stop < limit ? (index + 1) * segmentSize : index * segmentSize + stop;
+        }
+        return end;
+    }
+
+    /**
+     * Syncs and closes the journal. Appending to a closed journal fails.
+     */
+    @Override
+    public void close() {
+        synchronized (this) {
+            if (closed) {
+                return;
+            }
+        }
+        sync();
+        synchronized (this) {
+            closed = true;
+            notifyAll();
+        }
+    }
+
+    private synchronized boolean isClosed() {
+        return closed;
+    }
+
+    private void requireOpen() {
+        if (closed) {
+            throw new IllegalStateException("The journal is closed.");
+        }
+    }
+
+    /**
+     * Zeroes whatever follows the last intact record of the current segment, so
+     * that leftovers of a torn write are never mistaken for records appended
+     * later.
+     */
+    private void discardTail(int end) {
+        boolean dirty = false;
+        for (int offset = end; offset < segmentSize; offset++) {
+            if ((offset & (Long.BYTES - 1)) == 0 && offset + Long.BYTES <= segmentSize) {
+                if (segment.getLong(offset) != 0L) {
+                    segment.putLong(offset, 0L);
+                    dirty = true;
+                }
+                offset += Long.BYTES - 1;
+            } else if (segment.get(offset) != 0) {
+                segment.put(offset, (byte) 0);
+                dirty = true;
+            }
+        }
+        if (dirty) {
+            segment.force();
+        }
+    }
+
+    /**
+     * Forces the current segment and moves on to the next one. Must be called
+     * while holding the journal's monitor.
+     */
+    private void roll() {
+        segment.force();
+        long next = segmentIndex + 1;
+        try {
+            segment = map(next, FileChannel.MapMode.READ_WRITE);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        segmentIndex = next;
+        syncedOffset = 0;
+        position = next * segmentSize;
+    }
+
+    /**
+     * Reads the intact records of a segment between two offsets, stopping at the
+     * first empty, truncated or corrupted frame.
+     *
+     * @return The offset after the last intact record.
+     */
+    private static int scan(ByteBuffer buffer, int from, int limit, Consumer<JournalRecord> consumer) {
+        int offset = from;
+        CRC32 crc = new CRC32();
+        while (offset + HEADER_SIZE <= limit) {
+            int length = buffer.getInt(offset);
+            if (length <= 0 || length > limit - offset - HEADER_SIZE) {
+                break;
+            }
+            ByteBuffer payload = buffer.slice(offset + HEADER_SIZE, length);
+            crc.reset();
+            crc.update(payload.duplicate());
+            if ((int) crc.getValue() != buffer.getInt(offset + Integer.BYTES)) {
+                break;
+            }
+            if (consumer != null) {
+                consumer.accept(JournalRecord.decode(payload));
+            }
+            offset += HEADER_SIZE + length;
+        }
+        return offset;
+    }
+
+    private MappedByteBuffer map(long index, FileChannel.MapMode mode) throws IOException {
+        Path file = directory.resolve(String.format("%s%019d%s", SEGMENT_PREFIX, index, SEGMENT_SUFFIX));
+        if (mode == FileChannel.MapMode.READ_ONLY) {
+            try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+                return channel.map(mode, 0, Math.min(channel.size(), segmentSize));
+            }
+        }
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                StandardOpenOption.WRITE)) {
+            return channel.map(mode, 0, segmentSize);
+        }
+    }
+
+    private List<Long> segmentIndexes() throws IOException {
+        List<Long> indexes = new ArrayList<>();
+        try (Stream<Path> files = Files.list(directory)) {
+            files.map(file -> file.getFileName().toString())
+                    .filter(name -> name.startsWith(SEGMENT_PREFIX) && name.endsWith(SEGMENT_SUFFIX))
+                    .map(name -> name.substring(SEGMENT_PREFIX.length(), name.length() - SEGMENT_SUFFIX.length()))
+                    .forEach(index -> indexes.add(Long.parseLong(index)));
+        }
+        indexes.sort(null);
+        return indexes;
+    }
+}
@@ -0,0 +1,301 @@
+package com.alps.infrastructure.lock;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+import java.util.concurrent.locks.ReentrantLock;
+
+import com.alps.core.lock.KeyedLockProvider;
+
+import lombok.NonNull;
+
+/**
+ * An implementation of {@link KeyedLockProvider} that coordinates several JVMs
+ * on the same host through a shared lock file. Each key is mapped to a one byte
+ * range of the file, and holding the key means holding an exclusive
+ * {@link FileLock} on that range, so workers share exclusive access to seats or
+ * sessions without an external lock service.
+ *
+ * Threads of the same JVM are coordinated by an in-process
+ * {@link ReentrantLock} per range before the file is touched: re-entrant
+ * acquisitions, and acquisitions contended inside the JVM, never reach the file
+ * system. Only one provider per lock file should be opened in a JVM, since file
+ * locks are held on behalf of the whole process.
+ *
+ * File channels are closed when a thread is interrupted during an I/O
+ * operation, so the file range is polled with non-blocking attempts and the
+ * interrupt status is cleared around each of them.
+ */
+public class FileLockProvider implements KeyedLockProvider, Closeable {
+
+    private static final int DEFAULT_RANGES = 1024;
+    private static final long MIN_BACKOFF_NANOS = TimeUnit.MICROSECONDS.toNanos(50);
+    private static final long MAX_BACKOFF_NANOS = TimeUnit.MILLISECONDS.toNanos(10);
+
+    private final FileChannel channel;
+    private final ReentrantLock[] localLocks;
+    private final FileLock[] fileLocks;
+    private final int mask;
+
+    /**
+     * Constructs a FileLockProvider with 1024 byte ranges.
+     *
+     * @param lockFile The lock file shared by every process, created if missing.
+     * @throws UncheckedIOException if the lock file cannot be opened.
+     */
+    public FileLockProvider(@NonNull Path lockFile) {
+        this(lockFile, DEFAULT_RANGES);
+    }
+
+    /**
+     * Constructs a FileLockProvider with the given number of byte ranges. Every
+     * process sharing the lock file must use the same number of ranges.
+     *
+     * @param lockFile The lock file shared by every process, created if missing.
+     * @param ranges   The number of byte ranges keys are hashed onto, rounded up
+     *                 to a power of two.
+     * @throws IllegalArgumentException if the number of ranges is not positive or
+     *                                  is greater than 65536.
+     * @throws UncheckedIOException     if the lock file cannot be opened.
+     */
+    public FileLockProvider(@NonNull Path lockFile, int ranges) {
+        if (ranges <= 0 || ranges > (1 << 16)) {
+            throw new IllegalArgumentException("Ranges must be between 1 and 65536");
+        }
+        int size = ranges == 1 ? 1 : Integer.highestOneBit(ranges - 1) << 1;
+        this.mask = size - 1;
+        this.localLocks = new ReentrantLock[size];
+        this.fileLocks = new FileLock[size];
+        for (int i = 0; i < size; i++) {
+            localLocks[i] = new ReentrantLock();
+        }
+        try {
+            this.channel = FileChannel.open(lockFile, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                    StandardOpenOption.WRITE);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Acquires the range the key maps to, first inside the JVM and then in the
+     * lock file.
+     *
+     * Blocks until the lock is available.
+     */
+    @Override
+    public void lock(@NonNull String key) {
+        int range = rangeIndex(key);
+        ReentrantLock local = localLocks[range];
+        local.lock();
+        if (local.getHoldCount() > 1) {
+            return;
+        }
+
+        boolean interrupted = false;
+        long backoff = MIN_BACKOFF_NANOS;
+        try {
+            while (!acquireFileRange(range)) {
+                LockSupport.parkNanos(backoff);
+                backoff = Math.min(backoff << 1, MAX_BACKOFF_NANOS);
+                interrupted |= Thread.interrupted();
+            }
+        } catch (RuntimeException e) {
+            local.unlock();
+            throw e;
+        } finally {
+            if (interrupted) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    /**
+     * Acquires the range the key maps to only if it is free both inside the JVM
+     * and in the lock file.
+     *
+     * @return true if the lock was acquired, false otherwise.
+     */
+    @Override
+    public boolean tryLock(@NonNull String key) {
+        int range = rangeIndex(key);
+        ReentrantLock local = localLocks[range];
+        if (!local.tryLock()) {
+            return false;
+        }
+        if (local.getHoldCount() > 1) {
+            return true;
+        }
+
+        boolean acquired = false;
+        try {
+            acquired = acquireFileRange(range);
+        } finally {
+            if (!acquired) {
+                local.unlock();
+            }
+        }
+        return acquired;
+    }
+
+    /**
+     * Acquires the range the key maps to if it becomes free, both inside the JVM
+     * and in the lock file, within the given waiting time.
+     *
+     * @return true if the lock was acquired, false if the waiting time elapsed.
+     */
+    @Override
+    public boolean tryLock(@NonNull String key, @NonNull Duration timeout) throws InterruptedException {
+        long deadline = System.nanoTime() + timeout.toNanos();
+        int range = rangeIndex(key);
+        ReentrantLock local = localLocks[range];
+        if (!local.tryLock(timeout.toNanos(), TimeUnit.NANOSECONDS)) {
+            return false;
+        }
+        if (local.getHoldCount() > 1) {
+            return true;
+        }
+
+        boolean acquired = false;
+        try {
+            long backoff = MIN_BACKOFF_NANOS;
+            while (!(acquired = acquireFileRange(range))) {
+                long remaining = deadline - System.nanoTime();
+                if (remaining <= 0L) {
+                    return false;
+                }
+                LockSupport.parkNanos(Math.min(backoff, remaining));
+                backoff = Math.min(backoff << 1, MAX_BACKOFF_NANOS);
+                if (Thread.interrupted()) {
+                    throw new InterruptedException();
+                }
+            }
+            return true;
+        } finally {
+            if (!acquired) {
+                local.unlock();
+            }
+        }
+    }
+
+    /**
+     * Releases the range the key maps to. The file range is released when the
+     * outermost hold inside the JVM is released.
+     *
+     * @throws IllegalMonitorStateException if the current thread does not hold
+     *                                      the lock.
+     */
+    @Override
+    public void unlock(@NonNull String key) {
+        int range = rangeIndex(key);
+        ReentrantLock local = localLocks[range];
+        if (!local.isHeldByCurrentThread()) {
+            throw new IllegalMonitorStateException();
+        }
+        try {
+            if (local.getHoldCount() == 1) {
+                releaseFileRange(range);
+            }
+        } finally {
+            local.unlock();
+        }
+    }
+
+    /**
+     * Checks if the range the key maps to is held by a thread of this JVM or by
+     * another process. Checking another process probes the lock file, so this is
+     * more expensive than acquiring an uncontended lock.
+     *
+     * @return true if the range is held anywhere, false otherwise.
+     */
+    @Override
+    public boolean isLocked(@NonNull String key) {
+        int range = rangeIndex(key);
+        ReentrantLock local = localLocks[range];
+        if (local.isLocked() || !local.tryLock()) {
+            return true;
+        }
+        try {
+            if (!acquireFileRange(range)) {
+                return true;
+            }
+            releaseFileRange(range);
+            return false;
+        } finally {
+            local.unlock();
+        }
+    }
+
+    /**
+     * Gets the byte range a key maps to. Keys with the same range share a lock,
+     * and the mapping is the same in every process using the same number of
+     * ranges.
+     *
+     * @param key The key to map.
+     * @return The position of the byte range guarding the key.
+     */
+    public int rangeIndex(@NonNull String key) {
+        return LockKeys.index(key, mask);
+    }
+
+    /**
+     * Closes the lock file, releasing every range still held by this process.
+     *
+     * @throws IOException if the lock file cannot be closed.
+     */
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+
+    /**
+     * Attempts to lock a range of the file. Must be called while holding the
+     * range's in-process lock.
+     */
+    private boolean acquireFileRange(int range) {
+        boolean interrupted = Thread.interrupted();
+        try {
+            FileLock fileLock = channel.tryLock(range, 1L, false);
+            if (fileLock == null) {
+                return false;
+            }
+            fileLocks[range] = fileLock;
+            return true;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } finally {
+            if (interrupted) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    /**
+     * Releases a range of the file. Must be called while holding the range's
+     * in-process lock.
+     */
+    private void releaseFileRange(int range) {
+        FileLock fileLock = fileLocks[range];
+        fileLocks[range] = null;
+        if (fileLock == null || !fileLock.isValid()) {
+            return;
+        }
+        boolean interrupted = Thread.interrupted();
+        try {
+            fileLock.release();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } finally {
+            if (interrupted) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+}
@@ -0,0 +1,274 @@
+package com.alps.infrastructure.lock;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+import com.alps.core.lock.LockProvider;
+
+/**
+ * A {@link ReentrantLockProvider} alternative that records contention
+ * statistics: the number of acquisitions, of contended acquisitions and of
+ * timed acquisitions that gave up, wait and hold time histograms, the longest
+ * queue observed and the longest holds.
+ * 
+ * Timing is sampled: only about one acquisition in {@code sampleRate} reads the
+ * clock, and the queue length is read only when a sampled acquisition has to
+ * wait. Acquisitions do not allocate, so the provider is cheap enough to leave
+ * enabled in production. Statistics are exported with {@link #snapshot()}.
+ */
+public class InstrumentedLockProvider implements LockProvider {
+
+    private static final int HISTOGRAM_BUCKETS = 40;
+    private static final int DEFAULT_SAMPLE_RATE = 16;
+    private static final int DEFAULT_TRACKED_HOLDS = 8;
+
+    private final ReentrantLock reentrantLock = new ReentrantLock();
+    private final int sampleMask;
+
+    private final LongAdder acquisitions = new LongAdder();
+    private final LongAdder contendedAcquisitions = new LongAdder();
+    private final LongAdder failedAcquisitions = new LongAdder();
+    private final LongAdder sampledAcquisitions = new LongAdder();
+    private final AtomicInteger maxQueueLength = new AtomicInteger();
+    private final AtomicLongArray waitTimeHistogram = new AtomicLongArray(HISTOGRAM_BUCKETS);
+    private final AtomicLongArray holdTimeHistogram = new AtomicLongArray(HISTOGRAM_BUCKETS);
+
+    private final String[] longestHoldThreads;
+    private final long[] longestHoldNanos;
+    private volatile long shortestTrackedHold;
+
+    /**
+     * Start of the current sampled hold, or zero if the current hold is not
+     * sampled. Only written and read by the thread owning the lock.
+     */
+    private long holdStart;
+
+    /**
+     * Constructs an InstrumentedLockProvider sampling one acquisition in sixteen
+     * and tracking the eight longest holds.
+     */
+    public InstrumentedLockProvider() {
+        this(DEFAULT_SAMPLE_RATE, DEFAULT_TRACKED_HOLDS);
+    }
+
+    /**
+     * Constructs an InstrumentedLockProvider with the given sampling settings.
+     * 
+     * @param sampleRate    One in how many acquisitions is timed, rounded up to a
+     *                      power of two. Use 1 to time every acquisition.
+     * @param trackedHolds  How many of the longest holds to keep.
+     * @throws IllegalArgumentException if either argument is not positive.
+     */
+    public InstrumentedLockProvider(int sampleRate, int trackedHolds) {
+        if (sampleRate <= 0 || sampleRate > (1 << 30) || trackedHolds <= 0) {
+            throw new IllegalArgumentException("Sample rate and tracked holds must be positive");
+        }
+        int rate = sampleRate == 1 ? 1 : Integer.highestOneBit(sampleRate - 1) << 1;
+        this.sampleMask = rate - 1;
+        this.longestHoldThreads = new String[trackedHolds];
+        this.longestHoldNanos = new long[trackedHolds];
+    }
+
+    /**
+     * Acquires the lock, recording whether the caller had to wait.
+     * 
+     * Blocks until the lock is available.
+     */
+    @Override
+    public void lock() {
+        if (!isSampled()) {
+            if (!reentrantLock.tryLock()) {
+                contendedAcquisitions.increment();
+                reentrantLock.lock();
+            }
+            acquired(0L);
+            return;
+        }
+
+        long start = System.nanoTime();
+        if (!reentrantLock.tryLock()) {
+            contended();
+            reentrantLock.lock();
+        }
+        acquired(start);
+    }
+
+    /**
+     * Acquires the lock only if it is free.
+     * 
+     * @return true if the lock was acquired, false otherwise.
+     */
+    @Override
+    public boolean tryLock() {
+        if (!reentrantLock.tryLock()) {
+            return false;
+        }
+        acquired(isSampled() ? System.nanoTime() : 0L);
+        return true;
+    }
+
+    /**
+     * Acquires the lock if it becomes free within the given waiting time,
+     * recording whether the caller had to wait.
+     * 
+     * An attempt that has to wait counts as contended only once it acquires the
+     * lock; attempts whose waiting time elapses are counted as failed instead.
+     * 
+     * @return true if the lock was acquired, false if the waiting time elapsed.
+     */
+    @Override
+    public boolean tryLock(Duration timeout) throws InterruptedException {
+        boolean sampled = isSampled();
+        long start = sampled ? System.nanoTime() : 0L;
+        if (!reentrantLock.tryLock()) {
+            if (sampled) {
+                observeQueueLength();
+            }
+            if (!reentrantLock.tryLock(timeout.toNanos(), TimeUnit.NANOSECONDS)) {
+                failedAcquisitions.increment();
+                return false;
+            }
+            contendedAcquisitions.increment();
+        }
+        acquired(start);
+        return true;
+    }
+
+    /**
+     * Releases the lock, recording the hold time if the hold was sampled.
+     * 
+     * If the current thread holds this lock, then the hold count is decremented.
+     * If the hold count is now zero, the lock is released.
+     */
+    @Override
+    public void unlock() {
+        if (reentrantLock.getHoldCount() == 1 && holdStart != 0L) {
+            long held = System.nanoTime() - holdStart;
+            holdStart = 0L;
+            holdTimeHistogram.incrementAndGet(bucket(held));
+            if (held > shortestTrackedHold) {
+                trackHold(Thread.currentThread().getName(), held);
+            }
+        }
+        reentrantLock.unlock();
+    }
+
+    /**
+     * Checks if the lock is currently acquired by any thread.
+     * 
+     * @return true if any thread holds this lock, false otherwise.
+     */
+    @Override
+    public boolean isLocked() {
+        return reentrantLock.isLocked();
+    }
+
+    /**
+     * Exports the statistics gathered so far.
+     * 
+     * @return A snapshot of the lock's contention statistics.
+     */
+    public LockContentionSnapshot snapshot() {
+        long[] waits = new long[HISTOGRAM_BUCKETS];
+        long[] holds = new long[HISTOGRAM_BUCKETS];
+        for (int i = 0; i < HISTOGRAM_BUCKETS; i++) {
+            waits[i] = waitTimeHistogram.get(i);
+            holds[i] = holdTimeHistogram.get(i);
+        }
+
+        List<LockContentionSnapshot.Hold> longest = new ArrayList<>();
+        synchronized (longestHoldNanos) {
+            for (int i = 0; i < longestHoldNanos.length; i++) {
+                if (longestHoldThreads[i] != null) {
+                    longest.add(new LockContentionSnapshot.Hold(longestHoldThreads[i], longestHoldNanos[i]));
+                }
+            }
+        }
+        longest.sort((first, second) -> Long.compare(second.getHoldNanos(), first.getHoldNanos()));
+
+        return new LockContentionSnapshot(
+                acquisitions.sum(),
+                contendedAcquisitions.sum(),
+                failedAcquisitions.sum(),
+                sampledAcquisitions.sum(),
+                maxQueueLength.get(),
+                waits,
+                holds,
+                longest);
+    }
+
+    private boolean isSampled() {
+        return (ThreadLocalRandom.current().nextInt() & sampleMask) == 0;
+    }
+
+    private void contended() {
+        contendedAcquisitions.increment();
+        observeQueueLength();
+    }
+
+    private void observeQueueLength() {
+        int queued = reentrantLock.getQueueLength() + 1;
+        int observed;
+        while (queued > (observed = maxQueueLength.get())) {
+            if (maxQueueLength.compareAndSet(observed, queued)) {
+                break;
+            }
+        }
+    }
+
+    /**
+     * Records an acquisition made by the current thread, which now owns the lock.
+     * 
+     * @param start The time the sampled acquisition started, or zero if the
+     *              acquisition is not sampled.
+     */
+    private void acquired(long start) {
+        acquisitions.increment();
+        if (start != 0L) {
+            long now = System.nanoTime();
+            sampledAcquisitions.increment();
+            waitTimeHistogram.incrementAndGet(bucket(now - start));
+            if (reentrantLock.getHoldCount() == 1) {
+                holdStart = now;
+            }
+        } else if (reentrantLock.getHoldCount() == 1) {
+            holdStart = 0L;
+        }
+    }
+
+    private void trackHold(String threadName, long held) {
+        synchronized (longestHoldNanos) {
+            int shortest = 0;
+            for (int i = 1; i < longestHoldNanos.length; i++) {
+                if (longestHoldNanos[i] < longestHoldNanos[shortest]) {
+                    shortest = i;
+                }
+            }
+            if (held <= longestHoldNanos[shortest]) {
+                return;
+            }
+            longestHoldThreads[shortest] = threadName;
+            longestHoldNanos[shortest] = held;
+
+            long minimum = Long.MAX_VALUE;
+            for (long nanos : longestHoldNanos) {
+                minimum = Math.min(minimum, nanos);
+            }
+            shortestTrackedHold = minimum;
+        }
+    }
+
+    private static int bucket(long nanos) {
+        if (nanos <= 1L) {
+            return 0;
+        }
+        return Math.min(HISTOGRAM_BUCKETS - 1, 63 - Long.numberOfLeadingZeros(nanos));
+    }
+}
@@ -0,0 +1,91 @@
+package com.alps.infrastructure.lock;
+
+import java.util.Collections;
+import java.util.List;
+
+import lombok.Getter;
+
+/**
+ * A point-in-time export of the statistics gathered by an
+ * {@link InstrumentedLockProvider}. Wait and hold times are kept in
+ * power-of-two histograms: bucket {@code i} counts durations from
+ * {@code 2^i} up to {@code 2^(i+1)} nanoseconds, except that bucket zero
+ * counts everything below two nanoseconds and the last bucket counts
+ * everything above its lower bound.
+ * 
+ * Contended acquisitions are those that had to wait and then got the lock;
+ * failed acquisitions are timed attempts whose waiting time elapsed.
+ */
+@Getter
+public class LockContentionSnapshot {
+
+    private final long acquisitions;
+    private final long contendedAcquisitions;
+    private final long failedAcquisitions;
+    private final long sampledAcquisitions;
+    private final int maxQueueLength;
+    private final long[] waitTimeHistogram;
+    private final long[] holdTimeHistogram;
+    private final List<Hold> longestHolds;
+
+    LockContentionSnapshot(
+            long acquisitions,
+            long contendedAcquisitions,
+            long failedAcquisitions,
+            long sampledAcquisitions,
+            int maxQueueLength,
+            long[] waitTimeHistogram,
+            long[] holdTimeHistogram,
+            List<Hold> longestHolds) {
+        this.acquisitions = acquisitions;
+        this.contendedAcquisitions = contendedAcquisitions;
+        this.failedAcquisitions = failedAcquisitions;
+        this.sampledAcquisitions = sampledAcquisitions;
+        this.maxQueueLength = maxQueueLength;
+        this.waitTimeHistogram = waitTimeHistogram;
+        this.holdTimeHistogram = holdTimeHistogram;
+        this.longestHolds = Collections.unmodifiableList(longestHolds);
+    }
+
+    /**
+     * Gets a copy of the sampled wait time histogram.
+     * 
+     * @return The number of sampled acquisitions per wait time bucket.
+     */
+    public long[] getWaitTimeHistogram() {
+        return waitTimeHistogram.clone();
+    }
+
+    /**
+     * Gets a copy of the sampled hold time histogram.
+     * 
+     * @return The number of sampled holds per hold time bucket.
+     */
+    public long[] getHoldTimeHistogram() {
+        return holdTimeHistogram.clone();
+    }
+
+    /**
+     * Gets the lower bound of a histogram bucket.
+     * 
+     * @param bucket The bucket index.
+     * @return The smallest duration, in nanoseconds, counted by the bucket.
+     */
+    public static long bucketLowerBoundNanos(int bucket) {
+        return bucket == 0 ? 0L : 1L << bucket;
+    }
+
+    /**
+     * Represents one of the longest sampled holds of the lock.
+     */
+    @Getter
+    public static class Hold {
+        private final String threadName;
+        private final long holdNanos;
+
+        Hold(String threadName, long holdNanos) {
+            this.threadName = threadName;
+            this.holdNanos = holdNanos;
+        }
+    }
+}
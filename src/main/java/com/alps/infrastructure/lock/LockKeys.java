@@ -0,0 +1,31 @@
+package com.alps.infrastructure.lock;
+
+/**
+ * Maps lock keys onto a power-of-two number of locks, such as the stripes of a
+ * {@link StripedLockProvider} or the byte ranges of a {@link FileLockProvider}.
+ *
+ * The hash code of the key is mixed before it is masked, so keys whose hash
+ * codes only differ in their high bits still spread over every lock. The
+ * mapping depends on the key alone, so it is the same in every process.
+ */
+final class LockKeys {
+
+    private LockKeys() {
+    }
+
+    /**
+     * Gets the index of the lock a key maps to.
+     *
+     * @param key  The key to map.
+     * @param mask The number of locks minus one, the number of locks being a
+     *             power of two.
+     * @return The index of the lock guarding the key.
+     */
+    static int index(String key, int mask) {
+        int hash = key.hashCode();
+        hash ^= (hash >>> 16);
+        hash *= 0x85ebca6b;
+        hash ^= (hash >>> 13);
+        return hash & mask;
+    }
+}
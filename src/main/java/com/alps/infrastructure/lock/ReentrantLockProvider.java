@@ -1,5 +1,7 @@
 package com.alps.infrastructure.lock;
 
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.locks.ReentrantLock;
 
 import com.alps.core.lock.LockProvider;
@@ -24,6 +26,28 @@ public class ReentrantLockProvider implements LockProvider {
         reentrantLock.lock();
     }
 
+    /**
+     * Acquires the reentrant lock only if it is not held by another thread.
+     * 
+     * @return true if the lock was free or already held by the current thread,
+     *         false otherwise.
+     */
+    @Override
+    public boolean tryLock() {
+        return reentrantLock.tryLock();
+    }
+
+    /**
+     * Acquires the reentrant lock if it is not held by another thread within the
+     * given waiting time.
+     * 
+     * @return true if the lock was acquired, false if the waiting time elapsed.
+     */
+    @Override
+    public boolean tryLock(Duration timeout) throws InterruptedException {
+        return reentrantLock.tryLock(timeout.toNanos(), TimeUnit.NANOSECONDS);
+    }
+
     /**
      * Releases the reentrant lock.
      * 
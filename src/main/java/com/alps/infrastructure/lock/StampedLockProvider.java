@@ -0,0 +1,160 @@
+package com.alps.infrastructure.lock;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.StampedLock;
+
+import com.alps.core.lock.ReadWriteLockProvider;
+
+/**
+ * An implementation of {@link ReadWriteLockProvider} using {@link StampedLock}.
+ * Optimistic reads never block writers, which suits read-heavy workloads such
+ * as availability checks that vastly outnumber reservations.
+ * 
+ * Unlike {@link ReentrantLockProvider}, this lock is not reentrant. The
+ * thread holding the write lock is tracked, and a thread trying to acquire
+ * the lock again while holding it gets an {@link IllegalStateException} from
+ * the blocking methods, and an immediate failure from the {@code tryLock}
+ * methods, instead of deadlocking on itself, for example when one instance is
+ * shared between a reservation and the seats it locks in turn.
+ */
+public class StampedLockProvider implements ReadWriteLockProvider {
+
+    private final StampedLock stampedLock = new StampedLock();
+    private final Lock writeView = stampedLock.asWriteLock();
+    private volatile Thread writeOwner;
+
+    /**
+     * Acquires the write lock.
+     * 
+     * Blocks until the lock is available.
+     * 
+     * @throws IllegalStateException if the current thread already holds the write lock.
+     */
+    @Override
+    public void lock() {
+        requireNotOwner();
+        writeView.lock();
+        writeOwner = Thread.currentThread();
+    }
+
+    /**
+     * Acquires the write lock only if it is free.
+     * 
+     * @return true if the lock was acquired, false otherwise, including when the
+     *         current thread already holds it.
+     */
+    @Override
+    public boolean tryLock() {
+        if (isOwner() || !writeView.tryLock()) {
+            return false;
+        }
+        writeOwner = Thread.currentThread();
+        return true;
+    }
+
+    /**
+     * Acquires the write lock if it becomes free within the given waiting time.
+     * 
+     * @return true if the lock was acquired, false if the waiting time elapsed,
+     *         or at once if the current thread already holds it.
+     */
+    @Override
+    public boolean tryLock(Duration timeout) throws InterruptedException {
+        if (isOwner() || !writeView.tryLock(timeout.toNanos(), TimeUnit.NANOSECONDS)) {
+            return false;
+        }
+        writeOwner = Thread.currentThread();
+        return true;
+    }
+
+    /**
+     * Releases the write lock acquired through {@link #lock()}.
+     * 
+     * @throws IllegalMonitorStateException if the current thread does not hold the write lock.
+     */
+    @Override
+    public void unlock() {
+        if (!isOwner()) {
+            throw new IllegalMonitorStateException();
+        }
+        writeOwner = null;
+        writeView.unlock();
+    }
+
+    /**
+     * Checks if the lock is currently held in read or write mode.
+     * 
+     * @return true if any thread holds the lock, false otherwise.
+     */
+    @Override
+    public boolean isLocked() {
+        return stampedLock.isWriteLocked() || stampedLock.isReadLocked();
+    }
+
+    @Override
+    public long tryOptimisticRead() {
+        return stampedLock.tryOptimisticRead();
+    }
+
+    @Override
+    public boolean validate(long stamp) {
+        return stampedLock.validate(stamp);
+    }
+
+    /**
+     * {@inheritDoc}
+     * 
+     * @throws IllegalStateException if the current thread holds the write lock.
+     */
+    @Override
+    public long readLock() {
+        requireNotOwner();
+        return stampedLock.readLock();
+    }
+
+    @Override
+    public void unlockRead(long stamp) {
+        stampedLock.unlockRead(stamp);
+    }
+
+    /**
+     * {@inheritDoc}
+     * 
+     * @throws IllegalStateException if the current thread already holds the write lock.
+     */
+    @Override
+    public long writeLock() {
+        requireNotOwner();
+        long stamp = stampedLock.writeLock();
+        writeOwner = Thread.currentThread();
+        return stamp;
+    }
+
+    /**
+     * {@inheritDoc}
+     * 
+     * @throws IllegalMonitorStateException if the stamp is not a valid write stamp
+     *                                      or the current thread does not hold the
+     *                                      write lock.
+     */
+    @Override
+    public void unlockWrite(long stamp) {
+        if (!isOwner() || !stampedLock.validate(stamp) || !StampedLock.isWriteLockStamp(stamp)) {
+            throw new IllegalMonitorStateException();
+        }
+        writeOwner = null;
+        stampedLock.unlockWrite(stamp);
+    }
+
+    private boolean isOwner() {
+        return writeOwner == Thread.currentThread();
+    }
+
+    private void requireNotOwner() {
+        if (isOwner()) {
+            throw new IllegalStateException("The lock is not reentrant and is already held by the current thread.");
+        }
+    }
+}
@@ -0,0 +1,128 @@
+package com.alps.infrastructure.lock;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+import com.alps.core.lock.KeyedLockProvider;
+
+import lombok.NonNull;
+
+/**
+ * An implementation of {@link KeyedLockProvider} that spreads keys over a fixed
+ * number of {@link ReentrantLock} stripes. Keys are hashed onto a stripe, so
+ * seats or sessions that land on different stripes can be locked in parallel
+ * while the memory used stays bounded regardless of the number of keys.
+ * The stripe count is rounded up to a power of two.
+ */
+public class StripedLockProvider implements KeyedLockProvider {
+
+    private static final int MAX_STRIPES = 1 << 16;
+
+    private final ReentrantLock[] stripes;
+    private final int mask;
+
+    /**
+     * Constructs a StripedLockProvider with four stripes per available
+     * processor.
+     */
+    public StripedLockProvider() {
+        this(Runtime.getRuntime().availableProcessors() * 4);
+    }
+
+    /**
+     * Constructs a StripedLockProvider with the given number of stripes.
+     * 
+     * @param stripeCount The minimum number of stripes, rounded up to a power of
+     *                    two.
+     * @throws IllegalArgumentException if the stripe count is not positive or is
+     *                                  greater than 65536.
+     */
+    public StripedLockProvider(int stripeCount) {
+        if (stripeCount <= 0 || stripeCount > MAX_STRIPES) {
+            throw new IllegalArgumentException("Stripe count must be between 1 and " + MAX_STRIPES);
+        }
+        int size = stripeCount == 1 ? 1 : Integer.highestOneBit(stripeCount - 1) << 1;
+        this.stripes = new ReentrantLock[size];
+        this.mask = size - 1;
+        for (int i = 0; i < size; i++) {
+            stripes[i] = new ReentrantLock();
+        }
+    }
+
+    /**
+     * Acquires the stripe the key maps to.
+     * 
+     * Blocks until the lock is available.
+     */
+    @Override
+    public void lock(@NonNull String key) {
+        stripeFor(key).lock();
+    }
+
+    /**
+     * Acquires the stripe the key maps to only if it is free.
+     * 
+     * @return true if the stripe was acquired, false otherwise.
+     */
+    @Override
+    public boolean tryLock(@NonNull String key) {
+        return stripeFor(key).tryLock();
+    }
+
+    /**
+     * Acquires the stripe the key maps to if it becomes free within the given
+     * waiting time.
+     * 
+     * @return true if the stripe was acquired, false if the waiting time elapsed.
+     */
+    @Override
+    public boolean tryLock(@NonNull String key, @NonNull Duration timeout) throws InterruptedException {
+        return stripeFor(key).tryLock(timeout.toNanos(), TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Releases the stripe the key maps to.
+     * 
+     * If the current thread holds the stripe, then the hold count is decremented.
+     * If the hold count is now zero, the stripe is released.
+     */
+    @Override
+    public void unlock(@NonNull String key) {
+        stripeFor(key).unlock();
+    }
+
+    /**
+     * Checks if the stripe the key maps to is currently acquired by any thread.
+     * 
+     * @return true if any thread holds the stripe, false otherwise.
+     */
+    @Override
+    public boolean isLocked(@NonNull String key) {
+        return stripeFor(key).isLocked();
+    }
+
+    /**
+     * Gets the number of stripes backing this provider.
+     * 
+     * @return The number of stripes.
+     */
+    public int getStripeCount() {
+        return stripes.length;
+    }
+
+    /**
+     * Gets the stripe index a key maps to. Keys with the same stripe index share
+     * a lock.
+     * 
+     * @param key The key to map.
+     * @return The index of the stripe guarding the key.
+     */
+    public int stripeIndex(@NonNull String key) {
+        return LockKeys.index(key, mask);
+    }
+
+    private ReentrantLock stripeFor(String key) {
+        return stripes[stripeIndex(key)];
+    }
+}
@@ -0,0 +1,148 @@
+package com.alps.infrastructure.reservation;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Predicate;
+
+import com.alps.core.reservation.Reservation;
+import com.alps.core.reservation.ReservationRepository;
+import com.alps.core.reservation.ReservationStatus.StandardStatus;
+
+import lombok.EqualsAndHashCode;
+
+/**
+ * An in-memory {@link ReservationRepository} with secondary indexes by user,
+ * session, status, and session and status together, so every query is an
+ * index lookup rather than a scan.
+ *
+ * Saving or deleting a reservation updates its index entries while holding
+ * the reservation's entry in the primary map, so concurrent writes to the same
+ * reservation cannot leave stale entries behind. Index entries are resolved
+ * through the primary map and re-checked, so a query never returns a
+ * reservation that no longer matches it.
+ */
+public class InMemoryReservationRepository implements ReservationRepository {
+    private final Map<String, Reservation> reservations = new ConcurrentHashMap<>();
+    private final Map<String, Set<String>> byUser = new ConcurrentHashMap<>();
+    private final Map<String, Set<String>> bySession = new ConcurrentHashMap<>();
+    private final Map<StandardStatus, Set<String>> byStatus = new ConcurrentHashMap<>();
+    private final Map<SessionStatus, Set<String>> bySessionAndStatus = new ConcurrentHashMap<>();
+
+    @Override
+    public Reservation findById(String id) {
+        return reservations.get(id);
+    }
+
+    @Override
+    public List<Reservation> findByUserId(String userId) {
+        return resolve(byUser.get(userId), reservation -> reservation.getUser().getId().equals(userId));
+    }
+
+    @Override
+    public List<Reservation> findBySessionId(String sessionId) {
+        return resolve(bySession.get(sessionId),
+                reservation -> reservation.getSession().getSessionId().equals(sessionId));
+    }
+
+    @Override
+    public List<Reservation> findByStatus(StandardStatus status) {
+        return resolve(byStatus.get(status), reservation -> statusOf(reservation) == status);
+    }
+
+    @Override
+    public List<Reservation> findBySessionIdAndStatus(String sessionId, StandardStatus status) {
+        return resolve(bySessionAndStatus.get(new SessionStatus(sessionId, status)),
+                reservation -> statusOf(reservation) == status
+                        && reservation.getSession().getSessionId().equals(sessionId));
+    }
+
+    @Override
+    public Reservation save(Reservation reservation) {
+        String id = reservation.getReservationId();
+        reservations.compute(id, (key, previous) -> {
+            if (previous != null) {
+                unindex(id, previous);
+            }
+            index(id, reservation);
+            return reservation;
+        });
+        return reservation;
+    }
+
+    @Override
+    public void delete(String id) {
+        reservations.computeIfPresent(id, (key, previous) -> {
+            unindex(id, previous);
+            return null;
+        });
+    }
+
+    private void index(String id, Reservation reservation) {
+        String sessionId = reservation.getSession().getSessionId();
+        StandardStatus status = statusOf(reservation);
+        add(byUser, reservation.getUser().getId(), id);
+        add(bySession, sessionId, id);
+        if (status != null) {
+            add(byStatus, status, id);
+            add(bySessionAndStatus, new SessionStatus(sessionId, status), id);
+        }
+    }
+
+    private void unindex(String id, Reservation reservation) {
+        String sessionId = reservation.getSession().getSessionId();
+        StandardStatus status = statusOf(reservation);
+        remove(byUser, reservation.getUser().getId(), id);
+        remove(bySession, sessionId, id);
+        if (status != null) {
+            remove(byStatus, status, id);
+            remove(bySessionAndStatus, new SessionStatus(sessionId, status), id);
+        }
+    }
+
+    private List<Reservation> resolve(Set<String> ids, Predicate<Reservation> matches) {
+        List<Reservation> result = new ArrayList<>();
+        if (ids == null) {
+            return result;
+        }
+        for (String id : ids) {
+            Reservation reservation = reservations.get(id);
+            if (reservation != null && matches.test(reservation)) {
+                result.add(reservation);
+            }
+        }
+        return result;
+    }
+
+    private static StandardStatus statusOf(Reservation reservation) {
+        return reservation.getStatus().getStandardStatus();
+    }
+
+    private static <K> void add(Map<K, Set<String>> index, K key, String id) {
+        index.compute(key, (k, ids) -> {
+            Set<String> result = ids == null ? ConcurrentHashMap.newKeySet() : ids;
+            result.add(id);
+            return result;
+        });
+    }
+
+    private static <K> void remove(Map<K, Set<String>> index, K key, String id) {
+        index.computeIfPresent(key, (k, ids) -> {
+            ids.remove(id);
+            return ids.isEmpty() ? null : ids;
+        });
+    }
+
+    @EqualsAndHashCode
+    private static final class SessionStatus {
+        private final String sessionId;
+        private final StandardStatus status;
+
+        private SessionStatus(String sessionId, StandardStatus status) {
+            this.sessionId = sessionId;
+            this.status = status;
+        }
+    }
+}
@@ -0,0 +1,111 @@
+package com.alps.infrastructure.session;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import com.alps.core.session.Session;
+import com.alps.core.session.SessionRepository;
+
+import lombok.NonNull;
+
+/**
+ * An in-memory {@link SessionRepository} that indexes sessions in an interval
+ * tree ordered by start time, where every subtree knows the latest end time it
+ * contains. Time queries skip the subtrees that end too early or start too
+ * late, so they cost a logarithmic search plus the sessions returned, instead
+ * of calls to {@link Session#isActive()} on every session.
+ *
+ * Lookups by id read a concurrent map; the tree is guarded by a read-write
+ * lock, so time queries run in parallel with each other. Results are ordered
+ * by start time. Like {@link Session#isActive()}, a session is active strictly
+ * between its start and end times.
+ */
+public class InMemorySessionRepository implements SessionRepository {
+    private final Map<String, Session> sessions = new ConcurrentHashMap<>();
+    private final SessionIntervalTree byStart = new SessionIntervalTree();
+    private final ReadWriteLock treeLock = new ReentrantReadWriteLock();
+
+    @Override
+    public Session findById(String id) {
+        return sessions.get(id);
+    }
+
+    @Override
+    public List<Session> findActiveAt(@NonNull LocalDateTime time) {
+        return overlapping(time, time);
+    }
+
+    @Override
+    public List<Session> findStartingBetween(@NonNull LocalDateTime from, @NonNull LocalDateTime to) {
+        requireRange(from, to);
+        List<Session> result = new ArrayList<>();
+        treeLock.readLock().lock();
+        try {
+            byStart.startingBetween(from, to, result);
+        } finally {
+            treeLock.readLock().unlock();
+        }
+        return result;
+    }
+
+    @Override
+    public List<Session> findOverlapping(@NonNull LocalDateTime from, @NonNull LocalDateTime to) {
+        requireRange(from, to);
+        return overlapping(from, to);
+    }
+
+    @Override
+    public Session save(@NonNull Session session) {
+        sessions.compute(session.getSessionId(), (key, previous) -> {
+            treeLock.writeLock().lock();
+            try {
+                if (previous != null) {
+                    byStart.remove(previous);
+                }
+                byStart.insert(session);
+            } finally {
+                treeLock.writeLock().unlock();
+            }
+            return session;
+        });
+        return session;
+    }
+
+    @Override
+    public void delete(String id) {
+        sessions.computeIfPresent(id, (key, previous) -> {
+            treeLock.writeLock().lock();
+            try {
+                byStart.remove(previous);
+            } finally {
+                treeLock.writeLock().unlock();
+            }
+            return null;
+        });
+    }
+
+    /**
+     * Gets the sessions still running after {@code from} that started before {@code to}.
+     */
+    private List<Session> overlapping(LocalDateTime from, LocalDateTime to) {
+        List<Session> result = new ArrayList<>();
+        treeLock.readLock().lock();
+        try {
+            byStart.overlapping(from, to, result);
+        } finally {
+            treeLock.readLock().unlock();
+        }
+        return result;
+    }
+
+    private static void requireRange(LocalDateTime from, LocalDateTime to) {
+        if (from.isAfter(to)) {
+            throw new IllegalArgumentException("The start of the range must not be after its end.");
+        }
+    }
+}
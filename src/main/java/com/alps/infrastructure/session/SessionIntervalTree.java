@@ -0,0 +1,202 @@
+package com.alps.infrastructure.session;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import com.alps.core.session.Session;
+
+/**
+ * An AVL tree of sessions ordered by start time, then by id, where every node
+ * also stores the latest end time of its subtree. Subtrees ending before a
+ * queried range are skipped, so overlap queries cost a logarithmic search plus
+ * the sessions found, and the bound shrinks again when long sessions are
+ * removed.
+ *
+ * This class is not thread-safe.
+ */
+final class SessionIntervalTree {
+
+    private Node root;
+
+    private static final class Node {
+        private final Session session;
+        private final LocalDateTime start;
+        private final LocalDateTime end;
+        private final String id;
+        private Node left;
+        private Node right;
+        private int height = 1;
+        private LocalDateTime maxEnd;
+
+        private Node(Session session) {
+            this.session = session;
+            this.start = session.getStartTime();
+            this.end = session.getEndTime();
+            this.id = session.getSessionId();
+            this.maxEnd = end;
+        }
+    }
+
+    /**
+     * Adds a session, which must not already be in the tree.
+     */
+    void insert(Session session) {
+        root = insert(root, new Node(session));
+    }
+
+    /**
+     * Removes a session, identified by its start time and id.
+     */
+    void remove(Session session) {
+        root = remove(root, session.getStartTime(), session.getSessionId());
+    }
+
+    /**
+     * Collects, in start order, the sessions starting strictly before {@code to}
+     * and ending strictly after {@code from}.
+     */
+    void overlapping(LocalDateTime from, LocalDateTime to, List<Session> result) {
+        overlapping(root, from, to, result);
+    }
+
+    /**
+     * Collects, in start order, the sessions starting between {@code from} and
+     * {@code to}, both inclusive.
+     */
+    void startingBetween(LocalDateTime from, LocalDateTime to, List<Session> result) {
+        startingBetween(root, from, to, result);
+    }
+
+    private static void overlapping(Node node, LocalDateTime from, LocalDateTime to, List<Session> result) {
+        if (node == null || !node.maxEnd.isAfter(from)) {
+            return;
+        }
+        overlapping(node.left, from, to, result);
+        if (!node.start.isBefore(to)) {
+            return;
+        }
+        if (node.end.isAfter(from)) {
+            result.add(node.session);
+        }
+        overlapping(node.right, from, to, result);
+    }
+
+    private static void startingBetween(Node node, LocalDateTime from, LocalDateTime to, List<Session> result) {
+        if (node == null) {
+            return;
+        }
+        if (!node.start.isBefore(from)) {
+            startingBetween(node.left, from, to, result);
+            if (!node.start.isAfter(to)) {
+                result.add(node.session);
+            }
+        }
+        if (!node.start.isAfter(to)) {
+            startingBetween(node.right, from, to, result);
+        }
+    }
+
+    private static int compare(LocalDateTime start, String id, Node node) {
+        int byStart = start.compareTo(node.start);
+        return byStart != 0 ? byStart : id.compareTo(node.id);
+    }
+
+    private static Node insert(Node node, Node added) {
+        if (node == null) {
+            return added;
+        }
+        if (compare(added.start, added.id, node) < 0) {
+            node.left = insert(node.left, added);
+        } else {
+            node.right = insert(node.right, added);
+        }
+        return balance(node);
+    }
+
+    private static Node remove(Node node, LocalDateTime start, String id) {
+        if (node == null) {
+            return null;
+        }
+        int comparison = compare(start, id, node);
+        if (comparison < 0) {
+            node.left = remove(node.left, start, id);
+        } else if (comparison > 0) {
+            node.right = remove(node.right, start, id);
+        } else {
+            if (node.left == null) {
+                return node.right;
+            }
+            if (node.right == null) {
+                return node.left;
+            }
+            Node successor = node.right;
+            while (successor.left != null) {
+                successor = successor.left;
+            }
+            successor.right = removeFirst(node.right);
+            successor.left = node.left;
+            return balance(successor);
+        }
+        return balance(node);
+    }
+
+    private static Node removeFirst(Node node) {
+        if (node.left == null) {
+            return node.right;
+        }
+        node.left = removeFirst(node.left);
+        return balance(node);
+    }
+
+    private static Node balance(Node node) {
+        update(node);
+        int skew = height(node.left) - height(node.right);
+        if (skew > 1) {
+            if (height(node.left.left) < height(node.left.right)) {
+                node.left = rotateLeft(node.left);
+            }
+            return rotateRight(node);
+        }
+        if (skew < -1) {
+            if (height(node.right.right) < height(node.right.left)) {
+                node.right = rotateRight(node.right);
+            }
+            return rotateLeft(node);
+        }
+        return node;
+    }
+
+    private static Node rotateLeft(Node node) {
+        Node pivot = node.right;
+        node.right = pivot.left;
+        pivot.left = node;
+        update(node);
+        update(pivot);
+        return pivot;
+    }
+
+    private static Node rotateRight(Node node) {
+        Node pivot = node.left;
+        node.left = pivot.right;
+        pivot.right = node;
+        update(node);
+        update(pivot);
+        return pivot;
+    }
+
+    private static void update(Node node) {
+        node.height = 1 + Math.max(height(node.left), height(node.right));
+        LocalDateTime maxEnd = node.end;
+        if (node.left != null && node.left.maxEnd.isAfter(maxEnd)) {
+            maxEnd = node.left.maxEnd;
+        }
+        if (node.right != null && node.right.maxEnd.isAfter(maxEnd)) {
+            maxEnd = node.right.maxEnd;
+        }
+        node.maxEnd = maxEnd;
+    }
+
+    private static int height(Node node) {
+        return node == null ? 0 : node.height;
+    }
+}
@@ -0,0 +1,296 @@
+package com.alps.infrastructure.snapshot;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+
+import com.alps.core.location.Location;
+import com.alps.core.location.LocationSeat;
+import com.alps.core.lock.LockProvider;
+import com.alps.core.session.SeatInventory;
+import com.alps.core.session.Session;
+
+import lombok.Getter;
+import lombok.NonNull;
+
+/**
+ * A compact binary snapshot of sessions and their seat availability. Each
+ * session is stored with its metadata, its seats in inventory order and the
+ * availability bitmap of its {@link SeatInventory}, along with the
+ * {@link com.alps.infrastructure.journal.ReservationJournal} position the
+ * snapshot was taken at, so recovery only replays the journal from there.
+ *
+ * A loaded snapshot is a read-only {@link MappedByteBuffer} over the file
+ * with an index of where each session starts. Nothing else is decoded until a
+ * session is restored, and bitmaps are copied straight from the mapping into
+ * the inventory a word at a time.
+ *
+ * Snapshots are written to a temporary file that is then moved over the
+ * target, so a crash while writing leaves the previous snapshot intact.
+ */
+public final class SessionSnapshot {
+
+    private static final int MAGIC = 0x534E4150;
+    private static final int VERSION = 1;
+    private static final int MAX_STRING_LENGTH = 0xFFFF;
+
+    private final MappedByteBuffer buffer;
+    @Getter
+    private final long journalPosition;
+    private final Map<String, Integer> offsets;
+
+    private SessionSnapshot(MappedByteBuffer buffer, long journalPosition, Map<String, Integer> offsets) {
+        this.buffer = buffer;
+        this.journalPosition = journalPosition;
+        this.offsets = offsets;
+    }
+
+    /**
+     * Writes a snapshot of the given sessions.
+     *
+     * @param file            The snapshot file, replaced atomically.
+     * @param sessions        The sessions to store.
+     * @param journalPosition The journal position the seat state corresponds to.
+     * @throws UncheckedIOException if the snapshot cannot be written.
+     */
+    public static void write(@NonNull Path file, @NonNull Collection<Session> sessions, long journalPosition) {
+        Path temporary = file.resolveSibling(file.getFileName() + ".tmp");
+        try (FileChannel channel = FileChannel.open(temporary, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING)) {
+            ByteBuffer header = ByteBuffer.allocate(2 * Integer.BYTES + Long.BYTES + Integer.BYTES);
+            header.putInt(MAGIC).putInt(VERSION).putLong(journalPosition).putInt(sessions.size()).flip();
+            writeFully(channel, header);
+            for (Session session : sessions) {
+                writeFully(channel, encode(session));
+            }
+            channel.force(true);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        try {
+            Files.move(temporary, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Loads a snapshot, mapping the file and indexing its sessions.
+     *
+     * @param file The snapshot file.
+     * @return The loaded snapshot.
+     * @throws IllegalArgumentException if the file is not a snapshot.
+     * @throws UncheckedIOException     if the snapshot cannot be read.
+     */
+    public static SessionSnapshot load(@NonNull Path file) {
+        MappedByteBuffer buffer;
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        if (buffer.limit() < 20 || buffer.getInt(0) != MAGIC || buffer.getInt(4) != VERSION) {
+            throw new IllegalArgumentException("Not a session snapshot: " + file);
+        }
+        long journalPosition = buffer.getLong(8);
+        int count = buffer.getInt(16);
+
+        Map<String, Integer> offsets = new LinkedHashMap<>(count * 2);
+        int offset = 20;
+        for (int i = 0; i < count; i++) {
+            int length = buffer.getInt(offset);
+            ByteBuffer entry = buffer.slice(offset + Integer.BYTES, length);
+            offsets.put(getString(entry), offset + Integer.BYTES);
+            offset += Integer.BYTES + length;
+        }
+        return new SessionSnapshot(buffer, journalPosition, offsets);
+    }
+
+    /**
+     * Gets the ids of the sessions in the snapshot, in the order they were written.
+     *
+     * @return An unmodifiable set of session ids.
+     */
+    public Set<String> sessionIds() {
+        return Collections.unmodifiableSet(offsets.keySet());
+    }
+
+    /**
+     * Rebuilds a session from the snapshot. Its seats are created in inventory
+     * order with the availability read from the stored bitmap, so the new
+     * session's inventory matches the snapshot.
+     *
+     * @param sessionId    The id of the session.
+     * @param location     The location of the session and its seats.
+     * @param lockProvider The lock provider given to every seat.
+     * @return The rebuilt session.
+     * @throws IllegalArgumentException if the session is not in the snapshot.
+     */
+    public Session restore(@NonNull String sessionId, @NonNull Location location, @NonNull LockProvider lockProvider) {
+        ByteBuffer entry = entry(sessionId);
+        getString(entry);
+        String name = getString(entry);
+        LocalDateTime startTime = getTime(entry);
+        LocalDateTime endTime = getTime(entry);
+        int seatCount = entry.getInt();
+        String[] seatIds = new String[seatCount];
+        String[] descriptions = new String[seatCount];
+        for (int i = 0; i < seatCount; i++) {
+            seatIds[i] = getString(entry);
+            descriptions[i] = getString(entry);
+        }
+        int bitmap = entry.position();
+
+        Set<LocationSeat> seats = new LinkedHashSet<>(seatCount * 2);
+        for (int i = 0; i < seatCount; i++) {
+            long word = entry.getLong(bitmap + (i >>> 6) * Long.BYTES);
+            boolean available = (word & (1L << (i & 63))) != 0L;
+            seats.add(LocationSeat.create(seatIds[i], descriptions[i], location, lockProvider, available));
+        }
+        return Session.create(sessionId, name, startTime, endTime, location, seats);
+    }
+
+    /**
+     * Restores the seat availability of an existing session from the snapshot.
+     * When the session indexes its seats in the stored order, the bitmap is
+     * copied a word at a time; otherwise seats are matched by id, and seats
+     * unknown to the snapshot are left unchanged.
+     *
+     * @param session The session to restore.
+     * @throws IllegalArgumentException if the session is not in the snapshot.
+     */
+    public void restoreInto(@NonNull Session session) {
+        ByteBuffer entry = entry(session.getSessionId());
+        getString(entry);
+        getString(entry);
+        getTime(entry);
+        getTime(entry);
+        int seatCount = entry.getInt();
+        String[] seatIds = new String[seatCount];
+        SeatInventory inventory = session.getInventory();
+        boolean sameOrder = seatCount == inventory.capacity();
+        for (int i = 0; i < seatCount; i++) {
+            seatIds[i] = getString(entry);
+            getString(entry);
+            sameOrder &= seatIds[i].equals(inventory.seatIdAt(i));
+        }
+        int bitmap = entry.position();
+
+        if (sameOrder) {
+            restoreBitmap(entry, bitmap, inventory);
+            return;
+        }
+        for (int i = 0; i < seatCount; i++) {
+            int index = inventory.indexOf(seatIds[i]);
+            if (index < 0) {
+                continue;
+            }
+            long word = entry.getLong(bitmap + (i >>> 6) * Long.BYTES);
+            if ((word & (1L << (i & 63))) != 0L) {
+                inventory.tryRelease(index);
+            } else {
+                inventory.tryReserve(index);
+            }
+        }
+    }
+
+    private ByteBuffer entry(String sessionId) {
+        Integer offset = offsets.get(sessionId);
+        if (offset == null) {
+            throw new IllegalArgumentException("Session not in snapshot: " + sessionId);
+        }
+        return buffer.slice(offset, buffer.getInt(offset - Integer.BYTES));
+    }
+
+    private static void restoreBitmap(ByteBuffer entry, int bitmap, SeatInventory inventory) {
+        for (int word = 0; word < inventory.wordCount(); word++) {
+            inventory.restoreWord(word, entry.getLong(bitmap + word * Long.BYTES));
+        }
+    }
+
+    private static ByteBuffer encode(Session session) {
+        SeatInventory inventory = session.getInventory();
+        Map<String, LocationSeat> seatsById = new LinkedHashMap<>();
+        session.getSeats().forEach(seat -> seatsById.put(seat.getSeatId(), seat));
+
+        byte[] sessionId = utf8(session.getSessionId());
+        byte[] name = utf8(session.getName());
+        byte[][] seatIds = new byte[inventory.capacity()][];
+        byte[][] descriptions = new byte[inventory.capacity()][];
+        int length = 2 * Short.BYTES + sessionId.length + name.length + 2 * (Long.BYTES + Integer.BYTES)
+                + Integer.BYTES + inventory.wordCount() * Long.BYTES;
+        for (int i = 0; i < seatIds.length; i++) {
+            String seatId = inventory.seatIdAt(i);
+            seatIds[i] = utf8(seatId);
+            descriptions[i] = utf8(seatsById.get(seatId).getDescription());
+            length += 2 * Short.BYTES + seatIds[i].length + descriptions[i].length;
+        }
+
+        ByteBuffer buffer = ByteBuffer.allocate(Integer.BYTES + length);
+        buffer.putInt(length);
+        putString(buffer, sessionId);
+        putString(buffer, name);
+        putTime(buffer, session.getStartTime());
+        putTime(buffer, session.getEndTime());
+        buffer.putInt(seatIds.length);
+        for (int i = 0; i < seatIds.length; i++) {
+            putString(buffer, seatIds[i]);
+            putString(buffer, descriptions[i]);
+        }
+        for (int word = 0; word < inventory.wordCount(); word++) {
+            buffer.putLong(inventory.availabilityWord(word));
+        }
+        return buffer.flip();
+    }
+
+    private static void writeFully(FileChannel channel, ByteBuffer buffer) throws IOException {
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+    }
+
+    private static byte[] utf8(String value) {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        if (bytes.length > MAX_STRING_LENGTH) {
+            throw new IllegalArgumentException("Value too long for a snapshot: " + value);
+        }
+        return bytes;
+    }
+
+    private static void putString(ByteBuffer buffer, byte[] bytes) {
+        buffer.putShort((short) bytes.length);
+        buffer.put(bytes);
+    }
+
+    private static String getString(ByteBuffer buffer) {
+        byte[] bytes = new byte[Short.toUnsignedInt(buffer.getShort())];
+        buffer.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private static void putTime(ByteBuffer buffer, LocalDateTime time) {
+        buffer.putLong(time.toEpochSecond(ZoneOffset.UTC));
+        buffer.putInt(time.getNano());
+    }
+
+    private static LocalDateTime getTime(ByteBuffer buffer) {
+        long seconds = buffer.getLong();
+        int nanos = buffer.getInt();
+        return LocalDateTime.ofEpochSecond(seconds, nanos, ZoneOffset.UTC);
+    }
+}
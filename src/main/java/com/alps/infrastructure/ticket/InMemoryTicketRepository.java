@@ -0,0 +1,157 @@
+package com.alps.infrastructure.ticket;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.function.Predicate;
+
+import com.alps.core.ticket.Ticket;
+import com.alps.core.ticket.TicketRepository;
+
+/**
+ * An in-memory {@link TicketRepository} built for gate scans: tickets are
+ * found by id with a single hash lookup, and secondary indexes by user and
+ * session avoid scans for account and session views.
+ *
+ * Tickets are also bucketed by their {@code validUntil} date, with the dates in
+ * a sorted set. A ticket is expired on the day its {@code validUntil} date is
+ * reached, the same rule as {@link Ticket#isValid()}, so the expired tickets
+ * are exactly the buckets up to the current date, and they are found and
+ * evicted bucket by bucket without looking at any valid ticket.
+ */
+public class InMemoryTicketRepository implements TicketRepository {
+    private final Map<String, Ticket> tickets = new ConcurrentHashMap<>();
+    private final Map<String, Set<String>> byUser = new ConcurrentHashMap<>();
+    private final Map<String, Set<String>> bySession = new ConcurrentHashMap<>();
+    private final Map<LocalDate, Set<String>> byValidUntil = new ConcurrentHashMap<>();
+    private final NavigableSet<LocalDate> validUntilDates = new ConcurrentSkipListSet<>();
+
+    @Override
+    public Ticket findById(String id) {
+        return tickets.get(id);
+    }
+
+    @Override
+    public List<Ticket> findByUserId(String userId) {
+        return resolve(byUser.get(userId), ticket -> ticket.getUser().getId().equals(userId));
+    }
+
+    @Override
+    public List<Ticket> findBySessionId(String sessionId) {
+        return resolve(bySession.get(sessionId), ticket -> ticket.getSession().getSessionId().equals(sessionId));
+    }
+
+    @Override
+    public List<Ticket> findExpired(LocalDate today) {
+        List<Ticket> result = new ArrayList<>();
+        for (LocalDate date : validUntilDates.headSet(today, true)) {
+            result.addAll(resolve(byValidUntil.get(date), ticket -> ticket.getValidUntil().equals(date)));
+        }
+        return result;
+    }
+
+    @Override
+    public Ticket save(Ticket ticket) {
+        String id = ticket.getTicketId();
+        tickets.compute(id, (key, previous) -> {
+            if (previous != null) {
+                unindex(id, previous);
+            }
+            index(id, ticket);
+            return ticket;
+        });
+        return ticket;
+    }
+
+    @Override
+    public void delete(String id) {
+        tickets.computeIfPresent(id, (key, previous) -> {
+            unindex(id, previous);
+            return null;
+        });
+    }
+
+    /**
+     * Removes every ticket expired on the given date. Whole buckets are detached
+     * from the index, so the cost depends only on the number of expired tickets.
+     */
+    @Override
+    public int deleteExpired(LocalDate today) {
+        int deleted = 0;
+        for (LocalDate date : validUntilDates.headSet(today, true)) {
+            validUntilDates.remove(date);
+            Set<String> ids = byValidUntil.remove(date);
+            if (ids == null) {
+                continue;
+            }
+            for (String id : ids) {
+                boolean[] removed = new boolean[1];
+                tickets.computeIfPresent(id, (key, ticket) -> {
+                    if (!ticket.getValidUntil().equals(date)) {
+                        return ticket;
+                    }
+                    remove(byUser, ticket.getUser().getId(), id);
+                    remove(bySession, ticket.getSession().getSessionId(), id);
+                    removed[0] = true;
+                    return null;
+                });
+                if (removed[0]) {
+                    deleted++;
+                }
+            }
+        }
+        return deleted;
+    }
+
+    /**
+     * Indexes a ticket. The validity bucket is filled before its date is
+     * published, and eviction unpublishes a date before detaching its bucket, so
+     * a ticket saved during an eviction is never left out of both.
+     */
+    private void index(String id, Ticket ticket) {
+        add(byUser, ticket.getUser().getId(), id);
+        add(bySession, ticket.getSession().getSessionId(), id);
+        add(byValidUntil, ticket.getValidUntil(), id);
+        validUntilDates.add(ticket.getValidUntil());
+    }
+
+    private void unindex(String id, Ticket ticket) {
+        remove(byUser, ticket.getUser().getId(), id);
+        remove(bySession, ticket.getSession().getSessionId(), id);
+        remove(byValidUntil, ticket.getValidUntil(), id);
+    }
+
+    private List<Ticket> resolve(Set<String> ids, Predicate<Ticket> matches) {
+        List<Ticket> result = new ArrayList<>();
+        if (ids == null) {
+            return result;
+        }
+        for (String id : ids) {
+            Ticket ticket = tickets.get(id);
+            if (ticket != null && matches.test(ticket)) {
+                result.add(ticket);
+            }
+        }
+        return result;
+    }
+
+    private static <K> void add(Map<K, Set<String>> index, K key, String id) {
+        index.compute(key, (k, ids) -> {
+            Set<String> result = ids == null ? ConcurrentHashMap.newKeySet() : ids;
+            result.add(id);
+            return result;
+        });
+    }
+
+    private static <K> void remove(Map<K, Set<String>> index, K key, String id) {
+        index.computeIfPresent(key, (k, ids) -> {
+            ids.remove(id);
+            return ids.isEmpty() ? null : ids;
+        });
+    }
+}
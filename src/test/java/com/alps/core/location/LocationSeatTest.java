@@ -3,13 +3,19 @@ package com.alps.core.location;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.time.Duration;
 import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.locks.ReentrantLock;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import com.alps.core.lock.LockAttempt;
 import com.alps.core.lock.LockProvider;
 import com.alps.infrastructure.lock.ReentrantLockProvider;
 
@@ -51,7 +57,70 @@ public class LocationSeatTest {
         assertThrows(IllegalStateException.class, () -> locationSeat.release());
     }
 
+    @Test
+    void shouldReserveAndReleaseSeatWithinTimeout() {
+        LockAttempt<LocationSeat> reserved = locationSeat.reserve(Duration.ofMillis(50));
+        assertTrue(reserved.isAcquired());
+        assertFalse(reserved.get().isAvailable());
+
+        LockAttempt<LocationSeat> released = reserved.get().release(Duration.ofMillis(50));
+        assertTrue(released.isAcquired());
+        assertTrue(released.get().isAvailable());
+    }
+
+    @Test
+    void shouldReportContentionWhenSeatLockIsHeld() throws Exception {
+        lockProvider.lock();
+        ExecutorService executorService = Executors.newSingleThreadExecutor();
+        try {
+            LockAttempt<LocationSeat> attempt = executorService
+                    .submit(() -> locationSeat.reserve(Duration.ofMillis(20)))
+                    .get();
+            assertTrue(attempt.isContended());
+            assertThrows(IllegalStateException.class, attempt::get);
+        } finally {
+            lockProvider.unlock();
+            executorService.shutdown();
+        }
+    }
+
+    @Test
+    void shouldGiveUpWithinTimeoutUsingProviderWithoutTryLock() {
+        LockProvider blockingOnly = new BlockingOnlyLockProvider();
+        LocationSeat seat = LocationSeat.create(UUID.randomUUID().toString(), "legacy", location, blockingOnly, true);
+
+        LockAttempt<LocationSeat> reserved = assertTimeoutPreemptively(Duration.ofSeconds(1),
+                () -> seat.reserve(Duration.ofMillis(50)));
+
+        assertFalse(reserved.isAcquired());
+        assertTrue(seat.isAvailable());
+        assertFalse(blockingOnly.isLocked());
+        assertFalse(blockingOnly.tryLock());
+    }
+
     class SomeLocation implements Location {
     }
 
+    /**
+     * A provider written before non-blocking acquisition was part of the SPI.
+     */
+    static class BlockingOnlyLockProvider implements LockProvider {
+        private final ReentrantLock lock = new ReentrantLock();
+
+        @Override
+        public void lock() {
+            lock.lock();
+        }
+
+        @Override
+        public void unlock() {
+            lock.unlock();
+        }
+
+        @Override
+        public boolean isLocked() {
+            return lock.isLocked();
+        }
+    }
+
 }
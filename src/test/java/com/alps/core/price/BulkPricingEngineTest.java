@@ -0,0 +1,127 @@
+package com.alps.core.price;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Function;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.alps.core.location.Location;
+import com.alps.core.location.LocationSeat;
+import com.alps.core.session.Session;
+import com.alps.infrastructure.lock.ReentrantLockProvider;
+
+public class BulkPricingEngineTest {
+
+    ForkJoinPool pool;
+    BulkPricingEngine engine;
+
+    @BeforeEach
+    void setup() {
+        pool = new ForkJoinPool(4);
+        engine = new BulkPricingEngine(pool, 16);
+    }
+
+    @AfterEach
+    void tearDown() {
+        pool.shutdownNow();
+    }
+
+    @Test
+    void shouldPriceEverySeatOfACartInOrder() {
+        List<String> seatIds = seatIds(1000);
+        Function<String, Price> pricing = seatId -> new Price(new BigDecimal(seatId + ".25"))
+                .addDiscountRule(DiscountRule.pure(amount -> amount.subtract(BigDecimal.ONE)));
+
+        BulkPricingResult result = engine.price(seatIds, pricing);
+
+        assertEquals(1000, result.size());
+        assertEquals(seatIds, result.getSeatIds());
+        BigDecimal expectedTotal = BigDecimal.ZERO;
+        for (int i = 0; i < seatIds.size(); i++) {
+            BigDecimal expected = pricing.apply(seatIds.get(i)).calculateFinalPrice();
+            assertEquals(expected, result.amountAt(i));
+            expectedTotal = expectedTotal.add(expected);
+        }
+        assertEquals(expectedTotal, result.getTotal());
+    }
+
+    @Test
+    void shouldComputeTheSameTotalForAnySplit() {
+        List<String> seatIds = seatIds(777);
+        Function<String, Price> pricing = seatId -> new Price(new BigDecimal("0.001").multiply(new BigDecimal(seatId)));
+
+        BigDecimal sequential = new BulkPricingEngine(pool, Integer.MAX_VALUE).price(seatIds, pricing).getTotal();
+
+        assertEquals(sequential, new BulkPricingEngine(pool, 1).price(seatIds, pricing).getTotal());
+        assertEquals(sequential, engine.price(seatIds, pricing).getTotal());
+    }
+
+    @Test
+    void shouldPriceEverySeatOfASession() {
+        Location location = new Location() {
+        };
+        ReentrantLockProvider lockProvider = new ReentrantLockProvider();
+        Set<LocationSeat> seats = new HashSet<>();
+        for (String seatId : seatIds(100)) {
+            seats.add(LocationSeat.create(seatId, "seat " + seatId, location, lockProvider, true));
+        }
+        Session session = Session.create("1", "session", LocalDateTime.now(), LocalDateTime.now().plusHours(2),
+                location, seats);
+
+        BulkPricingResult result = engine.price(session, seatId -> new Price(BigDecimal.TEN));
+
+        assertEquals(100, result.size());
+        assertEquals(new BigDecimal("1000"), result.getTotal());
+    }
+
+    @Test
+    void shouldRejectMissingPrices() {
+        assertThrows(NullPointerException.class, () -> engine.price(seatIds(100), seatId -> null));
+    }
+
+    @Test
+    void shouldPriceFixedPointAmountsInParallel() {
+        FixedPointPrice rules = FixedPointPrice.ofMinorUnits(0L, 2)
+                .addDiscountRule(LongDiscountRule.percentOff(2000, RoundingMode.HALF_EVEN));
+        long[] amounts = new long[10_000];
+        long expectedTotal = 0L;
+        for (int i = 0; i < amounts.length; i++) {
+            amounts[i] = 1000L + i;
+            expectedTotal += rules.applyTo(amounts[i]);
+        }
+        long[] results = new long[amounts.length];
+
+        long total = engine.priceMinorUnits(rules, amounts, results);
+
+        assertEquals(expectedTotal, total);
+        assertEquals(800L, results[0]);
+        assertEquals(rules.applyTo(amounts[9_999]), results[9_999]);
+    }
+
+    @Test
+    void shouldRejectInvalidArguments() {
+        assertThrows(IllegalArgumentException.class, () -> new BulkPricingEngine(pool, 0));
+        FixedPointPrice rules = FixedPointPrice.ofMinorUnits(0L, 2);
+        assertThrows(IllegalArgumentException.class, () -> engine.priceMinorUnits(rules, new long[2], new long[1]));
+    }
+
+    private static List<String> seatIds(int count) {
+        List<String> seatIds = new ArrayList<>(count);
+        for (int i = 1; i <= count; i++) {
+            seatIds.add(String.valueOf(i));
+        }
+        return seatIds;
+    }
+}
@@ -0,0 +1,124 @@
+package com.alps.core.price;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+public class DiscountRuleIndexTest {
+
+    static final LocalDateTime NOW = LocalDateTime.of(2024, 6, 1, 20, 0);
+
+    @Test
+    void shouldMatchOnlyRulesWhoseCriteriaAllMatch() {
+        ConditionalDiscountRule rule = ConditionalDiscountRule.create("vip", amountOff("5"), 0)
+                .forUserTiers("gold", "platinum")
+                .forSessions("s1")
+                .during(NOW.minusDays(1), NOW.plusDays(1));
+
+        assertTrue(rule.matches(context("gold", "s1", "A", NOW)));
+        assertFalse(rule.matches(context("silver", "s1", "A", NOW)));
+        assertFalse(rule.matches(context(null, "s1", "A", NOW)));
+        assertFalse(rule.matches(context("gold", "s2", "A", NOW)));
+        assertFalse(rule.matches(context("gold", "s1", "A", NOW.plusDays(1))));
+        assertThrows(IllegalArgumentException.class, () -> rule.during(NOW, NOW.minusSeconds(1)));
+    }
+
+    @Test
+    void shouldSelectMatchingRulesByDescendingPriority() {
+        DiscountRuleIndex index = DiscountRuleIndex.of(List.of(
+                ConditionalDiscountRule.create("everyone", amountOff("1"), 1),
+                ConditionalDiscountRule.create("session", amountOff("2"), 5).forSessions("s1"),
+                ConditionalDiscountRule.create("section", amountOff("3"), 3).forSections("A", "B"),
+                ConditionalDiscountRule.create("gold", amountOff("4"), 4).forUserTiers("gold"),
+                ConditionalDiscountRule.create("other-session", amountOff("100"), 9).forSessions("s2")));
+
+        assertEquals(List.of("session", "gold", "section", "everyone"),
+                ids(index.matching(context("gold", "s1", "B", NOW))));
+        assertEquals(List.of("section", "everyone"), ids(index.matching(context(null, "s3", "A", NOW))));
+        assertEquals(new BigDecimal("90"), index.apply(new BigDecimal("100"), context("gold", "s1", "B", NOW)));
+    }
+
+    @Test
+    void shouldStopAfterTheFirstExclusiveRule() {
+        DiscountRuleIndex index = DiscountRuleIndex.of(List.of(
+                ConditionalDiscountRule.create("high", amountOff("1"), 10),
+                ConditionalDiscountRule.create("flash", amountOff("20"), 5).forSessions("s1").exclusive(),
+                ConditionalDiscountRule.create("low", amountOff("3"), 1)));
+
+        assertEquals(List.of("high", "flash"), ids(index.matching(context(null, "s1", null, NOW))));
+        assertEquals(List.of("high", "low"), ids(index.matching(context(null, "s2", null, NOW))));
+        assertEquals(new BigDecimal("79"), index.price(new BigDecimal("100"), context(null, "s1", null, NOW))
+                .calculateFinalPrice());
+    }
+
+    @Test
+    void shouldKeepInsertionOrderForEqualPriorities() {
+        DiscountRuleIndex index = DiscountRuleIndex.of(List.of(
+                ConditionalDiscountRule.create("first", amountOff("1"), 0).forSections("A"),
+                ConditionalDiscountRule.create("second", amountOff("1"), 0),
+                ConditionalDiscountRule.create("third", amountOff("1"), 0).forUserTiers("gold")));
+
+        assertEquals(List.of("first", "second", "third"), ids(index.matching(context("gold", "s1", "A", NOW))));
+    }
+
+    @Test
+    void shouldAgreeWithCheckingEveryRule() {
+        List<ConditionalDiscountRule> rules = new ArrayList<>();
+        for (int i = 0; i < 300; i++) {
+            ConditionalDiscountRule rule = ConditionalDiscountRule.create("r" + i, amountOff("1"), i % 7);
+            if (i % 2 == 0) {
+                rule = rule.forSessions("s" + (i % 5), "s" + (i % 3));
+            }
+            if (i % 3 == 0) {
+                rule = rule.forSections("S" + (i % 4));
+            }
+            if (i % 5 == 0) {
+                rule = rule.forUserTiers("t" + (i % 2));
+            }
+            if (i % 11 == 0) {
+                rule = rule.during(NOW.minusHours(1), NOW.plusHours(1));
+            }
+            rules.add(rule);
+        }
+        DiscountRuleIndex index = DiscountRuleIndex.of(rules);
+        List<ConditionalDiscountRule> byPriority = new ArrayList<>(rules);
+        byPriority.sort((a, b) -> Integer.compare(b.getPriority(), a.getPriority()));
+
+        for (String session : List.of("s0", "s1", "s2", "s3", "s4", "s9")) {
+            for (String section : new String[] { "S0", "S1", "S3", null }) {
+                for (String tier : new String[] { "t0", "t1", null }) {
+                    for (LocalDateTime time : List.of(NOW, NOW.plusHours(2))) {
+                        PricingContext context = context(tier, session, section, time);
+                        List<String> expected = byPriority.stream()
+                                .filter(rule -> rule.matches(context))
+                                .map(ConditionalDiscountRule::getRuleId)
+                                .collect(Collectors.toList());
+                        assertEquals(expected, ids(index.matching(context)));
+                    }
+                }
+            }
+        }
+    }
+
+    private static PricingContext context(String tier, String sessionId, String section, LocalDateTime time) {
+        return PricingContext.create("u1", tier, sessionId, "seat", section, time);
+    }
+
+    private static DiscountRule amountOff(String discount) {
+        BigDecimal value = new BigDecimal(discount);
+        return DiscountRule.pure(amount -> amount.subtract(value));
+    }
+
+    private static List<String> ids(List<ConditionalDiscountRule> rules) {
+        return rules.stream().map(ConditionalDiscountRule::getRuleId).collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,103 @@
+package com.alps.core.price;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+import org.junit.jupiter.api.Test;
+
+public class FixedPointPriceTest {
+
+    @Test
+    void shouldConvertExactlyToAndFromBigDecimal() {
+        FixedPointPrice price = FixedPointPrice.of(new BigDecimal("12.5"), 2);
+
+        assertEquals(1250L, price.getAmount());
+        assertEquals(new BigDecimal("12.50"), price.toBigDecimal());
+        assertEquals(new BigDecimal("12.50"), price.calculateFinalPrice());
+    }
+
+    @Test
+    void shouldRejectInexactConversionWithoutRoundingMode() {
+        assertThrows(ArithmeticException.class, () -> FixedPointPrice.of(new BigDecimal("12.345"), 2));
+        assertEquals(1234L, FixedPointPrice.of(new BigDecimal("12.345"), 2, RoundingMode.HALF_EVEN).getAmount());
+        assertEquals(1235L, FixedPointPrice.of(new BigDecimal("12.345"), 2, RoundingMode.HALF_UP).getAmount());
+    }
+
+    @Test
+    void shouldRejectAmountsOverflowingLong() {
+        assertThrows(ArithmeticException.class,
+                () -> FixedPointPrice.of(new BigDecimal(Long.MAX_VALUE).add(BigDecimal.ONE), 0));
+    }
+
+    @Test
+    void shouldApplyRulesInOrderAndClampAtZero() {
+        FixedPointPrice price = FixedPointPrice.ofMinorUnits(10_000L, 2)
+                .addDiscountRule(LongDiscountRule.percentOff(1000, RoundingMode.HALF_EVEN))
+                .addDiscountRule(LongDiscountRule.amountOff(500L));
+
+        assertEquals(8500L, price.calculateFinalMinorUnits());
+        assertEquals(0L, price.addDiscountRule(LongDiscountRule.amountOff(10_000L)).calculateFinalMinorUnits());
+    }
+
+    @Test
+    void shouldRoundPercentageDiscountsWithTheGivenMode() {
+        // 15% off 0.99 is 0.8415
+        assertEquals(84L, LongDiscountRule.percentOff(1500, RoundingMode.HALF_EVEN).applyAsLong(99L));
+        assertEquals(85L, LongDiscountRule.percentOff(1500, RoundingMode.CEILING).applyAsLong(99L));
+        // 50% off 0.05 is 0.025
+        assertEquals(2L, LongDiscountRule.percentOff(5000, RoundingMode.HALF_EVEN).applyAsLong(5L));
+        assertEquals(3L, LongDiscountRule.percentOff(5000, RoundingMode.HALF_UP).applyAsLong(5L));
+        assertThrows(IllegalArgumentException.class, () -> LongDiscountRule.percentOff(10_001, RoundingMode.HALF_UP));
+    }
+
+    @Test
+    void shouldDivideLikeBigDecimalForEveryRoundingMode() {
+        long[] dividends = {-7, -6, -5, -4, -1, 0, 1, 4, 5, 6, 7, 25, -25, 35, -35};
+        long[] divisors = {2, -2, 3, -3, 10, -10};
+        for (RoundingMode mode : RoundingMode.values()) {
+            for (long dividend : dividends) {
+                for (long divisor : divisors) {
+                    BigDecimal expected;
+                    try {
+                        expected = BigDecimal.valueOf(dividend).divide(BigDecimal.valueOf(divisor), 0, mode);
+                    } catch (ArithmeticException e) {
+                        assertThrows(ArithmeticException.class, () -> FixedPointPrice.divide(dividend, divisor, mode));
+                        continue;
+                    }
+                    assertEquals(expected.longValueExact(), FixedPointPrice.divide(dividend, divisor, mode),
+                            dividend + " / " + divisor + " " + mode);
+                }
+            }
+        }
+    }
+
+    @Test
+    void shouldPriceManyAmountsInPlace() {
+        FixedPointPrice price = FixedPointPrice.ofMinorUnits(0L, 2)
+                .addDiscountRule(LongDiscountRule.amountOff(250L));
+        long[] amounts = {1000L, 2000L, 100L};
+        long[] results = new long[amounts.length];
+
+        price.applyTo(amounts, results);
+
+        assertArrayEquals(new long[] {750L, 1750L, 0L}, results);
+        assertThrows(IllegalArgumentException.class, () -> price.applyTo(amounts, new long[2]));
+    }
+
+    @Test
+    void shouldMatchEquivalentBigDecimalPrice() {
+        FixedPointPrice fixed = FixedPointPrice.of(new BigDecimal("49.99"), 2)
+                .addDiscountRule(LongDiscountRule.percentOff(1250, RoundingMode.HALF_EVEN))
+                .addDiscountRule(LongDiscountRule.amountOff(199L));
+
+        Price price = fixed.toPrice();
+
+        assertEquals(fixed.calculateFinalPrice(), price.calculateFinalPrice());
+        assertTrue(LongDiscountRule.amountOff(1L).asDiscountRule(2).isPure());
+    }
+}
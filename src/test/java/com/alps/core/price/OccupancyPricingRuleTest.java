@@ -0,0 +1,113 @@
+package com.alps.core.price;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.alps.core.location.Location;
+import com.alps.core.location.LocationSeat;
+import com.alps.core.session.OccupancyGauge;
+import com.alps.core.session.SeatInventory;
+import com.alps.infrastructure.lock.ReentrantLockProvider;
+
+public class OccupancyPricingRuleTest {
+
+    SeatInventory inventory;
+    OccupancyGauge gauge;
+
+    @BeforeEach
+    void setup() {
+        Location location = new Location() {
+        };
+        ReentrantLockProvider lockProvider = new ReentrantLockProvider();
+        List<LocationSeat> seats = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            seats.add(LocationSeat.create(String.valueOf(i), "seat " + i, location, lockProvider, true));
+        }
+        inventory = SeatInventory.of(seats);
+        gauge = OccupancyGauge.of(inventory);
+    }
+
+    @Test
+    void shouldRaisePricesInSteps() {
+        OccupancyPricingRule rule = OccupancyPricingRule.steps(gauge, Map.of(
+                0, BigDecimal.ONE,
+                50, new BigDecimal("1.2"),
+                90, new BigDecimal("1.5")));
+        Price price = new Price(new BigDecimal("40.00")).addDiscountRule(rule);
+
+        assertEquals(new BigDecimal("40.00"), price.calculateFinalPrice());
+        occupy(50);
+        assertEquals(new BigDecimal("48.00"), price.calculateFinalPrice());
+        occupy(95);
+        assertEquals(new BigDecimal("60.00"), price.calculateFinalPrice());
+        assertFalse(rule.isPure());
+    }
+
+    @Test
+    void shouldPrecomputeMultipliersFromACurve() {
+        OccupancyPricingRule rule = OccupancyPricingRule.curve(gauge, 4, occupancy -> 1 + occupancy * occupancy);
+
+        assertEquals(4, rule.bands());
+        assertEquals(new BigDecimal("1.0000"), rule.multiplierAt(0));
+        assertEquals(new BigDecimal("1.0625"), rule.multiplierAt(1));
+        assertEquals(new BigDecimal("1.2500"), rule.multiplierAt(2));
+        assertEquals(new BigDecimal("1.5625"), rule.multiplierAt(3));
+
+        occupy(60);
+        assertEquals(new BigDecimal("1.2500"), rule.currentMultiplier());
+        assertEquals(new BigDecimal("12.50"), rule.apply(new BigDecimal("10.00")));
+    }
+
+    @Test
+    void shouldQuoteFromPrecomputedTables() {
+        OccupancyPricingRule rule = OccupancyPricingRule.curve(gauge, 4, occupancy -> 1 + occupancy);
+        OccupancyPricingRule.PriceTable table = rule.tableFor(new BigDecimal("9.99"));
+
+        assertEquals(new BigDecimal("9.99"), table.quote());
+        assertEquals(new BigDecimal("12.49"), table.priceAt(1));
+        occupy(100);
+        assertEquals(new BigDecimal("17.48"), table.quote());
+    }
+
+    @Test
+    void shouldApplyToMinorUnits() {
+        OccupancyPricingRule rule = OccupancyPricingRule.steps(gauge, Map.of(0, new BigDecimal("1.0"),
+                10, new BigDecimal("1.125")));
+        FixedPointPrice price = FixedPointPrice.ofMinorUnits(999L, 2).addDiscountRule(rule.asLongDiscountRule());
+
+        assertEquals(999L, price.calculateFinalMinorUnits());
+        occupy(10);
+        // 9.99 * 1.125 = 11.23875
+        assertEquals(1124L, price.calculateFinalMinorUnits());
+    }
+
+    @Test
+    void shouldRejectInvalidConfigurations() {
+        assertThrows(IllegalArgumentException.class,
+                () -> OccupancyPricingRule.steps(gauge, Map.of(10, BigDecimal.ONE)));
+        assertThrows(IllegalArgumentException.class,
+                () -> OccupancyPricingRule.steps(gauge, Map.of(0, BigDecimal.ONE, 100, BigDecimal.TEN)));
+        assertThrows(IllegalArgumentException.class,
+                () -> OccupancyPricingRule.steps(gauge, Map.of(0, new BigDecimal("-1"))));
+        assertThrows(ArithmeticException.class,
+                () -> OccupancyPricingRule.steps(gauge, Map.of(0, new BigDecimal("1.00001"))));
+        assertThrows(IllegalArgumentException.class, () -> OccupancyPricingRule.curve(gauge, 0, x -> 1));
+        assertThrows(IllegalArgumentException.class,
+                () -> OccupancyPricingRule.curve(gauge, 2, x -> Double.NaN));
+    }
+
+    private void occupy(int seats) {
+        for (int i = 0; i < seats; i++) {
+            inventory.tryReserve(i);
+        }
+    }
+}
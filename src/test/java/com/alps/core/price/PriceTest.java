@@ -1,9 +1,11 @@
 package com.alps.core.price;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.math.BigDecimal;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.junit.jupiter.api.Test;
 
@@ -53,5 +55,43 @@ public class PriceTest {
         BigDecimal finalPrice = price.calculateFinalPrice();
         assertTrue(finalPrice.compareTo(BigDecimal.ZERO) >= 0);
     }
+
+    @Test
+    void shouldApplyDiscountsInOrder() {
+        DiscountRule halve = price -> price.divide(new BigDecimal("2"));
+        DiscountRule minusTen = price -> price.subtract(BigDecimal.TEN);
+
+        Price price = new Price(new BigDecimal("100")).addDiscountRule(halve).addDiscountRule(minusTen);
+
+        assertEquals(new BigDecimal("40"), price.calculateFinalPrice());
+    }
+
+    @Test
+    void shouldCacheFinalPriceWhenAllRulesArePure() {
+        AtomicInteger calls = new AtomicInteger();
+        DiscountRule rule = DiscountRule.pure(price -> {
+            calls.incrementAndGet();
+            return price.subtract(BigDecimal.ONE);
+        });
+
+        Price price = new Price(new BigDecimal("100")).addDiscountRule(rule).addDiscountRule(rule);
+
+        assertEquals(new BigDecimal("98"), price.calculateFinalPrice());
+        assertEquals(new BigDecimal("98"), price.calculateFinalPrice());
+        assertEquals(2, calls.get());
+    }
+
+    @Test
+    void shouldRecomputeWhenAnyRuleIsImpure() {
+        AtomicInteger calls = new AtomicInteger();
+        DiscountRule pureRule = DiscountRule.pure(price -> price.subtract(BigDecimal.ONE));
+        DiscountRule impureRule = price -> price.subtract(BigDecimal.valueOf(calls.incrementAndGet()));
+
+        Price price = new Price(new BigDecimal("100")).addDiscountRule(pureRule).addDiscountRule(impureRule);
+
+        assertEquals(new BigDecimal("98"), price.calculateFinalPrice());
+        assertEquals(new BigDecimal("97"), price.calculateFinalPrice());
+        assertFalse(impureRule.isPure());
+    }
     
 }
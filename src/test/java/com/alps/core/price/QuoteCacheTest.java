@@ -0,0 +1,146 @@
+package com.alps.core.price;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class QuoteCacheTest {
+
+    AtomicLong now;
+    QuoteCache cache;
+
+    @BeforeEach
+    void setup() {
+        now = new AtomicLong(1_000_000L);
+        cache = new QuoteCache(100, Duration.ofMinutes(1), now::get);
+    }
+
+    @Test
+    void shouldComputeQuotesOnceAndCountHitsAndMisses() {
+        AtomicInteger loads = new AtomicInteger();
+        QuoteKey key = QuoteKey.create("s1", "premium", 1L);
+
+        for (int i = 0; i < 5; i++) {
+            assertEquals(new BigDecimal("42.00"), cache.get(key, k -> {
+                loads.incrementAndGet();
+                return new Price(new BigDecimal("42.00")).calculateFinalPrice();
+            }));
+        }
+
+        assertEquals(1, loads.get());
+        QuoteCacheStats stats = cache.stats();
+        assertEquals(4L, stats.getHitCount());
+        assertEquals(1L, stats.getMissCount());
+        assertEquals(0.8, stats.hitRate(), 1e-9);
+    }
+
+    @Test
+    void shouldExpireQuotesAfterTheirTimeToLive() {
+        QuoteKey key = QuoteKey.create("s1", "standard", 1L);
+        cache.put(key, BigDecimal.TEN);
+
+        now.addAndGet(Duration.ofSeconds(59).toMillis());
+        assertEquals(Optional.of(BigDecimal.TEN), cache.get(key));
+
+        now.addAndGet(Duration.ofSeconds(1).toMillis());
+        assertEquals(Optional.empty(), cache.get(key));
+        assertEquals(1L, cache.stats().getExpirationCount());
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    void shouldInvalidateOlderRuleSetsOfASession() {
+        cache.put(QuoteKey.create("s1", "standard", 1L), BigDecimal.ONE);
+        cache.put(QuoteKey.create("s1", "premium", 2L), BigDecimal.TEN);
+        cache.put(QuoteKey.create("s2", "standard", 1L), BigDecimal.ONE);
+
+        cache.invalidateBefore("s1", 2L);
+
+        assertEquals(Optional.empty(), cache.get(QuoteKey.create("s1", "standard", 1L)));
+        assertEquals(Optional.of(BigDecimal.TEN), cache.get(QuoteKey.create("s1", "premium", 2L)));
+        assertEquals(Optional.of(BigDecimal.ONE), cache.get(QuoteKey.create("s2", "standard", 1L)));
+        assertEquals(2, cache.size());
+        assertEquals(1L, cache.stats().getInvalidationCount());
+
+        assertFalse(cache.put(QuoteKey.create("s1", "standard", 1L), BigDecimal.ONE));
+        assertTrue(cache.put(QuoteKey.create("s1", "standard", 2L), BigDecimal.ONE));
+        assertEquals(1L, cache.stats().getRejectedPutCount());
+    }
+
+    @Test
+    void shouldInvalidateOlderRuleSetsOfEverySession() {
+        cache.put(QuoteKey.create("s1", "standard", 1L), BigDecimal.ONE);
+        cache.put(QuoteKey.create("s2", "standard", 3L), BigDecimal.ONE);
+
+        cache.invalidateBefore(2L);
+        cache.invalidateBefore(1L);
+
+        assertEquals(Optional.empty(), cache.get(QuoteKey.create("s1", "standard", 1L)));
+        assertEquals(Optional.of(BigDecimal.ONE), cache.get(QuoteKey.create("s2", "standard", 3L)));
+        assertFalse(cache.put(QuoteKey.create("s3", "standard", 1L), BigDecimal.ONE));
+    }
+
+    @Test
+    void shouldDropSessionFloorsCoveredByTheGlobalFloor() {
+        cache.invalidateBefore("s1", 2L);
+        cache.invalidateBefore("s2", 5L);
+        assertEquals(2, cache.sessionFloorCount());
+
+        cache.invalidateBefore(3L);
+        assertEquals(1, cache.sessionFloorCount());
+        assertFalse(cache.put(QuoteKey.create("s1", "standard", 2L), BigDecimal.ONE));
+        assertFalse(cache.put(QuoteKey.create("s2", "standard", 4L), BigDecimal.ONE));
+        assertTrue(cache.put(QuoteKey.create("s1", "standard", 3L), BigDecimal.ONE));
+
+        cache.invalidateBefore("s3", 3L);
+        assertEquals(1, cache.sessionFloorCount());
+    }
+
+    @Test
+    void shouldForgetEndedSessions() {
+        cache.put(QuoteKey.create("s1", "standard", 2L), BigDecimal.ONE);
+        cache.put(QuoteKey.create("s2", "standard", 2L), BigDecimal.TEN);
+        cache.invalidateBefore("s1", 2L);
+
+        cache.forgetSession("s1");
+
+        assertEquals(0, cache.sessionFloorCount());
+        assertEquals(1, cache.size());
+        assertEquals(Optional.empty(), cache.get(QuoteKey.create("s1", "standard", 2L)));
+        assertEquals(Optional.of(BigDecimal.TEN), cache.get(QuoteKey.create("s2", "standard", 2L)));
+    }
+
+    @Test
+    void shouldStayBoundedAndKeepPopularQuotesThroughScans() {
+        QuoteKey popular = QuoteKey.create("s1", "premium", 1L);
+        cache.put(popular, BigDecimal.TEN);
+        for (int i = 0; i < 20; i++) {
+            cache.get(popular);
+        }
+
+        for (int i = 0; i < 300; i++) {
+            cache.get(QuoteKey.create("scan", String.valueOf(i), 1L), key -> BigDecimal.ONE);
+        }
+
+        assertTrue(cache.size() <= 100);
+        assertEquals(Optional.of(BigDecimal.TEN), cache.get(popular));
+        assertTrue(cache.stats().getEvictionCount() >= 200L);
+    }
+
+    @Test
+    void shouldRejectInvalidArguments() {
+        assertThrows(IllegalArgumentException.class, () -> new QuoteCache(0, Duration.ofMinutes(1)));
+        assertThrows(IllegalArgumentException.class, () -> new QuoteCache(10, Duration.ZERO));
+        assertThrows(NullPointerException.class, () -> cache.get(QuoteKey.create("s1", "c", 1L), key -> null));
+    }
+}
@@ -0,0 +1,121 @@
+package com.alps.core.reservation;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.alps.core.location.Location;
+import com.alps.core.location.LocationSeat;
+import com.alps.core.lock.LockAttempt;
+import com.alps.core.lock.LockProvider;
+import com.alps.core.price.Price;
+import com.alps.core.session.Session;
+import com.alps.core.user.User;
+import com.alps.infrastructure.lock.ReentrantLockProvider;
+
+class AsyncReservationServiceTest {
+
+    ExecutorService executor;
+    AsyncReservationService service;
+    Location location;
+    User user;
+    Session session;
+    Set<LocationSeat> seats;
+    Price price;
+
+    @BeforeEach
+    void setup() {
+        executor = Executors.newFixedThreadPool(4);
+        service = new AsyncReservationService(executor);
+        location = new Location() {
+        };
+        user = User.create("1", "user one", "user@email.com");
+        seats = new LinkedHashSet<>();
+        for (int i = 1; i <= 4; i++) {
+            seats.add(LocationSeat.create(String.valueOf(i), "seat " + i, location, new ReentrantLockProvider(), true));
+        }
+        session = Session.create("1", "session", LocalDateTime.now().minusHours(1), LocalDateTime.now().plusHours(1),
+                location, seats);
+        price = new Price(BigDecimal.valueOf(100));
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void shouldCreateAndCancelOnExecutor() throws Exception {
+        Reservation reservation = service.create("1", user, session, seats, LocalDateTime.now(),
+                Duration.ofMinutes(10), new ReentrantLockProvider(), null, price).get(5, TimeUnit.SECONDS);
+        assertTrue(reservation.getSeats().stream().noneMatch(LocationSeat::isAvailable));
+
+        Reservation cancelled = service.cancel(reservation).get(5, TimeUnit.SECONDS);
+        assertEquals(ReservationStatus.StandardStatus.CANCELLED, cancelled.getStatus().getStandardStatus());
+    }
+
+    @Test
+    void shouldLetExactlyOneConcurrentClaimWin() throws Exception {
+        List<CompletableFuture<Reservation>> claims = new ArrayList<>();
+        for (int i = 0; i < 50; i++) {
+            claims.add(service.claim(String.valueOf(i), user, session, seats, LocalDateTime.now(),
+                    Duration.ofMinutes(10), new ReentrantLockProvider(), null, price));
+        }
+
+        int won = 0;
+        for (CompletableFuture<Reservation> claim : claims) {
+            try {
+                claim.get(5, TimeUnit.SECONDS);
+                won++;
+            } catch (ExecutionException e) {
+                assertInstanceOf(IllegalStateException.class, e.getCause());
+            }
+        }
+        assertEquals(1, won);
+        assertTrue(session.isSoldOut());
+    }
+
+    @Test
+    void shouldReportContentionWithoutBlockingCaller() throws Exception {
+        LockProvider lockProvider = new ReentrantLockProvider();
+        LocationSeat seat = LocationSeat.create("9", "seat 9", location, lockProvider, true);
+        lockProvider.lock();
+        try {
+            LockAttempt<LocationSeat> attempt = service.reserve(seat, Duration.ofMillis(20)).get(5, TimeUnit.SECONDS);
+            assertTrue(attempt.isContended());
+        } finally {
+            lockProvider.unlock();
+        }
+
+        LocationSeat reserved = service.reserve(seat).get(5, TimeUnit.SECONDS);
+        assertFalse(reserved.isAvailable());
+    }
+
+    @Test
+    void shouldCompleteExceptionallyWhenSeatIsTaken() {
+        LocationSeat seat = LocationSeat.create("9", "seat 9", location, new ReentrantLockProvider(), false);
+
+        ExecutionException exception = assertThrows(ExecutionException.class,
+                () -> service.reserve(seat).get(5, TimeUnit.SECONDS));
+        assertInstanceOf(IllegalStateException.class, exception.getCause());
+    }
+}
@@ -0,0 +1,122 @@
+package com.alps.core.reservation;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.alps.core.location.Location;
+import com.alps.core.location.LocationSeat;
+import com.alps.core.price.Price;
+import com.alps.core.reservation.ReservationResult.Status;
+import com.alps.core.session.Session;
+import com.alps.core.user.User;
+import com.alps.infrastructure.lock.ReentrantLockProvider;
+
+class BatchReservationServiceTest {
+
+    BatchReservationService service;
+    Location location;
+    User user;
+    Session first;
+    Session second;
+
+    @BeforeEach
+    void setup() {
+        service = new BatchReservationService();
+        location = new Location() {
+        };
+        user = User.create("1", "user one", "user@email.com");
+        first = createSession("1", 6);
+        second = createSession("2", 2);
+    }
+
+    @Test
+    void shouldResolveConflictsInSubmissionOrder() {
+        List<ReservationResult> results = service.submit(List.of(
+                request("a", first, "1", "2"),
+                request("b", second, "1"),
+                request("c", first, "2", "3"),
+                request("d", first, "3", "4"),
+                request("e", second, "1", "2")));
+
+        assertEquals(List.of(Status.RESERVED, Status.RESERVED, Status.CONFLICT, Status.RESERVED, Status.CONFLICT),
+                results.stream().map(ReservationResult::getStatus).toList());
+        assertEquals(2, first.remainingSeats());
+        assertEquals(1, second.remainingSeats());
+
+        Reservation reservation = results.get(0).getReservation();
+        assertEquals("a", reservation.getReservationId());
+        assertTrue(reservation.isClaimed());
+        assertTrue(reservation.getSeats().stream().noneMatch(LocationSeat::isAvailable));
+        assertNull(results.get(2).getReservation());
+    }
+
+    @Test
+    void shouldFallBackToSingleClaimsWhenSeatWasTakenOutsideBatch() {
+        first.getInventory().tryReserve("3");
+
+        List<ReservationResult> results = service.submit(List.of(
+                request("a", first, "1", "2"),
+                request("b", first, "3"),
+                request("c", first, "4", "5")));
+
+        assertEquals(List.of(Status.RESERVED, Status.CONFLICT, Status.RESERVED),
+                results.stream().map(ReservationResult::getStatus).toList());
+        assertEquals(1, first.remainingSeats());
+    }
+
+    @Test
+    void shouldRejectSoldOutSessionAndUnknownSeats() {
+        second.getInventory().reserveAll(List.of("1", "2"));
+
+        List<ReservationResult> results = service.submit(List.of(
+                request("a", second, "1"),
+                request("b", first, "99"),
+                request("c", first, "1")));
+
+        assertEquals(Status.SOLD_OUT, results.get(0).getStatus());
+        assertEquals(Status.INVALID, results.get(1).getStatus());
+        assertTrue(results.get(2).isReserved());
+        assertFalse(results.get(1).isReserved());
+        assertSame(results.get(1).getRequest().getSession(), first);
+    }
+
+    @Test
+    void shouldReleaseBatchClaimOnCancel() {
+        Reservation reservation = service.submit(List.of(request("a", first, "1", "2"))).get(0).getReservation();
+
+        reservation.cancel();
+
+        assertEquals(6, first.remainingSeats());
+    }
+
+    ReservationRequest request(String id, Session session, String... seatIds) {
+        Set<LocationSeat> seats = new LinkedHashSet<>();
+        for (String seatId : seatIds) {
+            seats.add(LocationSeat.create(seatId, "seat " + seatId, location, new ReentrantLockProvider(), true));
+        }
+        return ReservationRequest.create(id, user, session, seats, LocalDateTime.now(), Duration.ofMinutes(10),
+                new ReentrantLockProvider(), new Price(BigDecimal.TEN));
+    }
+
+    Session createSession(String id, int capacity) {
+        Set<LocationSeat> seats = new LinkedHashSet<>();
+        for (int i = 1; i <= capacity; i++) {
+            seats.add(LocationSeat.create(String.valueOf(i), "seat " + i, location, new ReentrantLockProvider(), true));
+        }
+        return Session.create(id, "session " + id, LocalDateTime.now().minusHours(1), LocalDateTime.now().plusHours(1),
+                location, seats);
+    }
+}
@@ -0,0 +1,150 @@
+package com.alps.core.reservation;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.alps.core.clock.ClockProvider;
+import com.alps.core.location.Location;
+import com.alps.core.location.LocationSeat;
+import com.alps.core.lock.LockProvider;
+import com.alps.core.price.Price;
+import com.alps.core.session.Session;
+import com.alps.core.user.User;
+import com.alps.infrastructure.lock.ReentrantLockProvider;
+
+public class ReservationExpirySchedulerTest {
+
+    LocalDateTime start;
+    LockProvider lockProvider;
+    Location location;
+    User user;
+    Session session;
+    List<Reservation> expired;
+    ReservationExpiryScheduler scheduler;
+
+    @BeforeEach
+    void setup() {
+        start = LocalDateTime.of(2024, 1, 1, 12, 0);
+        lockProvider = new ReentrantLockProvider();
+        location = new SomeLocation();
+        user = User.create("1", "user one", "user@email.com");
+        session = Session.create("1", "session", start, start.plusHours(2), location, createLocationSeats());
+        expired = new ArrayList<>();
+        scheduler = new ReservationExpiryScheduler(Duration.ofMillis(100), start, expired::add);
+    }
+
+    @Test
+    void shouldExpireReservationAndReleaseSeatsAtDeadline() {
+        Reservation first = claim("1", Set.of("1", "2"), Duration.ofMinutes(10));
+        Reservation second = claim("2", Set.of("3"), Duration.ofMinutes(10));
+        scheduler.schedule(first);
+        scheduler.schedule(second);
+        assertFalse(session.hasAvailableSeats());
+
+        assertTrue(scheduler.advanceTo(start.plusMinutes(9)).isEmpty());
+        List<Reservation> result = scheduler.advanceTo(start.plusMinutes(10));
+
+        assertEquals(2, result.size());
+        assertEquals(result, expired);
+        assertTrue(result.stream()
+                .allMatch(reservation -> reservation.getStatus().getStandardStatus()
+                        == ReservationStatus.StandardStatus.EXPIRED));
+        assertTrue(session.isSeatAvailable("1"));
+        assertTrue(session.isSeatAvailable("2"));
+        assertTrue(session.isSeatAvailable("3"));
+        assertEquals(0, scheduler.pendingCount());
+    }
+
+    @Test
+    void shouldNotExpireUnscheduledReservation() {
+        Reservation reservation = claim("1", Set.of("1"), Duration.ofMinutes(5));
+        scheduler.schedule(reservation);
+
+        assertTrue(scheduler.unschedule("1"));
+        assertFalse(scheduler.unschedule("1"));
+
+        assertTrue(scheduler.advanceTo(start.plusHours(1)).isEmpty());
+        assertFalse(session.isSeatAvailable("1"));
+    }
+
+    @Test
+    void shouldSkipReservationsSettledElsewhere() {
+        Reservation reservation = claim("1", Set.of("1"), Duration.ofMinutes(5));
+        scheduler.schedule(reservation);
+        reservation.cancel();
+        session.getInventory().tryReserve("1");
+
+        assertTrue(scheduler.advanceTo(start.plusMinutes(5)).isEmpty());
+        assertFalse(session.isSeatAvailable("1"));
+    }
+
+    @Test
+    void shouldExpireReservationsFromSchedulerClock() {
+        AtomicLong millis = new AtomicLong(ClockProvider.toEpochMillis(start));
+        ReservationExpiryScheduler clocked = new ReservationExpiryScheduler(
+                Duration.ofMillis(100), millis::get, expired::add);
+        Reservation reservation = claim("1", Set.of("1"), Duration.ofMinutes(5));
+        clocked.schedule(reservation);
+
+        millis.addAndGet(Duration.ofMinutes(4).toMillis());
+        assertTrue(clocked.advance().isEmpty());
+        assertFalse(session.isSeatAvailable("1"));
+
+        millis.addAndGet(Duration.ofMinutes(1).toMillis());
+        List<Reservation> result = clocked.advance();
+        assertEquals(1, result.size());
+        assertEquals(result, expired);
+        assertEquals(reservation.getReservationId(), result.get(0).getReservationId());
+        assertEquals(ReservationStatus.StandardStatus.EXPIRED, result.get(0).getStatus().getStandardStatus());
+        assertTrue(session.isSeatAvailable("1"));
+    }
+
+    @Test
+    void shouldRejectReservationsThatAreNotPending() {
+        Reservation cancelled = claim("1", Set.of("1"), Duration.ofMinutes(5)).cancel();
+        assertThrows(IllegalArgumentException.class, () -> scheduler.schedule(cancelled));
+    }
+
+    private Reservation claim(String reservationId, Set<String> seatIds, Duration hold) {
+        Set<LocationSeat> seats = new HashSet<>();
+        session.getSeats().stream()
+                .filter(seat -> seatIds.contains(seat.getSeatId()))
+                .forEach(seats::add);
+        return Reservation.claim(
+                reservationId,
+                user,
+                session,
+                seats,
+                start,
+                hold,
+                lockProvider,
+                null,
+                new Price(BigDecimal.TEN));
+    }
+
+    private Set<LocationSeat> createLocationSeats() {
+        Set<LocationSeat> locationSeats = new HashSet<>();
+        locationSeats.add(LocationSeat.create("1", "location one", location, lockProvider, true));
+        locationSeats.add(LocationSeat.create("2", "location two", location, lockProvider, true));
+        locationSeats.add(LocationSeat.create("3", "location three", location, lockProvider, true));
+        return locationSeats;
+    }
+
+    class SomeLocation implements Location {
+    }
+
+}
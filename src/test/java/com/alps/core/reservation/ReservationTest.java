@@ -10,13 +10,18 @@ import java.math.BigDecimal;
 import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import com.alps.core.clock.ClockProvider;
 import com.alps.core.location.Location;
 import com.alps.core.location.LocationSeat;
+import com.alps.core.lock.LockAttempt;
 import com.alps.core.lock.LockProvider;
 import com.alps.core.price.Price;
 import com.alps.core.session.Session;
@@ -178,6 +183,28 @@ public class ReservationTest {
         assertTrue(hasAvailableSeats);
     }
 
+    @Test
+    void shouldCancelReservationWithinTimeout() {
+        LockAttempt<Reservation> attempt = reservation.cancel(Duration.ofMillis(50));
+        assertTrue(attempt.isAcquired());
+        assertEquals(ReservationStatus.StandardStatus.CANCELLED, attempt.get().getStatus().getStandardStatus());
+    }
+
+    @Test
+    void shouldReportContentionWhenCancellingLockedReservation() throws Exception {
+        lockProvider.lock();
+        ExecutorService executorService = Executors.newSingleThreadExecutor();
+        try {
+            LockAttempt<Reservation> attempt = executorService
+                    .submit(() -> reservation.cancel(Duration.ofMillis(20)))
+                    .get();
+            assertTrue(attempt.isContended());
+        } finally {
+            lockProvider.unlock();
+            executorService.shutdown();
+        }
+    }
+
     @Test
     void shouldThrowExceptionWhenCancellingNonPendingReservation() {
         reservation = Reservation.create(
@@ -229,6 +256,138 @@ public class ReservationTest {
         assertNotEquals(reservation, otherReservation);
     }
 
+    @Test
+    void shouldClaimSeatsInSessionInventory() {
+        Reservation claimedReservation = Reservation.claim(
+                "2",
+                user,
+                session,
+                seats,
+                creationTime,
+                expirationTime,
+                lockProvider,
+                null,
+                price);
+
+        assertTrue(claimedReservation.isClaimed());
+        assertEquals(ReservationStatus.StandardStatus.PENDING, claimedReservation.getStatus().getStandardStatus());
+        assertTrue(claimedReservation.getSeats().stream().noneMatch(LocationSeat::isAvailable));
+        assertFalse(session.hasAvailableSeats());
+    }
+
+    @Test
+    void shouldNotStrandSeatsWhenClaimFails() {
+        session.getInventory().tryReserve("3");
+
+        assertThrows(IllegalStateException.class, () -> {
+            Reservation.claim(
+                    "2",
+                    user,
+                    session,
+                    seats,
+                    creationTime,
+                    expirationTime,
+                    lockProvider,
+                    null,
+                    price);
+        });
+
+        assertTrue(session.isSeatAvailable("1"));
+        assertTrue(session.isSeatAvailable("2"));
+        assertFalse(session.isSeatAvailable("3"));
+    }
+
+    @Test
+    void shouldRejectClaimOnSoldOutSession() {
+        session.getInventory().reserveAll(List.of("1", "2", "3"));
+
+        IllegalStateException exception = assertThrows(IllegalStateException.class, () -> {
+            Reservation.claim(
+                    "2",
+                    user,
+                    session,
+                    seats,
+                    creationTime,
+                    expirationTime,
+                    lockProvider,
+                    null,
+                    price);
+        });
+        assertEquals("The session is sold out.", exception.getMessage());
+    }
+
+    @Test
+    void shouldReleaseClaimedSeatsOnceWhenCancelled() {
+        Reservation claimedReservation = Reservation.claim(
+                "2",
+                user,
+                session,
+                seats,
+                creationTime,
+                expirationTime,
+                lockProvider,
+                null,
+                price);
+
+        claimedReservation.cancel();
+        assertTrue(session.isSeatAvailable("1"));
+
+        session.getInventory().tryReserve("1");
+        assertThrows(IllegalStateException.class, claimedReservation::cancel);
+        assertFalse(session.isSeatAvailable("1"));
+    }
+
+    @Test
+    void shouldConfirmClaimedReservationAndKeepSeats() {
+        Reservation claimedReservation = Reservation.claim(
+                "2",
+                user,
+                session,
+                seats,
+                creationTime,
+                expirationTime,
+                lockProvider,
+                null,
+                price);
+
+        Reservation confirmed = claimedReservation.confirm();
+
+        assertEquals(ReservationStatus.StandardStatus.CONFIRMED, confirmed.getStatus().getStandardStatus());
+        assertThrows(IllegalStateException.class, confirmed::confirm);
+        assertThrows(IllegalStateException.class, claimedReservation::expire);
+        assertEquals(0, session.remainingSeats());
+    }
+
+    @Test
+    void shouldExpirePendingReservation() {
+        Reservation claimedReservation = Reservation.claim(
+                "2",
+                user,
+                session,
+                seats,
+                creationTime,
+                expirationTime,
+                lockProvider,
+                null,
+                price);
+
+        Reservation expiredReservation = claimedReservation.expire();
+
+        assertEquals(ReservationStatus.StandardStatus.EXPIRED, expiredReservation.getStatus().getStandardStatus());
+        assertTrue(expiredReservation.getSeats().stream().allMatch(LocationSeat::isAvailable));
+        assertTrue(session.isSeatAvailable("1"));
+        assertThrows(IllegalStateException.class, expiredReservation::expire);
+        assertThrows(IllegalStateException.class, claimedReservation::cancel);
+    }
+
+    @Test
+    void shouldCheckExpiryAgainstGivenClock() {
+        long deadline = ClockProvider.toEpochMillis(creationTime.plus(expirationTime));
+
+        assertFalse(reservation.isExpired(() -> deadline));
+        assertTrue(reservation.isExpired(() -> deadline + 1));
+    }
+
     @Test
     void shouldReturnTrueWhenReservationIsExpired() {
         assertTrue(reservation.isExpired());
@@ -0,0 +1,107 @@
+package com.alps.core.reservation;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+public class TimingWheelTest {
+
+    @Test
+    void shouldFireEntriesOnTheTickOfTheirDeadline() {
+        TimingWheel<Long> wheel = new TimingWheel<>(10, 1_000);
+        long[] deadlines = { 1_005, 1_030, 1_640, 1_650, 42_000, 5_000_000, 200_000_000_000L };
+        for (long deadline : deadlines) {
+            wheel.add(deadline, deadline);
+        }
+
+        List<Long> fired = new ArrayList<>();
+        assertTimeoutPreemptively(Duration.ofSeconds(1), () -> {
+            for (long deadline : deadlines) {
+                wheel.advanceTo(deadline - 10, fired::add);
+                assertFalse(fired.contains(deadline));
+                wheel.advanceTo(deadline + 9, fired::add);
+                assertTrue(fired.contains(deadline));
+            }
+        });
+        assertEquals(deadlines.length, fired.size());
+        assertEquals(0, wheel.size());
+    }
+
+    @Test
+    void shouldJumpIdleTicksWithoutMissingFarFutureDeadlines() {
+        TimingWheel<Long> wheel = new TimingWheel<>(1, 0);
+        long[] deadlines = { 63, 64, 4_095, 4_096, 262_144, 16_777_215, 16_777_216, 50_000_000_000L };
+        for (long deadline : deadlines) {
+            wheel.add(deadline, deadline);
+        }
+
+        List<Long> fired = new ArrayList<>();
+        assertTimeoutPreemptively(Duration.ofSeconds(1), () -> {
+            for (long deadline : deadlines) {
+                wheel.advanceTo(deadline - 1, fired::add);
+                assertFalse(fired.contains(deadline));
+                wheel.advanceTo(deadline, fired::add);
+                assertEquals(deadline, fired.get(fired.size() - 1));
+            }
+        });
+        assertEquals(deadlines.length, fired.size());
+        assertEquals(0, wheel.size());
+    }
+
+    @Test
+    void shouldFireInDeadlineOrderAcrossLevels() {
+        TimingWheel<Long> wheel = new TimingWheel<>(1, 0);
+        Random random = new Random(42);
+        for (int i = 0; i < 5_000; i++) {
+            long deadline = 1 + random.nextInt(300_000);
+            wheel.add(deadline, deadline);
+        }
+
+        List<Long> fired = new ArrayList<>();
+        long[] firedAt = new long[1];
+        for (long now = 0; now <= 300_000; now += 1_000) {
+            firedAt[0] = now;
+            wheel.advanceTo(now, deadline -> {
+                assertTrue(deadline <= firedAt[0]);
+                assertTrue(deadline > firedAt[0] - 1_000);
+                fired.add(deadline);
+            });
+        }
+        assertEquals(5_000, fired.size());
+    }
+
+    @Test
+    void shouldScheduleOverdueEntriesOnTheNextTick() {
+        TimingWheel<String> wheel = new TimingWheel<>(10, 1_000);
+        wheel.add("overdue", 500);
+
+        List<String> fired = new ArrayList<>();
+        wheel.advanceTo(1_009, fired::add);
+        assertTrue(fired.isEmpty());
+        wheel.advanceTo(1_010, fired::add);
+        assertEquals(List.of("overdue"), fired);
+    }
+
+    @Test
+    void shouldRemoveEntriesBeforeTheyFire() {
+        TimingWheel<String> wheel = new TimingWheel<>(10, 0);
+        TimingWheel.Entry<String> removed = wheel.add("removed", 100_000);
+        wheel.add("kept", 100_000);
+
+        assertTrue(wheel.remove(removed));
+        assertFalse(wheel.remove(removed));
+
+        List<String> fired = new ArrayList<>();
+        wheel.advanceTo(100_000, fired::add);
+        assertEquals(List.of("kept"), fired);
+    }
+
+}
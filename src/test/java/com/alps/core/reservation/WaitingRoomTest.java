@@ -0,0 +1,196 @@
+package com.alps.core.reservation;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.LinkedHashSet;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.alps.core.clock.ClockProvider;
+import com.alps.core.location.Location;
+import com.alps.core.location.LocationSeat;
+import com.alps.core.price.Price;
+import com.alps.core.session.Session;
+import com.alps.core.user.User;
+import com.alps.infrastructure.lock.ReentrantLockProvider;
+
+class WaitingRoomTest {
+
+    LocalDateTime opening;
+    Location location;
+    Session session;
+    WaitingRoom room;
+
+    @BeforeEach
+    void setup() {
+        opening = LocalDateTime.of(2024, 1, 1, 10, 0);
+        location = new Location() {
+        };
+        Set<LocationSeat> seats = new LinkedHashSet<>();
+        for (int i = 1; i <= 3; i++) {
+            seats.add(LocationSeat.create(String.valueOf(i), "seat " + i, location, new ReentrantLockProvider(), true));
+        }
+        session = Session.create("1", "session", opening, opening.plusHours(2), location, seats);
+        room = new WaitingRoom(session, 2, opening);
+    }
+
+    @Test
+    void shouldAdmitTokensInOrderAtConfiguredRate() {
+        AdmissionToken first = room.join();
+        AdmissionToken second = room.join();
+        AdmissionToken third = room.join();
+        AdmissionToken fourth = room.join();
+
+        assertEquals(1, first.getSequence());
+        assertEquals(1, room.position(first, opening));
+        assertEquals(4, room.position(fourth, opening));
+
+        LocalDateTime later = opening.plusNanos(500_000_000);
+        assertTrue(room.isAdmitted(first, later));
+        assertFalse(room.isAdmitted(second, later));
+
+        later = opening.plusSeconds(1);
+        assertTrue(room.isAdmitted(second, later));
+        assertEquals(1, room.position(third, later));
+        assertEquals(2, room.waitingCount(later));
+
+        later = opening.plusSeconds(2);
+        assertTrue(room.isAdmitted(fourth, later));
+        assertEquals(0, room.waitingCount(later));
+    }
+
+    @Test
+    void shouldBankAtMostOneSecondOfAdmissionsWhileEmpty() {
+        LocalDateTime later = opening.plusMinutes(10);
+        assertEquals(0, room.waitingCount(later));
+
+        AdmissionToken[] tokens = new AdmissionToken[4];
+        for (int i = 0; i < tokens.length; i++) {
+            tokens[i] = room.join();
+        }
+
+        assertTrue(room.isAdmitted(tokens[1], later));
+        assertEquals(2, room.waitingCount(later));
+        assertEquals(2, room.position(tokens[3], later));
+    }
+
+    @Test
+    void shouldOnlyLetAdmittedTokensClaimSeats() {
+        User user = User.create("1", "user one", "user@email.com");
+        LocationSeat seat = LocationSeat.create("1", "seat 1", location, new ReentrantLockProvider(), true);
+        ReservationRequest request = ReservationRequest.create("r1", user, session, Set.of(seat), opening,
+                Duration.ofMinutes(10), new ReentrantLockProvider(), new Price(BigDecimal.TEN));
+        room.join();
+        AdmissionToken token = room.join();
+
+        assertThrows(IllegalStateException.class, () -> room.claim(token, request, opening.plusNanos(500_000_000)));
+        assertEquals(3, session.remainingSeats());
+
+        Reservation reservation = room.claim(token, request, opening.plusSeconds(1));
+        assertTrue(reservation.isClaimed());
+        assertEquals(2, session.remainingSeats());
+    }
+
+    @Test
+    void shouldUseUpTokensOnSuccessfulClaims() {
+        User user = User.create("1", "user one", "user@email.com");
+        LocationSeat first = LocationSeat.create("1", "seat 1", location, new ReentrantLockProvider(), true);
+        LocationSeat second = LocationSeat.create("2", "seat 2", location, new ReentrantLockProvider(), true);
+        ReservationRequest taken = ReservationRequest.create("r1", user, session, Set.of(first), opening,
+                Duration.ofMinutes(10), new ReentrantLockProvider(), new Price(BigDecimal.TEN));
+        ReservationRequest free = ReservationRequest.create("r2", user, session, Set.of(second), opening,
+                Duration.ofMinutes(10), new ReentrantLockProvider(), new Price(BigDecimal.TEN));
+        AdmissionToken token = room.join();
+        LocalDateTime admitted = opening.plusSeconds(1);
+        session.getInventory().tryReserve("1");
+
+        assertThrows(IllegalStateException.class, () -> room.claim(token, taken, admitted));
+        assertFalse(room.isUsed(token));
+
+        assertTrue(room.claim(token, free, admitted).isClaimed());
+        assertTrue(room.isUsed(token));
+        ReservationRequest third = ReservationRequest.create("r3", user, session,
+                Set.of(LocationSeat.create("3", "seat 3", location, new ReentrantLockProvider(), true)), opening,
+                Duration.ofMinutes(10), new ReentrantLockProvider(), new Price(BigDecimal.TEN));
+        assertThrows(IllegalStateException.class, () -> room.claim(token, third, admitted));
+        assertEquals(1, session.remainingSeats());
+    }
+
+    @Test
+    void shouldTrackTokensUsedOutOfOrder() {
+        User user = User.create("1", "user one", "user@email.com");
+        AdmissionToken[] tokens = { room.join(), room.join(), room.join() };
+        assertEquals(1, room.waitingCount(opening.plusSeconds(1)));
+        LocalDateTime admitted = opening.plusSeconds(2);
+
+        assertTrue(room.claim(tokens[2], request("r3", user, "3"), admitted).isClaimed());
+        assertTrue(room.claim(tokens[0], request("r1", user, "1"), admitted).isClaimed());
+        assertTrue(room.isUsed(tokens[0]));
+        assertFalse(room.isUsed(tokens[1]));
+        assertTrue(room.isUsed(tokens[2]));
+
+        assertTrue(room.claim(tokens[1], request("r2", user, "2"), admitted).isClaimed());
+        for (AdmissionToken token : tokens) {
+            assertTrue(room.isUsed(token));
+            assertThrows(IllegalStateException.class, () -> room.claim(token, request("r4", user, "1"), admitted));
+        }
+    }
+
+    @Test
+    void shouldBankAdmissionsWithoutOverflowWhenOpenedLongAgo() {
+        WaitingRoom old = new WaitingRoom(session, Integer.MAX_VALUE, LocalDateTime.of(1, 1, 1, 0, 0));
+        AdmissionToken token = old.join();
+
+        assertTrue(old.isAdmitted(token, opening));
+        assertEquals(0, old.waitingCount(opening));
+    }
+
+    @Test
+    void shouldAdmitTokensFromRoomClock() {
+        AtomicLong millis = new AtomicLong(ClockProvider.toEpochMillis(opening));
+        WaitingRoom clocked = new WaitingRoom(session, 2, millis::get);
+        User user = User.create("1", "user one", "user@email.com");
+        LocationSeat seat = LocationSeat.create("1", "seat 1", location, new ReentrantLockProvider(), true);
+        ReservationRequest request = ReservationRequest.create("r1", user, session, Set.of(seat), opening,
+                Duration.ofMinutes(10), new ReentrantLockProvider(), new Price(BigDecimal.TEN));
+        AdmissionToken first = clocked.join();
+        AdmissionToken second = clocked.join();
+
+        assertEquals(1, clocked.position(first));
+        assertEquals(2, clocked.waitingCount());
+        assertThrows(IllegalStateException.class, () -> clocked.claim(first, request));
+
+        millis.addAndGet(500);
+        assertTrue(clocked.isAdmitted(first));
+        assertFalse(clocked.isAdmitted(second));
+        assertTrue(clocked.claim(first, request).isClaimed());
+
+        millis.addAndGet(500);
+        assertTrue(clocked.isAdmitted(second));
+        assertEquals(0, clocked.waitingCount());
+    }
+
+    @Test
+    void shouldRejectTokensOfOtherRooms() {
+        Session other = Session.create("2", "other", opening, opening.plusHours(2), location, Set.of());
+        AdmissionToken foreign = new WaitingRoom(other, 1, opening).join();
+
+        assertThrows(IllegalArgumentException.class, () -> room.position(foreign, opening));
+        assertThrows(IllegalArgumentException.class, () -> new WaitingRoom(session, 0, opening));
+    }
+
+    private ReservationRequest request(String reservationId, User user, String seatId) {
+        LocationSeat seat = LocationSeat.create(seatId, "seat " + seatId, location, new ReentrantLockProvider(), true);
+        return ReservationRequest.create(reservationId, user, session, Set.of(seat), opening,
+                Duration.ofMinutes(10), new ReentrantLockProvider(), new Price(BigDecimal.TEN));
+    }
+}
@@ -0,0 +1,194 @@
+package com.alps.core.session;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.alps.core.location.Location;
+import com.alps.core.location.LocationSeat;
+import com.alps.core.lock.LockProvider;
+import com.alps.infrastructure.lock.ReentrantLockProvider;
+
+public class BestAvailableAllocatorTest {
+
+    private static final int ROWS = 3;
+    private static final int SEATS_PER_ROW = 10;
+
+    Location location;
+    LockProvider lockProvider;
+    Session session;
+    BestAvailableAllocator allocator;
+
+    @BeforeEach
+    void setup() {
+        location = new SomeLocation();
+        lockProvider = new ReentrantLockProvider();
+        session = Session.create(
+                "1",
+                "session",
+                LocalDateTime.now().minusHours(1),
+                LocalDateTime.now().plusHours(1),
+                location,
+                createLocationSeats());
+        allocator = new BestAvailableAllocator(session, createRows());
+    }
+
+    @Test
+    void shouldClaimFirstFittingBlockOfPreferredRow() {
+        Optional<List<String>> block = allocator.allocate(4);
+
+        assertEquals(List.of("A1", "A2", "A3", "A4"), block.get());
+        assertFalse(session.isSeatAvailable("A1"));
+        assertFalse(session.isSeatAvailable("A4"));
+        assertTrue(session.isSeatAvailable("A5"));
+    }
+
+    @Test
+    void shouldRestartFromBestRowAfterLosingRace() {
+        SeatInventory inventory = session.getInventory();
+        int contested = inventory.indexOf("A1");
+        BestAvailableAllocator[] stale = new BestAvailableAllocator[1];
+        List<List<String>> claimed = new ArrayList<>();
+        // Registered before the allocator, so it runs while the allocator still
+        // sees A1 as free and loses the race for A1 and A2.
+        inventory.addListener(index -> {
+            if (stale[0] != null && index == contested && claimed.isEmpty()) {
+                claimed.add(stale[0].allocate(2).get());
+            }
+        });
+        stale[0] = new BestAvailableAllocator(session, createRows());
+        assertEquals(SEATS_PER_ROW, stale[0].largestAvailableBlock());
+
+        inventory.tryReserve("A1");
+
+        assertEquals(List.of(List.of("A2", "A3")), claimed);
+        assertTrue(session.isSeatAvailable("B1"));
+        stale[0].close();
+    }
+
+    @Test
+    void shouldSkipRowsWithoutLargeEnoughBlock() {
+        session.getInventory().tryReserve("A5");
+        session.getInventory().tryReserve("B3");
+
+        assertEquals(List.of("B4", "B5", "B6", "B7", "B8", "B9"), allocator.allocate(6).get());
+        assertEquals(List.of("C1", "C2", "C3", "C4", "C5", "C6", "C7"), allocator.allocate(7).get());
+        assertEquals(List.of("A1", "A2", "A3", "A4"), allocator.allocate(4).get());
+    }
+
+    @Test
+    void shouldSeeSeatsReleasedThroughInventory() {
+        for (int row = 0; row < ROWS; row++) {
+            assertTrue(allocator.allocate(SEATS_PER_ROW).isPresent());
+        }
+        assertEquals(0, allocator.largestAvailableBlock());
+        assertFalse(allocator.allocate(1).isPresent());
+
+        session.getInventory().releaseAll(List.of("B4", "B5", "B6"));
+
+        assertEquals(3, allocator.largestAvailableBlock());
+        assertFalse(allocator.allocate(4).isPresent());
+        assertEquals(List.of("B4", "B5", "B6"), allocator.allocate(3).get());
+    }
+
+    @Test
+    void shouldUnregisterFromInventoryWhenClosed() {
+        List<Integer> changed = new ArrayList<>();
+        SeatInventory inventory = session.getInventory();
+        inventory.addListener(changed::add);
+
+        allocator.close();
+        inventory.tryReserve("A1");
+
+        assertEquals(1, changed.size());
+        assertThrows(IllegalStateException.class, () -> allocator.allocate(1));
+        assertThrows(IllegalStateException.class, allocator::largestAvailableBlock);
+        try (BestAvailableAllocator reopened = new BestAvailableAllocator(session, createRows())) {
+            assertEquals(List.of("A2", "A3"), reopened.allocate(2).get());
+        }
+    }
+
+    @Test
+    void shouldRejectInvalidRowsAndCounts() {
+        assertThrows(IllegalArgumentException.class, () -> allocator.allocate(0));
+        assertThrows(IllegalArgumentException.class,
+                () -> new BestAvailableAllocator(session, List.of(List.of("A1", "X1"))));
+        assertThrows(IllegalArgumentException.class,
+                () -> new BestAvailableAllocator(session, List.of(List.of("A1"), List.of("A1"))));
+    }
+
+    @Test
+    void shouldNeverHandOutTheSameSeatTwice() throws Exception {
+        Set<String> claimed = ConcurrentHashMap.newKeySet();
+        ExecutorService executorService = Executors.newFixedThreadPool(4);
+        List<Future<Integer>> futures = new ArrayList<>();
+        for (int thread = 0; thread < 4; thread++) {
+            futures.add(executorService.submit(() -> {
+                int seats = 0;
+                Optional<List<String>> block;
+                while ((block = allocator.allocate(2)).isPresent()) {
+                    for (String seatId : block.get()) {
+                        assertTrue(claimed.add(seatId));
+                        seats++;
+                    }
+                }
+                return seats;
+            }));
+        }
+
+        int total = 0;
+        for (Future<Integer> future : futures) {
+            total += future.get();
+        }
+        executorService.shutdown();
+
+        assertEquals(ROWS * SEATS_PER_ROW, total);
+        assertFalse(session.hasAvailableSeats());
+    }
+
+    private List<List<String>> createRows() {
+        List<List<String>> rows = new ArrayList<>();
+        for (int row = 0; row < ROWS; row++) {
+            List<String> seatIds = new ArrayList<>();
+            for (int seat = 1; seat <= SEATS_PER_ROW; seat++) {
+                seatIds.add(rowName(row) + seat);
+            }
+            rows.add(seatIds);
+        }
+        return rows;
+    }
+
+    private Set<LocationSeat> createLocationSeats() {
+        Set<LocationSeat> locationSeats = new LinkedHashSet<>();
+        for (List<String> row : createRows()) {
+            for (String seatId : row) {
+                locationSeats.add(LocationSeat.create(seatId, "seat " + seatId, location, lockProvider, true));
+            }
+        }
+        return new HashSet<>(locationSeats);
+    }
+
+    private String rowName(int row) {
+        return String.valueOf((char) ('A' + row));
+    }
+
+    class SomeLocation implements Location {
+    }
+
+}
@@ -0,0 +1,69 @@
+package com.alps.core.session;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import com.alps.core.location.Location;
+import com.alps.core.location.LocationSeat;
+import com.alps.infrastructure.lock.ReentrantLockProvider;
+
+public class OccupancyGaugeTest {
+
+    @Test
+    void shouldFollowReservationsAndReleases() {
+        SeatInventory inventory = inventory(10);
+        OccupancyGauge gauge = OccupancyGauge.of(inventory);
+
+        assertEquals(0, gauge.occupiedSeats());
+        assertEquals(0, gauge.band(4));
+
+        inventory.reserveAll(0, 1, 2);
+        assertEquals(3, gauge.occupiedSeats());
+        assertEquals(0.3, gauge.occupancy(), 1e-9);
+        assertEquals(1, gauge.band(4));
+
+        inventory.tryRelease(0);
+        assertEquals(2, gauge.occupiedSeats());
+    }
+
+    @Test
+    void shouldPlaceFullSessionsInTheLastBand() {
+        SeatInventory inventory = inventory(10);
+        OccupancyGauge gauge = OccupancyGauge.of(inventory);
+
+        inventory.reserveAll(0, 1, 2, 3, 4, 5, 6, 7, 8, 9);
+
+        assertEquals(10, gauge.occupiedSeats());
+        assertEquals(3, gauge.band(4));
+        assertEquals(99, gauge.band(100));
+        assertThrows(IllegalArgumentException.class, () -> gauge.band(0));
+    }
+
+    @Test
+    void shouldCountUnavailableSeatsAsOccupied() {
+        Location location = new Location() {
+        };
+        ReentrantLockProvider lockProvider = new ReentrantLockProvider();
+        SeatInventory inventory = SeatInventory.of(List.of(
+                LocationSeat.create("1", "seat", location, lockProvider, true),
+                LocationSeat.create("2", "seat", location, lockProvider, false)));
+
+        assertEquals(1, OccupancyGauge.of(inventory).occupiedSeats());
+    }
+
+    static SeatInventory inventory(int capacity) {
+        Location location = new Location() {
+        };
+        ReentrantLockProvider lockProvider = new ReentrantLockProvider();
+        List<LocationSeat> seats = new ArrayList<>();
+        for (int i = 0; i < capacity; i++) {
+            seats.add(LocationSeat.create(String.valueOf(i), "seat " + i, location, lockProvider, true));
+        }
+        return SeatInventory.of(seats);
+    }
+}
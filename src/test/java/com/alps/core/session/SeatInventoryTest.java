@@ -0,0 +1,242 @@
+package com.alps.core.session;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.alps.core.location.Location;
+import com.alps.core.location.LocationSeat;
+import com.alps.core.lock.LockProvider;
+import com.alps.infrastructure.lock.ReentrantLockProvider;
+
+public class SeatInventoryTest {
+
+    Location location;
+    LockProvider lockProvider;
+    SeatInventory inventory;
+
+    @BeforeEach
+    void setup() {
+        location = new SomeLocation();
+        lockProvider = new ReentrantLockProvider();
+        inventory = SeatInventory.of(createLocationSeats(130, true));
+    }
+
+    @Test
+    void shouldIndexSeatsInIterationOrder() {
+        assertEquals(130, inventory.capacity());
+        assertEquals(0, inventory.indexOf("0"));
+        assertEquals(129, inventory.indexOf("129"));
+        assertEquals("64", inventory.seatIdAt(64));
+        assertEquals(-1, inventory.indexOf("unknown"));
+    }
+
+    @Test
+    void shouldStartWithSeatAvailability() {
+        SeatInventory unavailable = SeatInventory.of(createLocationSeats(3, false));
+        assertFalse(unavailable.hasAvailableSeats());
+        assertFalse(unavailable.isAvailable("1"));
+        assertTrue(inventory.hasAvailableSeats());
+        assertTrue(inventory.isAvailable("1"));
+    }
+
+    @Test
+    void shouldReserveAndReleaseSeat() {
+        assertTrue(inventory.tryReserve("65"));
+        assertFalse(inventory.isAvailable("65"));
+        assertFalse(inventory.tryReserve("65"));
+
+        assertTrue(inventory.tryRelease("65"));
+        assertTrue(inventory.isAvailable("65"));
+        assertFalse(inventory.tryRelease("65"));
+    }
+
+    @Test
+    void shouldReportNoAvailableSeatsWhenAllAreReserved() {
+        for (int index = 0; index < inventory.capacity(); index++) {
+            assertTrue(inventory.tryReserve(index));
+        }
+        assertFalse(inventory.hasAvailableSeats());
+    }
+
+    @Test
+    void shouldReserveAllSeatsAcrossWords() {
+        assertTrue(inventory.reserveAll(List.of("129", "1", "2", "64", "1")));
+        assertFalse(inventory.isAvailable("1"));
+        assertFalse(inventory.isAvailable("2"));
+        assertFalse(inventory.isAvailable("64"));
+        assertFalse(inventory.isAvailable("129"));
+        assertTrue(inventory.isAvailable("3"));
+    }
+
+    @Test
+    void shouldRollBackWhenAnySeatIsAlreadyReserved() {
+        assertTrue(inventory.tryReserve("100"));
+
+        assertFalse(inventory.reserveAll(List.of("1", "2", "70", "100", "101")));
+
+        assertTrue(inventory.isAvailable("1"));
+        assertTrue(inventory.isAvailable("2"));
+        assertTrue(inventory.isAvailable("70"));
+        assertTrue(inventory.isAvailable("101"));
+        assertFalse(inventory.isAvailable("100"));
+    }
+
+    @Test
+    void shouldReleaseOnlyReservedSeats() {
+        assertTrue(inventory.reserveAll(List.of("1", "2", "65")));
+        assertEquals(3, inventory.releaseAll(List.of("1", "2", "3", "65")));
+        assertTrue(inventory.isAvailable("1"));
+        assertTrue(inventory.isAvailable("65"));
+        assertEquals(0, inventory.releaseAll(List.of("1")));
+    }
+
+    @Test
+    void shouldGrantOverlappingGroupClaimsToOnlyOneCaller() throws Exception {
+        ExecutorService executorService = Executors.newFixedThreadPool(4);
+        List<Future<Boolean>> futures = new ArrayList<>();
+        for (int thread = 0; thread < 4; thread++) {
+            int offset = thread;
+            futures.add(executorService.submit(() -> inventory.reserveAll(offset, 60 + offset, 63, 64, 127)));
+        }
+
+        int granted = 0;
+        for (Future<Boolean> future : futures) {
+            granted += future.get() ? 1 : 0;
+        }
+        executorService.shutdown();
+
+        assertEquals(1, granted);
+        assertEquals(5, inventory.releaseAll(0, 1, 2, 3, 60, 61, 62, 63, 64, 127));
+        assertThrows(IndexOutOfBoundsException.class, () -> inventory.reserveAll(0, 130));
+        assertTrue(inventory.isAvailable(0));
+    }
+
+    @Test
+    void shouldMaintainRemainingSeats() {
+        assertEquals(130, inventory.remainingSeats());
+        assertEquals(0, SeatInventory.of(createLocationSeats(3, false)).remainingSeats());
+
+        inventory.tryReserve(1);
+        inventory.tryReserve(1);
+        inventory.reserveAll(2, 3, 64);
+        inventory.reserveAll(3, 4);
+        assertEquals(126, inventory.remainingSeats());
+
+        inventory.releaseAll(1, 2, 5);
+        inventory.tryRelease(64);
+        assertEquals(129, inventory.remainingSeats());
+    }
+
+    @Test
+    void shouldRestoreBitmapWords() {
+        List<Integer> changed = new ArrayList<>();
+        inventory.addListener(changed::add);
+
+        inventory.restoreWord(0, 0L);
+        inventory.restoreWord(2, -1L);
+
+        assertEquals(3, inventory.wordCount());
+        assertEquals(3L, inventory.availabilityWord(2));
+        assertEquals(0L, inventory.availabilityWord(0));
+        assertEquals(66, inventory.remainingSeats());
+        assertEquals(64, changed.size());
+        assertThrows(IndexOutOfBoundsException.class, () -> inventory.restoreWord(3, 0L));
+    }
+
+    @Test
+    void shouldNotifyListenersOfChangedSeatsOnly() {
+        List<Integer> changed = new ArrayList<>();
+        inventory.addListener(changed::add);
+
+        inventory.tryReserve(5);
+        inventory.tryReserve(5);
+        inventory.reserveAll(70, 1);
+        inventory.tryReserve("100");
+        inventory.reserveAll(2, 100);
+        inventory.releaseAll(1, 2, 70);
+
+        assertEquals(List.of(5, 1, 70, 100, 1, 70), changed);
+    }
+
+    @Test
+    void shouldStopNotifyingRemovedListeners() {
+        List<Integer> changed = new ArrayList<>();
+        SeatInventory.Listener listener = changed::add;
+        inventory.addListener(listener);
+
+        inventory.tryReserve(5);
+        assertTrue(inventory.removeListener(listener));
+        inventory.tryReserve(6);
+
+        assertEquals(List.of(5), changed);
+        assertFalse(inventory.removeListener(listener));
+    }
+
+    @Test
+    void shouldRejectUnknownSeatsAndIndexes() {
+        assertFalse(inventory.isAvailable("unknown"));
+        assertThrows(IllegalArgumentException.class, () -> inventory.tryReserve("unknown"));
+        assertThrows(IndexOutOfBoundsException.class, () -> inventory.tryReserve(130));
+        assertThrows(IndexOutOfBoundsException.class, () -> inventory.isAvailable(-1));
+    }
+
+    @Test
+    void shouldRejectDuplicateSeatIds() {
+        List<LocationSeat> seats = new ArrayList<>();
+        seats.add(LocationSeat.create("1", "seat", location, lockProvider, true));
+        seats.add(LocationSeat.create("1", "seat", location, lockProvider, false));
+        assertThrows(IllegalArgumentException.class, () -> SeatInventory.of(seats));
+    }
+
+    @Test
+    void shouldReserveEachSeatOnlyOnceUnderContention() throws Exception {
+        ExecutorService executorService = Executors.newFixedThreadPool(4);
+        List<Future<Integer>> futures = new ArrayList<>();
+        for (int thread = 0; thread < 4; thread++) {
+            futures.add(executorService.submit(() -> {
+                int reserved = 0;
+                for (int index = 0; index < inventory.capacity(); index++) {
+                    if (inventory.tryReserve(index)) {
+                        reserved++;
+                    }
+                }
+                return reserved;
+            }));
+        }
+
+        int total = 0;
+        for (Future<Integer> future : futures) {
+            total += future.get();
+        }
+        executorService.shutdown();
+
+        assertEquals(130, total);
+        assertFalse(inventory.hasAvailableSeats());
+    }
+
+    private Set<LocationSeat> createLocationSeats(int count, boolean isAvailable) {
+        Set<LocationSeat> locationSeats = new LinkedHashSet<>();
+        for (int index = 0; index < count; index++) {
+            locationSeats.add(LocationSeat.create(String.valueOf(index), "seat " + index, location, lockProvider,
+                    isAvailable));
+        }
+        return locationSeats;
+    }
+
+    class SomeLocation implements Location {
+    }
+
+}
@@ -1,16 +1,19 @@
 package com.alps.core.session;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.time.LocalDateTime;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Set;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import com.alps.core.clock.ClockProvider;
 import com.alps.core.location.Location;
 import com.alps.core.location.LocationSeat;
 import com.alps.core.lock.LockProvider;
@@ -143,6 +146,29 @@ public class SessionTest {
         assertFalse(session.hasAvailableSeats());
     }
 
+    @Test
+    void shouldTrackRemainingSeatsAndSoldOutState() {
+        assertEquals(3, session.remainingSeats());
+        assertFalse(session.isSoldOut());
+
+        session.getInventory().reserveAll(List.of("1", "2", "3"));
+
+        assertEquals(0, session.remainingSeats());
+        assertTrue(session.isSoldOut());
+        assertFalse(session.hasAvailableSeats());
+    }
+
+    @Test
+    void shouldCheckActivityAgainstGivenClock() {
+        long start = ClockProvider.toEpochMillis(startTime);
+        long end = ClockProvider.toEpochMillis(endTime);
+
+        assertTrue(session.isActive(() -> start + 1));
+        assertFalse(session.isActive(() -> start));
+        assertFalse(session.isActive(() -> end));
+        assertTrue(session.isActive(ClockProvider.system()));
+    }
+
     @Test
     void shouldReturnTrueIfSpecificSeatIsAvailable() {
         assertTrue(session.isSeatAvailable("1"));
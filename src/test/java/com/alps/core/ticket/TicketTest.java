@@ -5,6 +5,7 @@ import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
@@ -16,6 +17,7 @@ import java.util.Collections;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import com.alps.core.clock.ClockProvider;
 import com.alps.core.location.Location;
 import com.alps.core.location.LocationSeat;
 import com.alps.core.lock.LockProvider;
@@ -189,7 +191,7 @@ public class TicketTest {
     @Test
     void shouldValidateTicketAsValid() {
         validUntil = LocalDate.now().plusDays(5);
-        when(session.isActive()).thenReturn(true);
+        when(session.isActive(any(ClockProvider.class))).thenReturn(true);
 
         Ticket ticket = Ticket.create(
                 TICKET_ID,
@@ -237,6 +239,25 @@ public class TicketTest {
         assertFalse(ticket.isValid());
     }
 
+    @Test
+    void shouldValidateTicketAgainstGivenClock() {
+        ClockProvider clock = () -> ClockProvider.toEpochMillis(validUntil) - 1;
+        when(session.isActive(clock)).thenReturn(true);
+
+        Ticket ticket = Ticket.create(
+                TICKET_ID,
+                user,
+                locationSeat,
+                session,
+                reservation,
+                price,
+                validUntil,
+                false);
+
+        assertTrue(ticket.isValid(clock));
+        assertFalse(ticket.isValid(() -> ClockProvider.toEpochMillis(validUntil)));
+    }
+
     class SomeLocation implements Location {
     }
 
@@ -0,0 +1,41 @@
+package com.alps.infrastructure.clock;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+
+import org.junit.jupiter.api.Test;
+
+class CachedClockProviderTest {
+
+    @Test
+    void shouldFollowSystemTime() throws InterruptedException {
+        try (CachedClockProvider clock = new CachedClockProvider()) {
+            long before = System.currentTimeMillis();
+            Thread.sleep(50);
+
+            long now = clock.currentTimeMillis();
+
+            assertTrue(now > before);
+            assertTrue(now <= System.currentTimeMillis());
+        }
+    }
+
+    @Test
+    void shouldStopAdvancingWhenClosed() throws InterruptedException {
+        CachedClockProvider clock = new CachedClockProvider(Duration.ofMillis(5));
+        clock.close();
+        Thread.sleep(20);
+        long stopped = clock.currentTimeMillis();
+        Thread.sleep(20);
+
+        assertEquals(stopped, clock.currentTimeMillis());
+    }
+
+    @Test
+    void shouldRejectSubMillisecondResolution() {
+        assertThrows(IllegalArgumentException.class, () -> new CachedClockProvider(Duration.ofNanos(10)));
+    }
+}
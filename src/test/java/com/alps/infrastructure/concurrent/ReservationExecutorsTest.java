@@ -0,0 +1,44 @@
+package com.alps.infrastructure.concurrent;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+class ReservationExecutorsTest {
+
+    @Test
+    void shouldRunTasksOnDefaultExecutor() throws Exception {
+        ExecutorService executor = ReservationExecutors.newDefault();
+        try {
+            assertEquals(42, executor.submit(() -> 42).get(5, TimeUnit.SECONDS));
+        } finally {
+            executor.shutdown();
+        }
+        assertTrue(executor.awaitTermination(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    void shouldMatchVirtualThreadSupportToRuntime() {
+        assertEquals(Runtime.version().feature() >= 21, ReservationExecutors.supportsVirtualThreads());
+    }
+
+    @Test
+    void shouldUseDaemonThreadsInPlatformPool() throws Exception {
+        ExecutorService executor = ReservationExecutors.newPlatformPool(2);
+        try {
+            assertTrue(executor.submit(() -> Thread.currentThread().isDaemon()).get(5, TimeUnit.SECONDS));
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    void shouldRejectNonPositivePoolSize() {
+        assertThrows(IllegalArgumentException.class, () -> ReservationExecutors.newPlatformPool(0));
+    }
+}
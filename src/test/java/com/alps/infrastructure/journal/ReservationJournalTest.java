@@ -0,0 +1,202 @@
+package com.alps.infrastructure.journal;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.alps.core.location.Location;
+import com.alps.core.location.LocationSeat;
+import com.alps.core.reservation.ReservationStatus.StandardStatus;
+import com.alps.core.session.Session;
+import com.alps.infrastructure.journal.JournalRecord.Type;
+import com.alps.infrastructure.lock.ReentrantLockProvider;
+
+class ReservationJournalTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void shouldReplayAppendedRecordsInOrder() {
+        List<JournalRecord> records = List.of(
+                record(Type.RESERVATION_CREATED, "r1", "1", "2"),
+                record(Type.RESERVATION_CONFIRMED, "r1", "1", "2"),
+                record(Type.TICKET_USED, "t1", "1"));
+
+        try (ReservationJournal journal = new ReservationJournal(directory)) {
+            long first = journal.append(records.get(0));
+            records.subList(1, 3).forEach(journal::append);
+
+            List<JournalRecord> replayed = new ArrayList<>();
+            assertEquals(journal.position(), journal.replay(replayed::add));
+            assertEquals(records, replayed);
+
+            replayed.clear();
+            journal.replay(first, replayed::add);
+            assertEquals(records.subList(1, 3), replayed);
+        }
+    }
+
+    @Test
+    void shouldRollSegmentsAndRecoverPositionOnReopen() throws IOException {
+        long position;
+        try (ReservationJournal journal = new ReservationJournal(directory, 4096)) {
+            for (int i = 0; i < 500; i++) {
+                journal.append(record(Type.RESERVATION_CREATED, "r" + i, String.valueOf(i)));
+            }
+            position = journal.position();
+        }
+        assertTrue(segmentCount() > 1);
+
+        try (ReservationJournal journal = new ReservationJournal(directory, 4096)) {
+            assertEquals(position, journal.position());
+            journal.append(record(Type.RESERVATION_CANCELLED, "r0", "0"));
+
+            List<JournalRecord> replayed = new ArrayList<>();
+            journal.replay(replayed::add);
+            assertEquals(501, replayed.size());
+            assertEquals("r499", replayed.get(499).getSubjectId());
+            assertEquals(Type.RESERVATION_CANCELLED, replayed.get(500).getType());
+        }
+    }
+
+    @Test
+    void shouldDiscardTornRecordOnReopen() throws IOException {
+        long intact;
+        try (ReservationJournal journal = new ReservationJournal(directory, 4096)) {
+            intact = journal.append(record(Type.RESERVATION_CREATED, "r1", "1"));
+            journal.append(record(Type.RESERVATION_CREATED, "r2", "2"));
+        }
+        Path segment;
+        try (Stream<Path> files = Files.list(directory)) {
+            segment = files.findFirst().orElseThrow();
+        }
+        try (FileChannel channel = FileChannel.open(segment, StandardOpenOption.WRITE)) {
+            channel.write(ByteBuffer.wrap(new byte[] { 0x7F }), intact + 12);
+        }
+
+        try (ReservationJournal journal = new ReservationJournal(directory, 4096)) {
+            assertEquals(intact, journal.position());
+            journal.append(record(Type.RESERVATION_CREATED, "r3", "3"));
+
+            List<String> ids = new ArrayList<>();
+            journal.replay(record -> ids.add(record.getSubjectId()));
+            assertEquals(List.of("r1", "r3"), ids);
+        }
+    }
+
+    @Test
+    void shouldMakeAppendsDurableWithOneSync() throws InterruptedException {
+        try (ReservationJournal journal = new ReservationJournal(directory, 4096)) {
+            long first = journal.append(record(Type.RESERVATION_CREATED, "r1", "1"));
+            long second = journal.append(record(Type.RESERVATION_CREATED, "r2", "2"));
+            assertFalse(journal.awaitSynced(first, Duration.ZERO));
+
+            journal.sync();
+
+            assertEquals(second, journal.syncedPosition());
+            assertTrue(journal.awaitSynced(second, Duration.ZERO));
+        }
+    }
+
+    @Test
+    void shouldRejectAppendsAfterClose() {
+        ReservationJournal journal = new ReservationJournal(directory, 4096);
+        journal.close();
+
+        assertThrows(IllegalStateException.class, () -> journal.append(record(Type.RESERVATION_CREATED, "r1", "1")));
+    }
+
+    @Test
+    void shouldRebuildSeatStateFromJournal() {
+        try (ReservationJournal journal = new ReservationJournal(directory, 4096)) {
+            journal.append(record(Type.RESERVATION_CREATED, "r1", "1", "2"));
+            journal.append(record(Type.RESERVATION_CREATED, "r2", "3"));
+            journal.append(record(Type.RESERVATION_CONFIRMED, "r1", "1", "2"));
+            journal.append(record(Type.RESERVATION_EXPIRED, "r2", "3"));
+            journal.append(record(Type.RESERVATION_CREATED, "r3", "4"));
+            journal.append(record(Type.TICKET_USED, "t1", "1"));
+            journal.append(JournalRecord.create(Type.RESERVATION_CREATED, 0L, "unknown", "r4", List.of("1")));
+        }
+
+        Session session = createSession();
+        JournalRecovery recovery;
+        try (ReservationJournal journal = new ReservationJournal(directory, 4096)) {
+            recovery = JournalRecovery.replay(journal, id -> id.equals("1") ? session : null);
+        }
+
+        assertEquals(2, session.remainingSeats());
+        assertFalse(session.isSeatAvailable("1"));
+        assertTrue(session.isSeatAvailable("3"));
+        assertFalse(session.isSeatAvailable("4"));
+        assertEquals(Map.of("r1", StandardStatus.CONFIRMED, "r2", StandardStatus.EXPIRED,
+                "r3", StandardStatus.PENDING), recovery.getReservationStatuses());
+        assertEquals(Set.of("t1"), recovery.getUsedTickets());
+        assertEquals(6, recovery.getAppliedRecords());
+    }
+
+    @Test
+    void shouldSkipUnknownSeatsAndFinishRecovery() {
+        try (ReservationJournal journal = new ReservationJournal(directory, 4096)) {
+            journal.append(record(Type.RESERVATION_CREATED, "r1", "1", "removed"));
+            journal.append(record(Type.RESERVATION_CREATED, "r2", "2", "3"));
+            journal.append(record(Type.RESERVATION_CANCELLED, "r2", "3", "gone"));
+            journal.append(record(Type.RESERVATION_CREATED, "r3", "gone"));
+        }
+
+        Session session = createSession();
+        JournalRecovery recovery;
+        try (ReservationJournal journal = new ReservationJournal(directory, 4096)) {
+            recovery = JournalRecovery.replay(journal, id -> id.equals("1") ? session : null);
+        }
+
+        assertFalse(session.isSeatAvailable("1"));
+        assertFalse(session.isSeatAvailable("2"));
+        assertTrue(session.isSeatAvailable("3"));
+        assertEquals(3, session.remainingSeats());
+        assertEquals(Map.of("r1", StandardStatus.PENDING, "r2", StandardStatus.CANCELLED,
+                "r3", StandardStatus.PENDING), recovery.getReservationStatuses());
+        assertEquals(Map.of("1", Set.of("removed", "gone")), recovery.getUnknownSeats());
+        assertEquals(4, recovery.getAppliedRecords());
+    }
+
+    JournalRecord record(Type type, String subjectId, String... seatIds) {
+        return JournalRecord.create(type, 1_000L, "1", subjectId, List.of(seatIds));
+    }
+
+    Session createSession() {
+        Location location = new Location() {
+        };
+        Set<LocationSeat> seats = new LinkedHashSet<>();
+        for (int i = 1; i <= 5; i++) {
+            seats.add(LocationSeat.create(String.valueOf(i), "seat " + i, location, new ReentrantLockProvider(), true));
+        }
+        return Session.create("1", "session", LocalDateTime.now().minusHours(1), LocalDateTime.now().plusHours(1),
+                location, seats);
+    }
+
+    long segmentCount() throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.count();
+        }
+    }
+}
@@ -0,0 +1,132 @@
+package com.alps.infrastructure.lock;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class FileLockProviderTest {
+
+    @TempDir
+    Path directory;
+
+    Path lockFile;
+    FileLockProvider lockProvider;
+
+    @BeforeEach
+    void setup() {
+        lockFile = directory.resolve("venue.lock");
+        lockProvider = new FileLockProvider(lockFile, 64);
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        lockProvider.close();
+    }
+
+    @Test
+    void shouldLockAndUnlockByKey() {
+        lockProvider.lock("seat-1");
+        assertTrue(lockProvider.isLocked("seat-1"));
+
+        lockProvider.unlock("seat-1");
+        assertFalse(lockProvider.isLocked("seat-1"));
+    }
+
+    @Test
+    void shouldReenterWithoutReleasingFileRange() {
+        lockProvider.lock("seat-1");
+        assertTrue(lockProvider.tryLock("seat-1"));
+        lockProvider.unlock("seat-1");
+        assertTrue(lockProvider.isLocked("seat-1"));
+
+        lockProvider.unlock("seat-1");
+        assertFalse(lockProvider.isLocked("seat-1"));
+    }
+
+    @Test
+    void shouldThrowExceptionWhenUnlockingWithoutLocking() {
+        assertThrows(IllegalMonitorStateException.class, () -> lockProvider.unlock("seat-1"));
+    }
+
+    @Test
+    void shouldExcludeOtherThreadsOfTheSameProcess() throws Exception {
+        lockProvider.lock("seat-1");
+        ExecutorService executorService = Executors.newSingleThreadExecutor();
+        try {
+            assertFalse(executorService.submit(() -> lockProvider.tryLock("seat-1")).get());
+            assertFalse(executorService.submit(() -> lockProvider.tryLock("seat-1", Duration.ofMillis(20))).get());
+        } finally {
+            lockProvider.unlock("seat-1");
+        }
+        assertTrue(executorService.submit(() -> {
+            boolean acquired = lockProvider.tryLock("seat-1", Duration.ofMillis(20));
+            lockProvider.unlock("seat-1");
+            return acquired;
+        }).get());
+        executorService.shutdown();
+    }
+
+    @Test
+    void shouldExcludeOtherProcesses() throws Exception {
+        Path java = Paths.get(System.getProperty("java.home"), "bin", "java");
+        Process holder = new ProcessBuilder(
+                java.toString(),
+                "-cp",
+                System.getProperty("java.class.path"),
+                Holder.class.getName(),
+                lockFile.toString(),
+                "seat-1")
+                .redirectErrorStream(true)
+                .start();
+        try {
+            BufferedReader output = new BufferedReader(
+                    new InputStreamReader(holder.getInputStream(), StandardCharsets.UTF_8));
+            assertEquals("locked", output.readLine());
+
+            assertTrue(lockProvider.isLocked("seat-1"));
+            assertFalse(lockProvider.tryLock("seat-1"));
+            assertFalse(lockProvider.tryLock("seat-1", Duration.ofMillis(50)));
+
+            holder.getOutputStream().close();
+            assertEquals(0, holder.waitFor());
+            assertTrue(lockProvider.tryLock("seat-1", Duration.ofSeconds(5)));
+            lockProvider.unlock("seat-1");
+        } finally {
+            holder.destroy();
+        }
+    }
+
+    /**
+     * Holds a key from a separate JVM until its standard input is closed.
+     */
+    public static class Holder {
+        public static void main(String[] args) throws IOException {
+            try (FileLockProvider provider = new FileLockProvider(Paths.get(args[0]), 64)) {
+                provider.lock(args[1]);
+                System.out.println("locked");
+                System.out.flush();
+                while (System.in.read() != -1) {
+                    // wait for the parent to close the stream
+                }
+                provider.unlock(args[1]);
+            }
+        }
+    }
+
+}
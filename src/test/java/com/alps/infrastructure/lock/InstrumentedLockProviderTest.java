@@ -0,0 +1,139 @@
+package com.alps.infrastructure.lock;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class InstrumentedLockProviderTest {
+
+    InstrumentedLockProvider lockProvider;
+
+    @BeforeEach
+    void setup() {
+        lockProvider = new InstrumentedLockProvider(1, 2);
+    }
+
+    @Test
+    void shouldLockAndUnlock() {
+        lockProvider.lock();
+        assertTrue(lockProvider.isLocked());
+
+        lockProvider.unlock();
+        assertFalse(lockProvider.isLocked());
+    }
+
+    @Test
+    void shouldThrowExceptionWhenUnlockingWithoutLocking() {
+        assertThrows(IllegalMonitorStateException.class, () -> {
+            lockProvider.unlock();
+        });
+    }
+
+    @Test
+    void shouldRecordAcquisitionsAndHoldTimes() throws InterruptedException {
+        for (int i = 0; i < 3; i++) {
+            lockProvider.lock();
+            lockProvider.lock();
+            lockProvider.unlock();
+            lockProvider.unlock();
+        }
+        assertTrue(lockProvider.tryLock(Duration.ofMillis(10)));
+        lockProvider.unlock();
+
+        LockContentionSnapshot snapshot = lockProvider.snapshot();
+        assertEquals(7, snapshot.getAcquisitions());
+        assertEquals(7, snapshot.getSampledAcquisitions());
+        assertEquals(0, snapshot.getContendedAcquisitions());
+        assertEquals(0, snapshot.getFailedAcquisitions());
+        assertEquals(7, Arrays.stream(snapshot.getWaitTimeHistogram()).sum());
+        assertEquals(4, Arrays.stream(snapshot.getHoldTimeHistogram()).sum());
+        assertEquals(2, snapshot.getLongestHolds().size());
+        assertEquals(Thread.currentThread().getName(), snapshot.getLongestHolds().get(0).getThreadName());
+    }
+
+    @Test
+    void shouldRecordContentionAndQueueLength() throws Exception {
+        CountDownLatch locked = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executorService = Executors.newFixedThreadPool(2);
+
+        Future<?> holder = executorService.submit(() -> {
+            lockProvider.lock();
+            try {
+                locked.countDown();
+                release.await();
+            } finally {
+                lockProvider.unlock();
+            }
+            return null;
+        });
+        assertTrue(locked.await(5, TimeUnit.SECONDS));
+
+        Future<?> waiter = executorService.submit(() -> {
+            lockProvider.lock();
+            lockProvider.unlock();
+        });
+        while (!hasQueuedThreads()) {
+            Thread.onSpinWait();
+        }
+        Thread.sleep(20);
+        release.countDown();
+        holder.get();
+        waiter.get();
+        executorService.shutdown();
+
+        LockContentionSnapshot snapshot = lockProvider.snapshot();
+        assertEquals(2, snapshot.getAcquisitions());
+        assertEquals(1, snapshot.getContendedAcquisitions());
+        assertTrue(snapshot.getMaxQueueLength() >= 1);
+        assertTrue(snapshot.getLongestHolds().get(0).getHoldNanos() >= TimeUnit.MILLISECONDS.toNanos(20));
+    }
+
+    @Test
+    void shouldCountTimedOutAttemptsAsFailedRatherThanContended() throws Exception {
+        CountDownLatch locked = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executorService = Executors.newSingleThreadExecutor();
+
+        Future<?> holder = executorService.submit(() -> {
+            lockProvider.lock();
+            try {
+                locked.countDown();
+                release.await();
+            } finally {
+                lockProvider.unlock();
+            }
+            return null;
+        });
+        assertTrue(locked.await(5, TimeUnit.SECONDS));
+
+        assertFalse(lockProvider.tryLock(Duration.ofMillis(10)));
+        assertFalse(lockProvider.tryLock(Duration.ofMillis(10)));
+        release.countDown();
+        holder.get();
+        executorService.shutdown();
+
+        LockContentionSnapshot snapshot = lockProvider.snapshot();
+        assertEquals(1, snapshot.getAcquisitions());
+        assertEquals(0, snapshot.getContendedAcquisitions());
+        assertEquals(2, snapshot.getFailedAcquisitions());
+        assertTrue(snapshot.getMaxQueueLength() >= 1);
+    }
+
+    private boolean hasQueuedThreads() {
+        return lockProvider.snapshot().getContendedAcquisitions() > 0;
+    }
+
+}
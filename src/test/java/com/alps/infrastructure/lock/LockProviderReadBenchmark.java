@@ -0,0 +1,99 @@
+package com.alps.infrastructure.lock;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+import com.alps.core.lock.LockProvider;
+import com.alps.core.lock.ReadWriteLockProvider;
+
+/**
+ * Compares read throughput of {@link ReentrantLockProvider} and
+ * {@link StampedLockProvider} at several reader:writer ratios. This is not a
+ * unit test and is not run by the build; launch it manually with
+ * {@code java -cp target/classes:target/test-classes
+ * com.alps.infrastructure.lock.LockProviderReadBenchmark [seconds]}.
+ */
+public class LockProviderReadBenchmark {
+
+    private static final int[] READERS_PER_WRITER = { 1, 10, 200 };
+
+    private long first;
+    private long second;
+
+    public static void main(String[] args) throws InterruptedException {
+        int seconds = args.length > 0 ? Integer.parseInt(args[0]) : 2;
+        int threads = Math.max(2, Runtime.getRuntime().availableProcessors());
+
+        System.out.printf("%-10s %-22s %18s %18s%n", "ratio", "provider", "reads/s", "writes/s");
+        for (int ratio : READERS_PER_WRITER) {
+            new LockProviderReadBenchmark().run("reentrant", new ReentrantLockProvider(), ratio, threads, seconds);
+            new LockProviderReadBenchmark().run("stamped-optimistic", new StampedLockProvider(), ratio, threads,
+                    seconds);
+        }
+    }
+
+    private void run(String name, LockProvider lockProvider, int ratio, int threads, int seconds)
+            throws InterruptedException {
+        LongAdder reads = new LongAdder();
+        LongAdder writes = new LongAdder();
+        CountDownLatch start = new CountDownLatch(1);
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(seconds);
+
+        Thread[] workers = new Thread[threads];
+        for (int t = 0; t < threads; t++) {
+            workers[t] = new Thread(() -> {
+                awaitQuietly(start);
+                long operation = 0;
+                while (System.nanoTime() < deadline) {
+                    if (operation++ % (ratio + 1) == ratio) {
+                        write(lockProvider);
+                        writes.increment();
+                    } else {
+                        read(lockProvider);
+                        reads.increment();
+                    }
+                }
+            });
+            workers[t].start();
+        }
+
+        start.countDown();
+        for (Thread worker : workers) {
+            worker.join();
+        }
+
+        System.out.printf("%-10s %-22s %18d %18d%n", ratio + ":1", name, reads.sum() / seconds,
+                writes.sum() / seconds);
+    }
+
+    private long read(LockProvider lockProvider) {
+        if (lockProvider instanceof ReadWriteLockProvider) {
+            return ((ReadWriteLockProvider) lockProvider).optimisticRead(() -> first + second);
+        }
+        lockProvider.lock();
+        try {
+            return first + second;
+        } finally {
+            lockProvider.unlock();
+        }
+    }
+
+    private void write(LockProvider lockProvider) {
+        lockProvider.lock();
+        try {
+            first++;
+            second--;
+        } finally {
+            lockProvider.unlock();
+        }
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
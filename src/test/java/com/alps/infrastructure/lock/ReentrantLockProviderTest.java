@@ -4,6 +4,10 @@ import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
@@ -27,6 +31,28 @@ public class ReentrantLockProviderTest {
         assertFalse(lockProvider.isLocked());
     }
 
+    @Test
+    void shouldTryLockWhenFree() throws InterruptedException {
+        assertTrue(lockProvider.tryLock());
+        assertTrue(lockProvider.tryLock(Duration.ofMillis(10)));
+        lockProvider.unlock();
+        lockProvider.unlock();
+        assertFalse(lockProvider.isLocked());
+    }
+
+    @Test
+    void shouldGiveUpWhenLockIsHeldByAnotherThread() throws Exception {
+        lockProvider.lock();
+        ExecutorService executorService = Executors.newSingleThreadExecutor();
+        try {
+            assertFalse(executorService.submit(() -> lockProvider.tryLock()).get());
+            assertFalse(executorService.submit(() -> lockProvider.tryLock(Duration.ofMillis(20))).get());
+        } finally {
+            lockProvider.unlock();
+            executorService.shutdown();
+        }
+    }
+
     @Test
     void shouldThrowExceptionWhenUnlockingWithoutLocking() {
         assertThrows(IllegalMonitorStateException.class, () -> {
@@ -0,0 +1,159 @@
+package com.alps.infrastructure.lock;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.alps.core.location.Location;
+import com.alps.core.location.LocationSeat;
+import com.alps.core.lock.ReadWriteLockProvider;
+import com.alps.core.price.Price;
+import com.alps.core.reservation.Reservation;
+import com.alps.core.reservation.ReservationStatus;
+import com.alps.core.session.Session;
+import com.alps.core.user.User;
+
+public class StampedLockProviderTest {
+
+    ReadWriteLockProvider lockProvider;
+
+    @BeforeEach
+    void setup() {
+        lockProvider = new StampedLockProvider();
+    }
+
+    @Test
+    void shouldLockAndUnlock() {
+        lockProvider.lock();
+        assertTrue(lockProvider.isLocked());
+
+        lockProvider.unlock();
+        assertFalse(lockProvider.isLocked());
+    }
+
+    @Test
+    void shouldThrowExceptionWhenUnlockingWithoutLocking() {
+        assertThrows(IllegalMonitorStateException.class, () -> {
+            lockProvider.unlock();
+        });
+    }
+
+    @Test
+    void shouldNotReenterWriteLock() throws InterruptedException {
+        assertTrue(lockProvider.tryLock());
+        assertFalse(lockProvider.tryLock());
+        assertFalse(lockProvider.tryLock(Duration.ofMillis(10)));
+        lockProvider.unlock();
+    }
+
+    @Test
+    void shouldRejectWriteUnlockFromAnotherThread() throws Exception {
+        long stamp = lockProvider.writeLock();
+        ExecutorService executorService = Executors.newSingleThreadExecutor();
+        try {
+            Future<?> foreign = executorService.submit(() -> assertThrows(IllegalMonitorStateException.class,
+                    () -> lockProvider.unlockWrite(stamp)));
+            foreign.get();
+        } finally {
+            executorService.shutdown();
+        }
+
+        assertTrue(lockProvider.isLocked());
+        assertThrows(IllegalStateException.class, lockProvider::lock);
+        lockProvider.unlockWrite(stamp);
+        assertFalse(lockProvider.isLocked());
+    }
+
+    @Test
+    void shouldRejectBlockingReentryInsteadOfDeadlocking() {
+        lockProvider.lock();
+        assertThrows(IllegalStateException.class, lockProvider::lock);
+        assertThrows(IllegalStateException.class, lockProvider::writeLock);
+        assertThrows(IllegalStateException.class, lockProvider::readLock);
+        lockProvider.unlock();
+        assertFalse(lockProvider.isLocked());
+    }
+
+    @Test
+    void shouldFailCancellationSharingOneLockInsteadOfDeadlocking() {
+        Location location = new Location() {
+        };
+        User user = User.create("1", "user one", "user@email.com");
+        Set<LocationSeat> seats = Set.of(LocationSeat.create("1", "seat", location, lockProvider, true));
+        Session session = Session.create("1", "session", LocalDateTime.now(), LocalDateTime.now().plusHours(1),
+                location, seats);
+        Reservation reservation = Reservation.create("1", user, session, seats, LocalDateTime.now(),
+                Duration.ofHours(1), lockProvider, new ReservationStatus(ReservationStatus.StandardStatus.PENDING),
+                new Price(BigDecimal.TEN));
+
+        assertTimeoutPreemptively(Duration.ofSeconds(5), () -> {
+            assertThrows(IllegalStateException.class, reservation::cancel);
+            assertTrue(reservation.cancel(Duration.ofSeconds(1)).isContended());
+        });
+        assertFalse(lockProvider.isLocked());
+    }
+
+    @Test
+    void shouldInvalidateOptimisticReadAfterWrite() {
+        long stamp = lockProvider.tryOptimisticRead();
+        assertNotEquals(0L, stamp);
+        assertTrue(lockProvider.validate(stamp));
+
+        long writeStamp = lockProvider.writeLock();
+        assertEquals(0L, lockProvider.tryOptimisticRead());
+        lockProvider.unlockWrite(writeStamp);
+
+        assertFalse(lockProvider.validate(stamp));
+    }
+
+    @Test
+    void shouldShareReadLock() {
+        long first = lockProvider.readLock();
+        long second = lockProvider.readLock();
+        assertTrue(lockProvider.isLocked());
+
+        lockProvider.unlockRead(first);
+        lockProvider.unlockRead(second);
+        assertFalse(lockProvider.isLocked());
+    }
+
+    @Test
+    void shouldReadConsistentStateOptimistically() throws Exception {
+        long[] pair = new long[2];
+        ExecutorService executorService = Executors.newSingleThreadExecutor();
+        Future<?> writer = executorService.submit(() -> {
+            for (int i = 1; i <= 10_000; i++) {
+                long stamp = lockProvider.writeLock();
+                try {
+                    pair[0] = i;
+                    pair[1] = i;
+                } finally {
+                    lockProvider.unlockWrite(stamp);
+                }
+            }
+        });
+
+        for (int i = 0; i < 10_000; i++) {
+            long[] read = lockProvider.optimisticRead(() -> new long[] { pair[0], pair[1] });
+            assertEquals(read[0], read[1]);
+        }
+
+        writer.get();
+        executorService.shutdown();
+    }
+
+}
@@ -0,0 +1,123 @@
+package com.alps.infrastructure.lock;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.alps.core.location.Location;
+import com.alps.core.location.LocationSeat;
+import com.alps.core.lock.LockProvider;
+
+public class StripedLockProviderTest {
+
+    StripedLockProvider lockProvider;
+
+    @BeforeEach
+    void setup() {
+        lockProvider = new StripedLockProvider(16);
+    }
+
+    @Test
+    void shouldRoundStripeCountUpToPowerOfTwo() {
+        assertEquals(16, lockProvider.getStripeCount());
+        assertEquals(8, new StripedLockProvider(5).getStripeCount());
+        assertEquals(1, new StripedLockProvider(1).getStripeCount());
+        assertThrows(IllegalArgumentException.class, () -> new StripedLockProvider(0));
+    }
+
+    @Test
+    void shouldLockAndUnlockByKey() {
+        lockProvider.lock("seat-1");
+        assertTrue(lockProvider.isLocked("seat-1"));
+
+        lockProvider.unlock("seat-1");
+        assertFalse(lockProvider.isLocked("seat-1"));
+    }
+
+    @Test
+    void shouldGiveUpWhenKeyIsHeldByAnotherThread() throws Exception {
+        lockProvider.lock("seat-1");
+        ExecutorService executorService = Executors.newSingleThreadExecutor();
+        try {
+            assertFalse(executorService.submit(() -> lockProvider.tryLock("seat-1")).get());
+            assertFalse(executorService.submit(() -> lockProvider.forKey("seat-1").tryLock(Duration.ofMillis(20)))
+                    .get());
+        } finally {
+            lockProvider.unlock("seat-1");
+            executorService.shutdown();
+        }
+        assertTrue(lockProvider.tryLock("seat-1", Duration.ofMillis(10)));
+        lockProvider.unlock("seat-1");
+    }
+
+    @Test
+    void shouldThrowExceptionWhenUnlockingWithoutLocking() {
+        assertThrows(IllegalMonitorStateException.class, () -> lockProvider.unlock("seat-1"));
+    }
+
+    @Test
+    void shouldLockKeysOnDifferentStripesInParallel() throws Exception {
+        String first = "seat-1";
+        String second = keyOnAnotherStripe(first);
+        CountDownLatch firstLocked = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executorService = Executors.newSingleThreadExecutor();
+
+        Future<?> holder = executorService.submit(() -> {
+            lockProvider.lock(first);
+            try {
+                firstLocked.countDown();
+                release.await();
+            } finally {
+                lockProvider.unlock(first);
+            }
+            return null;
+        });
+
+        assertTrue(firstLocked.await(5, TimeUnit.SECONDS));
+        lockProvider.lock(second);
+        assertTrue(lockProvider.isLocked(second));
+        lockProvider.unlock(second);
+
+        release.countDown();
+        holder.get();
+        executorService.shutdown();
+    }
+
+    @Test
+    void shouldProvideLockProviderBoundToKey() {
+        LockProvider seatLock = lockProvider.forKey("seat-1");
+        LocationSeat seat = LocationSeat.create("seat-1", "seat", new SomeLocation(), seatLock, true);
+
+        assertFalse(seat.reserve().isAvailable());
+        seatLock.lock();
+        assertTrue(lockProvider.isLocked("seat-1"));
+        seatLock.unlock();
+        assertFalse(seatLock.isLocked());
+    }
+
+    private String keyOnAnotherStripe(String key) {
+        int stripe = lockProvider.stripeIndex(key);
+        for (int i = 0;; i++) {
+            String candidate = "seat-" + i;
+            if (lockProvider.stripeIndex(candidate) != stripe) {
+                return candidate;
+            }
+        }
+    }
+
+    class SomeLocation implements Location {
+    }
+
+}
@@ -0,0 +1,131 @@
+package com.alps.infrastructure.reservation;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.alps.core.location.Location;
+import com.alps.core.location.LocationSeat;
+import com.alps.core.price.Price;
+import com.alps.core.reservation.Reservation;
+import com.alps.core.reservation.ReservationStatus.StandardStatus;
+import com.alps.core.session.Session;
+import com.alps.core.user.User;
+import com.alps.infrastructure.lock.ReentrantLockProvider;
+
+public class InMemoryReservationRepositoryTest {
+
+    private InMemoryReservationRepository reservationRepository;
+    private Location location;
+    private User alice;
+    private User bob;
+    private Session first;
+    private Session second;
+
+    @BeforeEach
+    void setup() {
+        reservationRepository = new InMemoryReservationRepository();
+        location = new Location() {
+        };
+        alice = User.create("1", "Alice", "alice@example.com");
+        bob = User.create("2", "Bob", "bob@example.com");
+        first = createSession("1");
+        second = createSession("2");
+    }
+
+    @Test
+    void shouldFindReservationsThroughIndexes() {
+        Reservation r1 = reservationRepository.save(createReservation("r1", alice, first));
+        reservationRepository.save(createReservation("r2", bob, first));
+        reservationRepository.save(createReservation("r3", alice, second));
+
+        assertSame(r1, reservationRepository.findById("r1"));
+        assertEquals(Set.of("r1", "r3"), ids(reservationRepository.findByUserId("1")));
+        assertEquals(Set.of("r1", "r2"), ids(reservationRepository.findBySessionId("1")));
+        assertEquals(Set.of("r1", "r2", "r3"), ids(reservationRepository.findByStatus(StandardStatus.PENDING)));
+        assertEquals(Set.of("r3"), ids(reservationRepository.findBySessionIdAndStatus("2", StandardStatus.PENDING)));
+        assertTrue(reservationRepository.findByUserId("unknown").isEmpty());
+    }
+
+    @Test
+    void shouldMoveReservationBetweenStatusIndexesWhenSaved() {
+        Reservation pending = reservationRepository.save(createReservation("r1", alice, first));
+        reservationRepository.save(createReservation("r2", bob, first));
+
+        reservationRepository.save(pending.cancel());
+
+        assertEquals(Set.of("r2"), ids(reservationRepository.findBySessionIdAndStatus("1", StandardStatus.PENDING)));
+        assertEquals(Set.of("r1"), ids(reservationRepository.findByStatus(StandardStatus.CANCELLED)));
+        assertEquals(Set.of("r1", "r2"), ids(reservationRepository.findBySessionId("1")));
+    }
+
+    @Test
+    void shouldDeleteReservationFromEveryIndex() {
+        reservationRepository.save(createReservation("r1", alice, first));
+
+        reservationRepository.delete("r1");
+
+        assertNull(reservationRepository.findById("r1"));
+        assertTrue(reservationRepository.findByUserId("1").isEmpty());
+        assertTrue(reservationRepository.findBySessionId("1").isEmpty());
+        assertTrue(reservationRepository.findByStatus(StandardStatus.PENDING).isEmpty());
+        assertTrue(reservationRepository.findBySessionIdAndStatus("1", StandardStatus.PENDING).isEmpty());
+    }
+
+    @Test
+    void shouldHandleConcurrentOperations() throws Exception {
+        ExecutorService executorService = Executors.newFixedThreadPool(4);
+        Future<?>[] futures = new Future<?>[4];
+        for (int t = 0; t < futures.length; t++) {
+            int thread = t;
+            futures[t] = executorService.submit(() -> {
+                for (int i = 0; i < 250; i++) {
+                    Reservation reservation = createReservation(thread + "-" + i, thread % 2 == 0 ? alice : bob, first);
+                    reservationRepository.save(reservation);
+                    if (i % 2 == 0) {
+                        reservationRepository.save(reservation.cancel());
+                    }
+                }
+            });
+        }
+        for (Future<?> future : futures) {
+            future.get();
+        }
+        executorService.shutdown();
+
+        assertEquals(1000, reservationRepository.findBySessionId("1").size());
+        assertEquals(500, reservationRepository.findByUserId("1").size());
+        assertEquals(500, reservationRepository.findBySessionIdAndStatus("1", StandardStatus.CANCELLED).size());
+        assertEquals(500, reservationRepository.findByStatus(StandardStatus.PENDING).size());
+    }
+
+    private Reservation createReservation(String id, User user, Session session) {
+        Set<LocationSeat> seats = Set.of(LocationSeat.create(id, "seat", location, new ReentrantLockProvider(), true));
+        return Reservation.create(id, user, session, seats, LocalDateTime.now(), Duration.ofMinutes(10),
+                new ReentrantLockProvider(), null, new Price(BigDecimal.TEN));
+    }
+
+    private Session createSession(String id) {
+        return Session.create(id, "session " + id, LocalDateTime.now(), LocalDateTime.now().plusHours(2), location,
+                new LinkedHashSet<>());
+    }
+
+    private static Set<String> ids(List<Reservation> reservations) {
+        return reservations.stream().map(Reservation::getReservationId).collect(Collectors.toSet());
+    }
+}
@@ -0,0 +1,149 @@
+package com.alps.infrastructure.session;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.alps.core.location.Location;
+import com.alps.core.session.Session;
+
+public class InMemorySessionRepositoryTest {
+
+    private InMemorySessionRepository sessionRepository;
+    private Location location;
+    private LocalDateTime noon;
+
+    @BeforeEach
+    void setup() {
+        sessionRepository = new InMemorySessionRepository();
+        location = new Location() {
+        };
+        noon = LocalDateTime.of(2024, 6, 10, 12, 0);
+        sessionRepository.save(createSession("matinee", noon.minusHours(2), noon.plusHours(1)));
+        sessionRepository.save(createSession("festival", noon.minusDays(2), noon.plusDays(1)));
+        sessionRepository.save(createSession("evening", noon.plusHours(8), noon.plusHours(10)));
+        sessionRepository.save(createSession("morning", noon.minusHours(4), noon));
+    }
+
+    @Test
+    void shouldFindSessionsActiveAtTime() {
+        assertEquals(List.of("festival", "matinee"), ids(sessionRepository.findActiveAt(noon)));
+        assertEquals(List.of("festival", "morning"), ids(sessionRepository.findActiveAt(noon.minusHours(3))));
+        assertEquals(List.of("festival", "evening"), ids(sessionRepository.findActiveAt(noon.plusHours(9))));
+        assertTrue(sessionRepository.findActiveAt(noon.plusDays(3)).isEmpty());
+    }
+
+    @Test
+    void shouldFindSessionsStartingWithinWindow() {
+        assertEquals(List.of("morning", "matinee"),
+                ids(sessionRepository.findStartingBetween(noon.minusHours(4), noon.minusHours(2))));
+        assertEquals(List.of("evening"), ids(sessionRepository.findStartingBetween(noon, noon.plusDays(1))));
+        assertThrows(IllegalArgumentException.class,
+                () -> sessionRepository.findStartingBetween(noon, noon.minusHours(1)));
+    }
+
+    @Test
+    void shouldFindSessionsOverlappingRange() {
+        assertEquals(List.of("festival", "evening"),
+                ids(sessionRepository.findOverlapping(noon.plusHours(1), noon.plusHours(9))));
+        assertEquals(List.of("festival", "morning", "matinee"),
+                ids(sessionRepository.findOverlapping(noon.minusHours(1), noon)));
+    }
+
+    @Test
+    void shouldReindexAndDeleteSessions() {
+        Session moved = createSession("evening", noon.plusDays(5), noon.plusDays(5).plusHours(2));
+        sessionRepository.save(moved);
+
+        assertSame(moved, sessionRepository.findById("evening"));
+        assertEquals(List.of("festival"), ids(sessionRepository.findActiveAt(noon.plusHours(9))));
+
+        sessionRepository.delete("festival");
+
+        assertNull(sessionRepository.findById("festival"));
+        assertEquals(List.of("matinee"), ids(sessionRepository.findActiveAt(noon)));
+    }
+
+    @Test
+    void shouldAgreeWithScanningEverySessionAcrossSavesAndDeletes() {
+        Random random = new Random(42);
+        Map<String, Session> expected = new HashMap<>();
+        for (String id : List.of("matinee", "festival", "evening", "morning")) {
+            expected.put(id, sessionRepository.findById(id));
+        }
+        for (int step = 0; step < 2000; step++) {
+            String id = "s" + random.nextInt(300);
+            if (random.nextInt(4) == 0) {
+                sessionRepository.delete(id);
+                expected.remove(id);
+            } else {
+                LocalDateTime start = noon.plusMinutes(random.nextInt(10_000));
+                Session session = createSession(id, start, start.plusMinutes(1 + random.nextInt(
+                        random.nextInt(20) == 0 ? 20_000 : 200)));
+                sessionRepository.save(session);
+                expected.put(id, session);
+            }
+            if (step % 100 == 0) {
+                LocalDateTime from = noon.plusMinutes(random.nextInt(10_000));
+                LocalDateTime to = from.plusMinutes(random.nextInt(500));
+                assertEquals(scan(expected, from, to), ids(sessionRepository.findOverlapping(from, to)));
+                assertEquals(scan(expected, from, from), ids(sessionRepository.findActiveAt(from)));
+            }
+        }
+    }
+
+    @Test
+    void shouldHandleConcurrentOperations() throws Exception {
+        ExecutorService executorService = Executors.newFixedThreadPool(4);
+        Future<?>[] futures = new Future<?>[4];
+        for (int t = 0; t < futures.length; t++) {
+            int thread = t;
+            futures[t] = executorService.submit(() -> {
+                for (int i = 0; i < 100; i++) {
+                    LocalDateTime start = noon.plusDays(10).plusMinutes(i);
+                    sessionRepository.save(createSession(thread + "-" + i, start, start.plusHours(1)));
+                }
+            });
+        }
+        for (Future<?> future : futures) {
+            future.get();
+        }
+        executorService.shutdown();
+
+        assertEquals(400, sessionRepository.findStartingBetween(noon.plusDays(10), noon.plusDays(11)).size());
+        assertEquals(200, sessionRepository.findActiveAt(noon.plusDays(10).plusMinutes(50)).size());
+    }
+
+    private Session createSession(String id, LocalDateTime start, LocalDateTime end) {
+        return Session.create(id, "session " + id, start, end, location, new LinkedHashSet<>());
+    }
+
+    private static List<String> scan(Map<String, Session> sessions, LocalDateTime from, LocalDateTime to) {
+        return sessions.values().stream()
+                .filter(session -> session.getEndTime().isAfter(from) && session.getStartTime().isBefore(to))
+                .sorted(Comparator.comparing(Session::getStartTime).thenComparing(Session::getSessionId))
+                .map(Session::getSessionId)
+                .collect(Collectors.toList());
+    }
+
+    private static List<String> ids(List<Session> sessions) {
+        return sessions.stream().map(Session::getSessionId).collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,125 @@
+package com.alps.infrastructure.snapshot;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.alps.core.location.Location;
+import com.alps.core.location.LocationSeat;
+import com.alps.core.session.Session;
+import com.alps.infrastructure.journal.JournalRecord;
+import com.alps.infrastructure.journal.JournalRecord.Type;
+import com.alps.infrastructure.journal.JournalRecovery;
+import com.alps.infrastructure.journal.ReservationJournal;
+import com.alps.infrastructure.lock.ReentrantLockProvider;
+
+class SessionSnapshotTest {
+
+    @TempDir
+    Path directory;
+
+    Location location;
+    LocalDateTime start;
+    Session session;
+
+    @BeforeEach
+    void setup() {
+        location = new Location() {
+        };
+        start = LocalDateTime.of(2024, 3, 1, 20, 30, 15, 500);
+        session = createSession("1", 150, new LinkedHashSet<>());
+    }
+
+    @Test
+    void shouldRestoreSessionWithMetadataAndAvailability() {
+        session.getInventory().reserveAll(List.of("1", "70", "150"));
+        Path file = directory.resolve("sessions.snapshot");
+
+        SessionSnapshot.write(file, List.of(session, createSession("2", 3, new LinkedHashSet<>())), 42L);
+        SessionSnapshot snapshot = SessionSnapshot.load(file);
+        Session restored = snapshot.restore("1", location, new ReentrantLockProvider());
+
+        assertEquals(42L, snapshot.getJournalPosition());
+        assertEquals(List.of("1", "2"), List.copyOf(snapshot.sessionIds()));
+        assertEquals("session 1", restored.getName());
+        assertEquals(start, restored.getStartTime());
+        assertEquals(start.plusHours(2), restored.getEndTime());
+        assertEquals(147, restored.remainingSeats());
+        assertFalse(restored.isSeatAvailable("70"));
+        assertTrue(restored.isSeatAvailable("71"));
+        assertEquals("seat 70", restored.getSeats().stream()
+                .filter(seat -> seat.getSeatId().equals("70")).findFirst().orElseThrow().getDescription());
+    }
+
+    @Test
+    void shouldRestoreIntoExistingSessionsInAnySeatOrder() {
+        session.getInventory().reserveAll(List.of("2", "65"));
+        Path file = directory.resolve("sessions.snapshot");
+        SessionSnapshot.write(file, List.of(session), 0L);
+        SessionSnapshot snapshot = SessionSnapshot.load(file);
+
+        Session sameOrder = createSession("1", 150, new LinkedHashSet<>());
+        snapshot.restoreInto(sameOrder);
+        Session otherOrder = createSession("1", 150, new HashSet<>());
+        snapshot.restoreInto(otherOrder);
+
+        for (Session restored : List.of(sameOrder, otherOrder)) {
+            assertEquals(148, restored.remainingSeats());
+            assertFalse(restored.isSeatAvailable("2"));
+            assertFalse(restored.isSeatAvailable("65"));
+        }
+        assertThrows(IllegalArgumentException.class,
+                () -> snapshot.restoreInto(createSession("9", 1, new LinkedHashSet<>())));
+    }
+
+    @Test
+    void shouldReplayJournalFromSnapshotPosition() {
+        Path file = directory.resolve("sessions.snapshot");
+        try (ReservationJournal journal = new ReservationJournal(directory.resolve("journal"), 4096)) {
+            journal.append(JournalRecord.create(Type.RESERVATION_CREATED, 0L, "1", "r1", List.of("1")));
+            session.getInventory().tryReserve("1");
+            SessionSnapshot.write(file, List.of(session), journal.position());
+            journal.append(JournalRecord.create(Type.RESERVATION_CANCELLED, 0L, "1", "r1", List.of("1")));
+            journal.append(JournalRecord.create(Type.RESERVATION_CREATED, 0L, "1", "r2", List.of("2")));
+        }
+
+        SessionSnapshot snapshot = SessionSnapshot.load(file);
+        Session restored = snapshot.restore("1", location, new ReentrantLockProvider());
+        JournalRecovery recovery;
+        try (ReservationJournal journal = new ReservationJournal(directory.resolve("journal"), 4096)) {
+            recovery = JournalRecovery.replay(journal, snapshot.getJournalPosition(), id -> restored);
+        }
+
+        assertEquals(2, recovery.getAppliedRecords());
+        assertTrue(restored.isSeatAvailable("1"));
+        assertFalse(restored.isSeatAvailable("2"));
+    }
+
+    @Test
+    void shouldRejectFilesThatAreNotSnapshots() throws IOException {
+        Path file = Files.write(directory.resolve("garbage"), new byte[32]);
+
+        assertThrows(IllegalArgumentException.class, () -> SessionSnapshot.load(file));
+    }
+
+    Session createSession(String id, int capacity, Set<LocationSeat> seats) {
+        for (int i = 1; i <= capacity; i++) {
+            seats.add(LocationSeat.create(String.valueOf(i), "seat " + i, location, new ReentrantLockProvider(), true));
+        }
+        return Session.create(id, "session " + id, start, start.plusHours(2), location, seats);
+    }
+}
@@ -0,0 +1,144 @@
+package com.alps.infrastructure.ticket;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.alps.core.location.Location;
+import com.alps.core.location.LocationSeat;
+import com.alps.core.price.Price;
+import com.alps.core.reservation.Reservation;
+import com.alps.core.session.Session;
+import com.alps.core.ticket.Ticket;
+import com.alps.core.user.User;
+import com.alps.infrastructure.lock.ReentrantLockProvider;
+
+public class InMemoryTicketRepositoryTest {
+
+    private InMemoryTicketRepository ticketRepository;
+    private Location location;
+    private LocationSeat seat;
+    private User alice;
+    private User bob;
+    private Session first;
+    private Session second;
+    private Reservation reservation;
+    private LocalDate today;
+
+    @BeforeEach
+    void setup() {
+        ticketRepository = new InMemoryTicketRepository();
+        location = new Location() {
+        };
+        seat = LocationSeat.create("1", "seat", location, new ReentrantLockProvider(), true);
+        alice = User.create("1", "Alice", "alice@example.com");
+        bob = User.create("2", "Bob", "bob@example.com");
+        first = createSession("1");
+        second = createSession("2");
+        reservation = Reservation.create("r1", alice, first, Set.of(seat), LocalDateTime.now(), Duration.ofMinutes(10),
+                new ReentrantLockProvider(), null, new Price(BigDecimal.TEN));
+        today = LocalDate.of(2024, 6, 10);
+    }
+
+    @Test
+    void shouldFindTicketsByIdUserAndSession() {
+        Ticket t1 = ticketRepository.save(createTicket("t1", alice, first, today.plusDays(1)));
+        ticketRepository.save(createTicket("t2", bob, first, today.plusDays(1)));
+        ticketRepository.save(createTicket("t3", alice, second, today.plusDays(2)));
+
+        assertSame(t1, ticketRepository.findById("t1"));
+        assertEquals(Set.of("t1", "t3"), ids(ticketRepository.findByUserId("1")));
+        assertEquals(Set.of("t1", "t2"), ids(ticketRepository.findBySessionId("1")));
+        assertTrue(ticketRepository.findBySessionId("unknown").isEmpty());
+    }
+
+    @Test
+    void shouldFindAndEvictExpiredTicketsInBulk() {
+        ticketRepository.save(createTicket("t1", alice, first, today.minusDays(3)));
+        ticketRepository.save(createTicket("t2", bob, first, today));
+        ticketRepository.save(createTicket("t3", alice, second, today.plusDays(1)));
+
+        assertEquals(Set.of("t1", "t2"), ids(ticketRepository.findExpired(today)));
+        assertEquals(2, ticketRepository.deleteExpired(today));
+
+        assertNull(ticketRepository.findById("t1"));
+        assertNull(ticketRepository.findById("t2"));
+        assertEquals(Set.of("t3"), ids(ticketRepository.findByUserId("1")));
+        assertTrue(ticketRepository.findBySessionId("1").isEmpty());
+        assertTrue(ticketRepository.findExpired(today).isEmpty());
+        assertEquals(0, ticketRepository.deleteExpired(today));
+    }
+
+    @Test
+    void shouldReindexTicketReplacedWithNewValidity() {
+        ticketRepository.save(createTicket("t1", alice, first, today.minusDays(1)));
+        ticketRepository.save(createTicket("t1", alice, first, today.plusDays(5)));
+
+        assertTrue(ticketRepository.findExpired(today).isEmpty());
+        assertEquals(0, ticketRepository.deleteExpired(today));
+        assertEquals(Set.of("t1"), ids(ticketRepository.findBySessionId("1")));
+    }
+
+    @Test
+    void shouldDeleteTicket() {
+        ticketRepository.save(createTicket("t1", alice, first, today));
+        ticketRepository.delete("t1");
+
+        assertNull(ticketRepository.findById("t1"));
+        assertTrue(ticketRepository.findByUserId("1").isEmpty());
+        assertTrue(ticketRepository.findExpired(today).isEmpty());
+    }
+
+    @Test
+    void shouldHandleConcurrentOperations() throws Exception {
+        ExecutorService executorService = Executors.newFixedThreadPool(4);
+        Future<?>[] futures = new Future<?>[4];
+        for (int t = 0; t < futures.length; t++) {
+            int thread = t;
+            futures[t] = executorService.submit(() -> {
+                for (int i = 0; i < 250; i++) {
+                    LocalDate validUntil = today.plusDays(i % 4 - 1);
+                    ticketRepository.save(createTicket(thread + "-" + i, thread % 2 == 0 ? alice : bob, first,
+                            validUntil));
+                }
+            });
+        }
+        for (Future<?> future : futures) {
+            future.get();
+        }
+        executorService.shutdown();
+
+        assertEquals(1000, ticketRepository.findBySessionId("1").size());
+        assertEquals(504, ticketRepository.deleteExpired(today));
+        assertEquals(496, ticketRepository.findBySessionId("1").size());
+    }
+
+    private Ticket createTicket(String id, User user, Session session, LocalDate validUntil) {
+        return Ticket.create(id, user, seat, session, reservation, new Price(BigDecimal.TEN), validUntil, false);
+    }
+
+    private Session createSession(String id) {
+        return Session.create(id, "session " + id, LocalDateTime.now(), LocalDateTime.now().plusHours(2), location,
+                new LinkedHashSet<>());
+    }
+
+    private static Set<String> ids(List<Ticket> tickets) {
+        return tickets.stream().map(Ticket::getTicketId).collect(Collectors.toSet());
+    }
+}